@@ -1,4 +1,5 @@
 plugins {
+    `java-test-fixtures`
     id("org.jetbrains.dokka")
     kotlin("jvm")
 }
@@ -6,8 +7,15 @@ plugins {
 dependencies {
     implementation("org.bukkit:bukkit:1.8-R0.1-SNAPSHOT")
     implementation("org.jetbrains.kotlin:kotlin-stdlib:1.7.0")
+    testFixturesImplementation("org.bukkit:bukkit:1.8-R0.1-SNAPSHOT")
+    testFixturesApi("org.junit.jupiter:junit-jupiter-api:5.8.2")
 }
 
+// Test fixtures hold the NBT conformance suite for the version modules, they are not published.
+val javaComponent = components["java"] as AdhocComponentWithVariants
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesApiElements"]) { skip() }
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesRuntimeElements"]) { skip() }
+
 val libraryName = "hikari-library"
 
 tasks.jar {
@@ -26,7 +34,7 @@ tasks.dokkaJavadoc.configure {
         }
 
         removeIf {
-            name == "test"
+            name == "test" || name == "testFixtures"
         }
     }
 }
@@ -73,7 +73,7 @@ public final class I18n {
             if(defaultMessages.get(key) == null) return key;
             else value = getValue(defaultMessages, key);
         } else value = getValue(messages, key);
-        return Strings.color(Strings.fillPlaceholders(value, pairs));
+        return Strings.fillPlaceholders(value, pairs);
     }
 
 }
@@ -0,0 +1,255 @@
+package dev.hawu.plugins.api;
+
+import dev.hawu.plugins.api.collections.Cache;
+import dev.hawu.plugins.api.collections.tuples.Pair;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Represents a message that has been parsed once into literal text
+ * and {@code %placeholder%} tokens, so it can be filled in a single pass.
+ * <p>
+ * When filling by name, any run between two {@code %} that equals one of the
+ * provided names is a placeholder, whatever characters the name contains, such
+ * as {@code %vault:balance%}. A {@code %} that does not close a provided name
+ * may open the next one, so in {@code 100%,%amount%} only {@code amount} is filled.
+ * <p>
+ * {@link #getPlaceholders()} and {@link #fillIndexed(Object...)} only recognize
+ * non-empty runs of letters, digits, {@code _}, {@code .} and {@code -}, as they
+ * have no names to match against. Placeholders that are not given a value are
+ * written back as they were.
+ * <p>
+ * Unlike repeated {@link String#replace(CharSequence, CharSequence)} calls, values
+ * are never scanned for further placeholders.
+ *
+ * @since 1.7
+ */
+public final class PlaceholderTemplate {
+
+    private static final int ESTIMATED_VALUE_LENGTH = 16;
+    private static final Cache<String, PlaceholderTemplate> CACHE = Cache.<String, PlaceholderTemplate>builder()
+        .maximumSize(2048)
+        .build(PlaceholderTemplate::new);
+
+    private final String source;
+    private final int[] signs; // the index of every % in the source
+    private final String[] literals; // literals[i] comes before names[i], one more literal than names
+    private final String[] names;
+    private final List<String> placeholders;
+    private final int literalLength;
+
+    private PlaceholderTemplate(final @NotNull String source) {
+        this.source = source;
+        this.signs = IntStream.range(0, source.length()).filter(i -> source.charAt(i) == '%').toArray();
+        final List<String> literals = new ArrayList<>();
+        final List<String> names = new ArrayList<>();
+
+        int literalStart = 0;
+        int open = source.indexOf('%');
+        while(open >= 0) {
+            final int close = source.indexOf('%', open + 1);
+            if(close < 0) break;
+
+            if(isName(source, open + 1, close)) {
+                literals.add(source.substring(literalStart, open));
+                names.add(source.substring(open + 1, close));
+                literalStart = close + 1;
+                open = source.indexOf('%', literalStart);
+            } else open = close; // The closing sign may open the next placeholder.
+        }
+        literals.add(source.substring(literalStart));
+
+        this.literals = literals.toArray(new String[0]);
+        this.names = names.toArray(new String[0]);
+        this.placeholders = Collections.unmodifiableList(new ArrayList<>(new LinkedHashSet<>(names)));
+        this.literalLength = source.length() - names.stream().mapToInt(name -> name.length() + 2).sum();
+    }
+
+    private static boolean isName(final @NotNull String s, final int from, final int to) {
+        if(from >= to) return false;
+        for(int i = from; i < to; i++) {
+            if(!isNameChar(s.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean isNameChar(final char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == '.' || c == '-';
+    }
+
+    /**
+     * Retrieves the compiled template for the message, parsing it
+     * only if it has not been seen recently.
+     *
+     * @param message the message to compile
+     * @return the compiled template
+     * @since 1.7
+     */
+    @NotNull
+    public static PlaceholderTemplate compile(final @NotNull String message) {
+        return Objects.requireNonNull(CACHE.get(message));
+    }
+
+    /**
+     * Retrieves the original message this template was compiled from.
+     *
+     * @return the original message
+     * @since 1.7
+     */
+    @NotNull
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Retrieves the distinct placeholder names in this template, in
+     * order of first appearance.
+     *
+     * @return the placeholder names, without the surrounding signs
+     * @since 1.7
+     */
+    @NotNull
+    @UnmodifiableView
+    public List<@NotNull String> getPlaceholders() {
+        return placeholders;
+    }
+
+    /**
+     * Checks if this template has any placeholders recognized by {@link #getPlaceholders()}.
+     * Names with other characters may still be filled by name.
+     *
+     * @return true if there is at least one recognized placeholder
+     * @since 1.7
+     */
+    public boolean hasPlaceholders() {
+        return names.length > 0;
+    }
+
+    /**
+     * Fills the placeholders with the values bound to their names
+     * in the map.
+     *
+     * @param values the values by placeholder name
+     * @return the filled message
+     * @since 1.7
+     */
+    @NotNull
+    public String fill(final @NotNull Map<String, ?> values) {
+        if(signs.length < 2 || values.isEmpty()) return source;
+        StringBuilder builder = null;
+        int literalStart = 0;
+        int sign = 0;
+        while(sign + 1 < signs.length) {
+            final int open = signs[sign];
+            final int close = signs[sign + 1];
+            final String name = source.substring(open + 1, close);
+            if(!values.containsKey(name)) {
+                sign++; // The closing sign may open the next placeholder.
+                continue;
+            }
+
+            if(builder == null) builder = newBuilder();
+            builder.append(source, literalStart, open).append(values.get(name));
+            literalStart = close + 1;
+            sign += 2;
+        }
+        return builder != null ? builder.append(source, literalStart, source.length()).toString() : source;
+    }
+
+    /**
+     * Fills the placeholders with pairs of names and values, in the same
+     * manner as {@link Strings#fillPlaceholders(String, Pair[])} but
+     * without colorizing. The first pair with a matching name is used.
+     *
+     * @param params the pairs of placeholder names and values
+     * @return the filled message
+     * @since 1.7
+     */
+    @NotNull
+    public String fill(final @NotNull Pair<?, ?> @NotNull ... params) {
+        if(signs.length < 2 || params.length == 0) return source;
+        final String[] keys = new String[params.length];
+        for(int i = 0; i < params.length; i++) {
+            final Object key = params[i].getFirstOrNull();
+            if(key != null) keys[i] = key.toString();
+        }
+
+        StringBuilder builder = null;
+        int literalStart = 0;
+        int sign = 0;
+        while(sign + 1 < signs.length) {
+            final int open = signs[sign];
+            final int close = signs[sign + 1];
+            final int index = find(keys, open + 1, close);
+            if(index < 0) {
+                sign++; // The closing sign may open the next placeholder.
+                continue;
+            }
+
+            if(builder == null) builder = newBuilder();
+            builder.append(source, literalStart, open).append(params[index].getSecondOrNull());
+            literalStart = close + 1;
+            sign += 2;
+        }
+        return builder != null ? builder.append(source, literalStart, source.length()).toString() : source;
+    }
+
+    /**
+     * Fills the placeholders by position, where the value at index {@code i}
+     * replaces the placeholder at index {@code i} of {@link #getPlaceholders()}.
+     * Placeholders without a corresponding value are left as they were.
+     *
+     * @param values the values in order of {@link #getPlaceholders()}
+     * @return the filled message
+     * @since 1.7
+     */
+    @NotNull
+    public String fillIndexed(final @Nullable Object @NotNull ... values) {
+        if(names.length == 0) return source;
+        final StringBuilder builder = newBuilder();
+        for(int i = 0; i < names.length; i++) {
+            builder.append(literals[i]);
+            final int index = indexOf(names[i]);
+            if(index < values.length) builder.append(values[index]);
+            else appendUnresolved(builder, names[i]);
+        }
+        return builder.append(literals[names.length]).toString();
+    }
+
+    private int indexOf(final @NotNull String name) {
+        for(int i = 0; i < placeholders.size(); i++) {
+            if(placeholders.get(i).equals(name)) return i;
+        }
+        return -1;
+    }
+
+    // Finds the first key equal to the source between from and to, without copying that part of the source.
+    private int find(final @Nullable String @NotNull [] keys, final int from, final int to) {
+        final int length = to - from;
+        for(int i = 0; i < keys.length; i++) {
+            final String key = keys[i];
+            if(key != null && key.length() == length && source.regionMatches(from, key, 0, length)) return i;
+        }
+        return -1;
+    }
+
+    @NotNull
+    private StringBuilder newBuilder() {
+        return new StringBuilder(literalLength + names.length * ESTIMATED_VALUE_LENGTH);
+    }
+
+    private static void appendUnresolved(final @NotNull StringBuilder builder, final @NotNull String name) {
+        builder.append('%').append(name).append('%');
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return source;
+    }
+
+}
@@ -1,5 +1,6 @@
 package dev.hawu.plugins.api;
 
+import dev.hawu.plugins.api.collections.Cache;
 import dev.hawu.plugins.api.collections.Property;
 import dev.hawu.plugins.api.collections.tuples.Pair;
 import jdk.vm.ci.meta.Value;
@@ -18,6 +19,10 @@ import java.util.*;
 public final class Strings {
 
     private static final DecimalFormat formatter = new DecimalFormat("#,###.##");
+    private static final int MAX_CACHED_COLOR_LENGTH = 256;
+    private static final Cache<String, String> colorCache = Cache.<String, String>builder()
+        .maximumSize(2048)
+        .build(s -> ChatColor.translateAlternateColorCodes('&', s));
 
     private Strings() {}
 
@@ -27,6 +32,12 @@ public final class Strings {
      * <p>
      * This converts {@code &} to color symbols only if it precedes
      * a character that codes a color.
+     * <p>
+     * Strings without {@code &} are returned as they are, and short strings
+     * are remembered so repeatedly colored constants are only translated once.
+     * Strings that are unlikely to repeat, such as messages with filled in
+     * placeholders, should go through {@link #colorUncached(String)} instead so
+     * they do not push the constants out.
      *
      * @param s The string to convert.
      * @return {@code "null"} if {@code s} was null, a colorized {@link String} otherwise.
@@ -35,7 +46,23 @@ public final class Strings {
     @NotNull
     public static String color(@Nullable final String s) {
         if(s == null) return "null";
-        else return ChatColor.translateAlternateColorCodes('&', s);
+        else if(s.indexOf('&') < 0) return s;
+        else if(s.length() > MAX_CACHED_COLOR_LENGTH) return ChatColor.translateAlternateColorCodes('&', s);
+        else return Objects.requireNonNull(colorCache.get(s));
+    }
+
+    /**
+     * Colorizes a {@link String} like {@link #color(String)}, but without
+     * remembering the result, for strings that are unlikely to be colored again.
+     *
+     * @param s The string to convert.
+     * @return {@code "null"} if {@code s} was null, a colorized {@link String} otherwise.
+     * @since 1.7
+     */
+    @NotNull
+    public static String colorUncached(@Nullable final String s) {
+        if(s == null) return "null";
+        return s.indexOf('&') < 0 ? s : ChatColor.translateAlternateColorCodes('&', s);
     }
 
     /**
@@ -237,7 +264,11 @@ public final class Strings {
      * being non-null, and the second being nullable.
      * <p>
      * For a pair with {@code first=placeholder} and {@code second=value}, all occurrences of
-     * {@code %placeholder%} with be replaced with {@code value}.
+     * {@code %placeholder%} with be replaced with {@code value}. A {@code %} that does not
+     * close a provided placeholder is kept as literal text, and may open the next one.
+     * <p>
+     * The message is compiled into a {@link PlaceholderTemplate} once and cached, so
+     * repeated calls with the same message do not re-scan it for every parameter.
      *
      * @param message The message to fill.
      * @param params  The parameters to fill with.
@@ -246,12 +277,8 @@ public final class Strings {
      */
     @NotNull
     public static String fillPlaceholders(@NotNull final String message, @NotNull final Pair<?, ?> @NotNull ... params) {
-        String curr = message;
-        for(Pair<?, ?> param : params) {
-            if(param.getFirstOption().orElse(null) == null) continue;
-            curr = curr.replace("%" + param.getFirst() + "%", param.getSecondOption().orElse(null) == null ? "null" : param.getSecond().toString());
-        }
-        return color(curr);
+        if(params.length == 0 || message.indexOf('%') < 0) return color(message);
+        return colorUncached(PlaceholderTemplate.compile(message).fill(params));
     }
 
 }
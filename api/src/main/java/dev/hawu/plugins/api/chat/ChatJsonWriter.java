@@ -0,0 +1,212 @@
+package dev.hawu.plugins.api.chat;
+
+import dev.hawu.plugins.api.reflect.MinecraftVersion;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Writes chat components as JSON in a single pass, escaping strings as they
+ * are written. Each thread reuses one writer and its buffer, and buffers that
+ * grew past {@link #MAX_RETAINED_CAPACITY} are dropped after use.
+ *
+ * @since 1.7
+ */
+final class ChatJsonWriter {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 1 << 14;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<ChatJsonWriter> WRITERS = ThreadLocal.withInitial(ChatJsonWriter::new);
+
+    private StringBuilder builder = new StringBuilder(INITIAL_CAPACITY);
+    private boolean first = true;
+    private boolean afterName;
+    private boolean inUse;
+    private Boolean hoverContents;
+
+    private ChatJsonWriter() {}
+
+    /**
+     * Retrieves this thread's writer, or a new one if it is already in use.
+     *
+     * @return An empty writer, which must be given back through {@link #release()}
+     * in a {@code finally} block, so that a failed write does not keep it in use.
+     */
+    @NotNull
+    static ChatJsonWriter acquire() {
+        final ChatJsonWriter shared = WRITERS.get();
+        final ChatJsonWriter writer = shared.inUse ? new ChatJsonWriter() : shared;
+        writer.inUse = true;
+        return writer;
+    }
+
+    /**
+     * Retrieves the JSON written so far.
+     *
+     * @return The JSON.
+     */
+    @NotNull
+    String toJson() {
+        return builder.toString();
+    }
+
+    /**
+     * Resets this writer and gives it back for the next use, whether or
+     * not the write succeeded.
+     */
+    void release() {
+        if(builder.capacity() > MAX_RETAINED_CAPACITY) builder = new StringBuilder(INITIAL_CAPACITY);
+        else builder.setLength(0);
+        first = true;
+        afterName = false;
+        hoverContents = null;
+        inUse = false;
+    }
+
+    /**
+     * Sets whether hover events are written with {@code contents}, as on 1.16 and
+     * later, instead of {@code value}. Otherwise, it follows the server's version.
+     *
+     * @param hoverContents Whether to write contents.
+     * @return The same writer.
+     */
+    @NotNull
+    ChatJsonWriter hoverContents(final boolean hoverContents) {
+        this.hoverContents = hoverContents;
+        return this;
+    }
+
+    boolean isHoverContents() {
+        if(hoverContents == null) hoverContents = MinecraftVersion.getCurrent().isAtLeast(MinecraftVersion.v1_16_R1);
+        return hoverContents;
+    }
+
+    private void beforeValue() {
+        if(afterName) afterName = false;
+        else if(!first) builder.append(',');
+        first = false;
+    }
+
+    @NotNull
+    ChatJsonWriter beginObject() {
+        beforeValue();
+        builder.append('{');
+        first = true;
+        return this;
+    }
+
+    @NotNull
+    ChatJsonWriter endObject() {
+        builder.append('}');
+        first = false;
+        return this;
+    }
+
+    @NotNull
+    ChatJsonWriter beginArray() {
+        beforeValue();
+        builder.append('[');
+        first = true;
+        return this;
+    }
+
+    @NotNull
+    ChatJsonWriter endArray() {
+        builder.append(']');
+        first = false;
+        return this;
+    }
+
+    /**
+     * Writes the name of the next member, which is not escaped and
+     * so must be one of the constant keys of the format.
+     *
+     * @param name The name.
+     * @return The same writer.
+     */
+    @NotNull
+    ChatJsonWriter name(final @NotNull String name) {
+        if(!first) builder.append(',');
+        builder.append('"').append(name).append("\":");
+        first = false;
+        afterName = true;
+        return this;
+    }
+
+    @NotNull
+    ChatJsonWriter value(final boolean value) {
+        beforeValue();
+        builder.append(value);
+        return this;
+    }
+
+    @NotNull
+    ChatJsonWriter value(final @NotNull String value) {
+        beforeValue();
+        builder.append('"');
+
+        // Copy unescaped runs in bulk, only breaking for characters that need escaping.
+        int start = 0;
+        final int length = value.length();
+        for(int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if(c >= 0x20 && c != '"' && c != '\\' && c != '\u2028' && c != '\u2029') continue;
+
+            builder.append(value, start, i);
+            start = i + 1;
+            switch(c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\b':
+                    builder.append("\\b");
+                    break;
+                case '\f':
+                    builder.append("\\f");
+                    break;
+                default:
+                    builder.append("\\u").append(HEX[c >> 12 & 0xF]).append(HEX[c >> 8 & 0xF]).append(HEX[c >> 4 & 0xF]).append(HEX[c & 0xF]);
+                    break;
+            }
+        }
+
+        builder.append(value, start, length).append('"');
+        return this;
+    }
+
+    /**
+     * Writes a member if the value is not null.
+     *
+     * @param name  The name of the member.
+     * @param value The value, may be null.
+     * @return The same writer.
+     */
+    @NotNull
+    ChatJsonWriter member(final @NotNull String name, final String value) {
+        return value != null ? name(name).value(value) : this;
+    }
+
+    /**
+     * Writes a member if the option does not inherit from the parent.
+     *
+     * @param name   The name of the member.
+     * @param option The formatting option.
+     * @return The same writer.
+     */
+    @NotNull
+    ChatJsonWriter member(final @NotNull String name, final @NotNull TextFormattingOption option) {
+        return option != TextFormattingOption.INHERIT ? name(name).value(option == TextFormattingOption.TRUE) : this;
+    }
+
+}
@@ -1,11 +1,13 @@
 package dev.hawu.plugins.api.chat;
 
+import dev.hawu.plugins.api.collections.LazyReference;
 import dev.hawu.plugins.api.exceptions.AlreadyInitializedException;
 import dev.hawu.plugins.api.reflect.MinecraftVersion;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * The adapter for sending customized
@@ -15,7 +17,7 @@ import java.util.Objects;
  */
 public abstract class ChatPacketAdapter {
 
-    private static ChatPacketAdapter adapter;
+    private static volatile LazyReference<ChatPacketAdapter> adapter;
 
     /**
      * Sends a text component to the player.
@@ -51,6 +53,28 @@ public abstract class ChatPacketAdapter {
      */
     public abstract void sendAll(final @NotNull String message);
 
+    /**
+     * Prepares a text component to be sent to many players, or many times.
+     * Implementations should override this to serialize the component only once.
+     * <p>
+     * The message is taken from a copy of the component, so changing the
+     * component afterwards does not change the prepared message.
+     *
+     * @param component The component to prepare.
+     * @return The prepared message.
+     * @since 1.7
+     */
+    @NotNull
+    public PreparedMessage prepare(final @NotNull TextComponent component) {
+        final TextComponent snapshot = component.copy();
+        return new PreparedMessage() {
+            @Override
+            public void send(final @NotNull Player player) {
+                sendPlayer(player, snapshot);
+            }
+        };
+    }
+
     /**
      * Retrieves the set adapter instance.
      *
@@ -59,7 +83,7 @@ public abstract class ChatPacketAdapter {
      */
     @NotNull
     public static ChatPacketAdapter getAdapter() {
-        return Objects.requireNonNull(adapter, "ChatPacketAdapter is not yet initialized.");
+        return Objects.requireNonNull(adapter, "ChatPacketAdapter is not yet initialized.").get();
     }
 
     /**
@@ -70,7 +94,19 @@ public abstract class ChatPacketAdapter {
      */
     public static void setAdapter(final @NotNull ChatPacketAdapter packetAdapter) {
         if(adapter != null) throw new AlreadyInitializedException("ChatPacketAdapter is already initialized.");
-        adapter = packetAdapter;
+        adapter = LazyReference.of(packetAdapter);
+    }
+
+    /**
+     * Sets the adapter instance for chat packets, which is only created
+     * the first time it is retrieved.
+     *
+     * @param supplier The supplier of the adapter instance.
+     * @since 1.7
+     */
+    public static void setAdapter(final @NotNull Supplier<? extends @NotNull ChatPacketAdapter> supplier) {
+        if(adapter != null) throw new AlreadyInitializedException("ChatPacketAdapter is already initialized.");
+        adapter = LazyReference.of(supplier::get);
     }
 
     /**
@@ -88,7 +124,7 @@ public abstract class ChatPacketAdapter {
         if(adapter != null) return;
 
         try {
-            adapter = (ChatPacketAdapter) Class.forName("dev.hawu.plugins.api." + MinecraftVersion.getCurrent() + ".SimpleChatRegistry").newInstance();
+            adapter = LazyReference.of((ChatPacketAdapter) Class.forName("dev.hawu.plugins.api." + MinecraftVersion.getCurrent() + ".SimpleChatRegistry").newInstance());
         } catch(final Exception e) {
             e.printStackTrace();
         }
@@ -0,0 +1,190 @@
+package dev.hawu.plugins.api.chat;
+
+import dev.hawu.plugins.api.collections.Cache;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Utility class for compiling legacy formatted text, with codes
+ * prefixed by {@code &} or {@code §}, into {@link TextComponent}s.
+ * <p>
+ * Text is compiled in a single pass, and runs of text that end up with the
+ * same formatting are merged into one part, so codes that change nothing do
+ * not bloat the JSON. A color code resets the formatting, as in vanilla.
+ * Hex colors are read as {@code &#rrggbb} or {@code &x&r&r&g&g&b&b}.
+ * <p>
+ * Compiled parts are cached by the input text, so compiling the same
+ * translated message again costs a lookup and a list copy.
+ *
+ * @since 1.7
+ */
+public final class LegacyText {
+
+    private static final String[] COLORS = {
+        "black", "dark_blue", "dark_green", "dark_aqua", "dark_red", "dark_purple", "gold", "gray",
+        "dark_gray", "blue", "green", "aqua", "red", "light_purple", "yellow", "white"
+    };
+    private static final int BOLD = 1;
+    private static final int ITALIC = 1 << 1;
+    private static final int UNDERLINED = 1 << 2;
+    private static final int STRIKETHROUGH = 1 << 3;
+    private static final int OBFUSCATED = 1 << 4;
+
+    private static final Cache<String, List<TextComponentPart>> CACHE = Cache.<String, List<TextComponentPart>>builder()
+        .maximumSize(1024)
+        .build(LegacyText::parse);
+
+    private LegacyText() {}
+
+    /**
+     * Compiles the legacy formatted text into a new text component.
+     *
+     * @param text The text to compile.
+     * @return The component, which the caller is free to modify.
+     * @since 1.7
+     */
+    @NotNull
+    public static TextComponent compile(final @NotNull String text) {
+        return new TextComponent(new ArrayList<>(CACHE.get(text)));
+    }
+
+    private static boolean isCodePrefix(final char c) {
+        return c == '&' || c == '§';
+    }
+
+    private static int hexValue(final char c) {
+        return Character.digit(c, 16);
+    }
+
+    // Reads a hex color written as #rrggbb or x&r&r&g&g&b&b starting at the index, or returns null.
+    @Nullable
+    private static String readHexColor(final @NotNull String text, final int index) {
+        final char marker = Character.toLowerCase(text.charAt(index));
+        final StringBuilder color = new StringBuilder(7).append('#');
+        if(marker == '#') {
+            if(index + 6 >= text.length()) return null;
+            for(int i = index + 1; i <= index + 6; i++) {
+                if(hexValue(text.charAt(i)) < 0) return null;
+                color.append(Character.toLowerCase(text.charAt(i)));
+            }
+            return color.toString();
+        } else if(marker == 'x') {
+            if(index + 12 >= text.length()) return null;
+            for(int i = index + 1; i <= index + 11; i += 2) {
+                if(!isCodePrefix(text.charAt(i)) || hexValue(text.charAt(i + 1)) < 0) return null;
+                color.append(Character.toLowerCase(text.charAt(i + 1)));
+            }
+            return color.toString();
+        }
+        return null;
+    }
+
+    @NotNull
+    private static List<TextComponentPart> parse(final @NotNull String text) {
+        final Compiler compiler = new Compiler();
+        int i = 0;
+        while(i < text.length()) {
+            final char c = text.charAt(i);
+            if(!isCodePrefix(c) || i + 1 >= text.length()) {
+                compiler.append(c);
+                i++;
+                continue;
+            }
+
+            final char code = Character.toLowerCase(text.charAt(i + 1));
+            final int colorIndex = code <= 'f' ? hexValue(code) : -1;
+            final String hexColor = colorIndex < 0 ? readHexColor(text, i + 1) : null;
+            if(colorIndex >= 0 || hexColor != null) {
+                compiler.color = colorIndex >= 0 ? COLORS[colorIndex] : hexColor;
+                compiler.flags = 0;
+                i += colorIndex >= 0 ? 2 : code == 'x' ? 14 : 8;
+                continue;
+            }
+
+            switch(code) {
+                case 'k':
+                    compiler.flags |= OBFUSCATED;
+                    break;
+                case 'l':
+                    compiler.flags |= BOLD;
+                    break;
+                case 'm':
+                    compiler.flags |= STRIKETHROUGH;
+                    break;
+                case 'n':
+                    compiler.flags |= UNDERLINED;
+                    break;
+                case 'o':
+                    compiler.flags |= ITALIC;
+                    break;
+                case 'r':
+                    compiler.color = null;
+                    compiler.flags = 0;
+                    break;
+                default:
+                    // Not a code, so the prefix is kept as text.
+                    compiler.append(c);
+                    i++;
+                    continue;
+            }
+            i += 2;
+        }
+        return compiler.finish();
+    }
+
+    @NotNull
+    private static TextComponentPart createPart(final @NotNull String text, final @Nullable String color, final int flags) {
+        return TextComponentPartBuilder.newBuilder()
+            .setText(text)
+            .setColor(color)
+            .setBold(option(flags, BOLD))
+            .setItalic(option(flags, ITALIC))
+            .setUnderlined(option(flags, UNDERLINED))
+            .setStrikethrough(option(flags, STRIKETHROUGH))
+            .setObfuscated(option(flags, OBFUSCATED))
+            .build();
+    }
+
+    @NotNull
+    private static TextFormattingOption option(final int flags, final int flag) {
+        return (flags & flag) != 0 ? TextFormattingOption.TRUE : TextFormattingOption.INHERIT;
+    }
+
+    // Accumulates text while its formatting stays the same, starting a new part when it changes.
+    private static final class Compiler {
+
+        private final List<TextComponentPart> parts = new ArrayList<>();
+        private final StringBuilder run = new StringBuilder();
+        private String runColor;
+        private int runFlags;
+        private String color;
+        private int flags;
+
+        private void append(final char c) {
+            if(run.length() > 0 && (runFlags != flags || !Objects.equals(runColor, color))) flush();
+            if(run.length() == 0) {
+                runColor = color;
+                runFlags = flags;
+            }
+            run.append(c);
+        }
+
+        private void flush() {
+            parts.add(createPart(run.toString(), runColor, runFlags));
+            run.setLength(0);
+        }
+
+        @NotNull
+        private List<TextComponentPart> finish() {
+            if(run.length() > 0) flush();
+            return Collections.unmodifiableList(parts);
+        }
+
+    }
+
+}
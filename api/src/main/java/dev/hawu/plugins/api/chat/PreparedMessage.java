@@ -0,0 +1,48 @@
+package dev.hawu.plugins.api.chat;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * Represents a chat message that has been serialized and parsed by the
+ * server ahead of time, so that sending it to many players, or many times,
+ * does not repeat the work.
+ * <p>
+ * Prepared messages are immutable and are created with
+ * {@link ChatPacketAdapter#prepare(TextComponent)}.
+ *
+ * @since 1.7
+ */
+public abstract class PreparedMessage {
+
+    /**
+     * Sends the message to a player.
+     *
+     * @param player The player to send to.
+     * @since 1.7
+     */
+    public abstract void send(final @NotNull Player player);
+
+    /**
+     * Sends the message to the players.
+     *
+     * @param players The players to send to.
+     * @since 1.7
+     */
+    public void send(final @NotNull Collection<? extends @NotNull Player> players) {
+        for(final Player player : players) send(player);
+    }
+
+    /**
+     * Sends the message to all online players.
+     *
+     * @since 1.7
+     */
+    public void sendAll() {
+        send(Bukkit.getOnlinePlayers());
+    }
+
+}
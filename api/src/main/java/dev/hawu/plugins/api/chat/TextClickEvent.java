@@ -24,6 +24,13 @@ public final class TextClickEvent {
         this.value = value;
     }
 
+    void writeTo(final @NotNull ChatJsonWriter writer) {
+        writer.name("clickEvent").beginObject()
+            .name("action").value(action.name().toLowerCase())
+            .name("value").value(value)
+            .endObject();
+    }
+
     /**
      * Retrieves the JSON String representation of this event.
      *
@@ -33,7 +40,13 @@ public final class TextClickEvent {
     @Override
     @NotNull
     public String toString() {
-        return "\"clickEvent\":{\"action\":\"" + action.name().toLowerCase() + "\",\"value\":\"" + value + "\"}";
+        final ChatJsonWriter writer = ChatJsonWriter.acquire();
+        try {
+            writeTo(writer);
+            return writer.toJson();
+        } finally {
+            writer.release();
+        }
     }
 
 }
@@ -4,7 +4,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.StringJoiner;
 import java.util.function.Consumer;
 
 /**
@@ -36,6 +35,20 @@ public final class TextComponent {
         this.list = list;
     }
 
+    /**
+     * Creates a component of plain text, which is escaped when serialized.
+     *
+     * @param text The text.
+     * @return The new component.
+     * @since 1.7
+     */
+    @NotNull
+    public static TextComponent of(final @NotNull String text) {
+        final TextComponent component = new TextComponent();
+        component.add(TextComponentPartBuilder.newBuilder().setText(text).build());
+        return component;
+    }
+
     /**
      * Adds a component part to the list.
      *
@@ -58,11 +71,36 @@ public final class TextComponent {
         this.list.add(partBuilder.build());
     }
 
+    // Copies the parts, so later changes to this component or its parts' extras are not seen.
+    @NotNull
+    TextComponent copy() {
+        final List<TextComponentPart> copies = new ArrayList<>(list.size());
+        for(final TextComponentPart part : list) copies.add(part.copy());
+        return new TextComponent(copies);
+    }
+
+    void writeTo(final @NotNull ChatJsonWriter writer) {
+        writer.beginArray().value("");
+        for(final TextComponentPart part : list) part.writeTo(writer);
+        writer.endArray();
+    }
+
+    /**
+     * Serializes this component into a JSON array using
+     * Minecraft's specification.
+     *
+     * @return Said string.
+     * @since 1.5
+     */
     @Override
     public String toString() {
-        final StringJoiner joiner = new StringJoiner(",", list.isEmpty() ? "[\"\"" : "[\"\",", "]");
-        list.stream().map(TextComponentPart::toString).forEach(joiner::add);
-        return joiner.toString();
+        final ChatJsonWriter writer = ChatJsonWriter.acquire();
+        try {
+            writeTo(writer);
+            return writer.toJson();
+        } finally {
+            writer.release();
+        }
     }
 
 }
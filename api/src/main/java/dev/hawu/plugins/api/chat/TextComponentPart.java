@@ -3,8 +3,8 @@ package dev.hawu.plugins.api.chat;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.StringJoiner;
 
 /**
  * Represents a text component part that can be hovered
@@ -65,14 +65,34 @@ public final class TextComponentPart {
         this.hoverEvent = hoverEvent;
     }
 
-    private void addFormatting(final String field, final TextFormattingOption option, final StringBuilder builder) {
-        if(option != TextFormattingOption.INHERIT)
-            builder.append(",\"").append(field).append("\":\"").append(option.name().toLowerCase()).append("\"");
+    // Copies this part along with its extras, which may be lists the caller still holds.
+    @NotNull
+    TextComponentPart copy() {
+        final List<TextComponentPart> copies = new ArrayList<>(extras.size());
+        for(final TextComponentPart extra : extras) copies.add(extra.copy());
+        return new TextComponentPart(text, copies, color, font, bold, italic, underlined, strikethrough, obfuscated, insertion, clickEvent, hoverEvent);
     }
 
-    private void addNotNull(final String field, final String value, final StringBuilder builder) {
-        if(value != null)
-            builder.append(",\"").append(field).append("\":\"").append(value).append("\"");
+    void writeTo(final @NotNull ChatJsonWriter writer) {
+        writer.beginObject()
+            .name("text").value(text)
+            .member("color", color)
+            .member("bold", bold)
+            .member("italic", italic)
+            .member("underlined", underlined)
+            .member("strikethrough", strikethrough)
+            .member("obfuscated", obfuscated)
+            .member("font", font)
+            .member("insertion", insertion);
+
+        if(clickEvent != null) clickEvent.writeTo(writer);
+        if(hoverEvent != null) hoverEvent.writeTo(writer);
+        if(!extras.isEmpty()) {
+            writer.name("extra").beginArray();
+            for(final TextComponentPart extra : extras) extra.writeTo(writer);
+            writer.endArray();
+        }
+        writer.endObject();
     }
 
     /**
@@ -84,28 +104,13 @@ public final class TextComponentPart {
      */
     @Override
     public String toString() {
-        final StringBuilder sb = new StringBuilder();
-        sb.append("{\"text\":\"").append(text).append("\"");
-
-        addNotNull("color", color, sb);
-        addFormatting("bold", bold, sb);
-        addFormatting("italic", italic, sb);
-        addFormatting("underlined", underlined, sb);
-        addFormatting("strikethrough", strikethrough, sb);
-        addFormatting("obfuscated", obfuscated, sb);
-
-        addNotNull("font", font, sb);
-        addNotNull("insertion", insertion, sb);
-        if(clickEvent != null) sb.append(",").append(clickEvent);
-        if(hoverEvent != null) sb.append(",").append(hoverEvent);
-        if(extras.size() >= 1) {
-            sb.append("\"extras\":[");
-            final StringJoiner joiner = new StringJoiner(",");
-            extras.stream().map(TextComponentPart::toString).forEach(joiner::add);
-            sb.append(joiner).append("]");
+        final ChatJsonWriter writer = ChatJsonWriter.acquire();
+        try {
+            writeTo(writer);
+            return writer.toJson();
+        } finally {
+            writer.release();
         }
-
-        return sb.append("}").toString();
     }
 
 }
@@ -1,6 +1,5 @@
 package dev.hawu.plugins.api.chat;
 
-import dev.hawu.plugins.api.reflect.MinecraftVersion;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -26,6 +25,13 @@ public final class TextHoverEvent {
         this.text = value;
     }
 
+    void writeTo(final @NotNull ChatJsonWriter writer) {
+        writer.name("hoverEvent").beginObject()
+            .name("action").value(action.name().toLowerCase())
+            .name(writer.isHoverContents() ? "contents" : "value").value(text)
+            .endObject();
+    }
+
     /**
      * Retrieves the JSON representation as a string.
      *
@@ -35,9 +41,13 @@ public final class TextHoverEvent {
     @Override
     @NotNull
     public String toString() {
-        if(MinecraftVersion.getCurrent().isAtLeast(MinecraftVersion.v1_16_R1))
-            return "\"hoverEvent\":{\"action\":\"" + action.name().toLowerCase() + "\",\"contents\":\"" + text + "\"}";
-        else return "\"hoverEvent\":{\"action\":\"" + action.name().toLowerCase() + "\",\"value\":\"" + text + "\"}";
+        final ChatJsonWriter writer = ChatJsonWriter.acquire();
+        try {
+            writeTo(writer);
+            return writer.toJson();
+        } finally {
+            writer.release();
+        }
     }
 
 }
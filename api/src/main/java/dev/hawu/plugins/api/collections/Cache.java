@@ -0,0 +1,467 @@
+package dev.hawu.plugins.api.collections;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Represents a concurrent in-memory cache that may be bounded
+ * by size and time.
+ * <p>
+ * Lookups go straight to a {@link ConcurrentHashMap} and never wait on the
+ * eviction lock; recency is recorded on a best-effort basis. Expired entries
+ * are never returned, and are swept whenever the cache is written to or
+ * {@link #cleanUp()} is called.
+ * <p>
+ * Instances are created through {@link #builder()}.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @since 1.7
+ */
+public final class Cache<K, V> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<Node> REFRESHING =
+        AtomicIntegerFieldUpdater.newUpdater(Node.class, "refreshing");
+
+    private final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Node<K, V> accessOrder = new Node<>(null, null, 0); // sentinel, head is least recently used
+    private final Node<K, V> writeOrder = new Node<>(null, null, 0); // sentinel, head is oldest
+
+    private final long maximumSize;
+    private final long expireAfterWrite;
+    private final long expireAfterAccess;
+    private final long refreshAfterWrite;
+    private final boolean timed;
+    private final Executor executor;
+    private final LongSupplier ticker;
+    private final RemovalListener<K, V> removalListener;
+    private final Function<K, V> loader;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    Cache(final @NotNull CacheBuilder<K, V> builder) {
+        this.maximumSize = builder.maximumSize;
+        this.expireAfterWrite = builder.expireAfterWrite;
+        this.expireAfterAccess = builder.expireAfterAccess;
+        this.refreshAfterWrite = builder.loader != null ? builder.refreshAfterWrite : 0;
+        this.timed = expireAfterWrite > 0 || expireAfterAccess > 0 || refreshAfterWrite > 0;
+        this.executor = builder.executor;
+        this.ticker = builder.ticker;
+        this.removalListener = builder.removalListener;
+        this.loader = builder.loader;
+
+        accessOrder.accessPrev = accessOrder.accessNext = accessOrder;
+        writeOrder.writePrev = writeOrder.writeNext = writeOrder;
+    }
+
+    /**
+     * Constructs a new builder for a cache.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @return the new builder
+     * @since 1.7
+     */
+    @NotNull
+    public static <K, V> CacheBuilder<K, V> builder() {
+        return new CacheBuilder<>();
+    }
+
+    private long now() {
+        return timed ? ticker.getAsLong() : 0;
+    }
+
+    private boolean isExpired(final @NotNull Node<K, V> node, final long now) {
+        return (expireAfterWrite > 0 && now - node.writeTime >= expireAfterWrite)
+            || (expireAfterAccess > 0 && now - node.accessTime >= expireAfterAccess);
+    }
+
+    /**
+     * Retrieves the value bound to the key, if it is present and
+     * has not expired.
+     *
+     * @param key the key to look up
+     * @return the value, or {@code null} if not present
+     * @since 1.7
+     */
+    @Nullable
+    public V getIfPresent(final @NotNull K key) {
+        final Node<K, V> node = map.get(key);
+        if(node == null) {
+            missCount.increment();
+            return null;
+        }
+
+        final long now = now();
+        if(isExpired(node, now)) {
+            missCount.increment();
+            expire(node);
+            return null;
+        }
+
+        hitCount.increment();
+        onHit(node, now);
+        return node.value;
+    }
+
+    /**
+     * Retrieves the value bound to the key, computing it with the
+     * cache's loader if it is not present.
+     *
+     * @param key the key to look up
+     * @return the value, or {@code null} if the loader returned {@code null}
+     * @throws IllegalStateException if this cache was built without a loader
+     * @since 1.7
+     */
+    @Nullable
+    public V get(final @NotNull K key) {
+        if(loader == null) throw new IllegalStateException("This cache was built without a loader.");
+        return get(key, loader);
+    }
+
+    /**
+     * Retrieves the value bound to the key, computing it with the
+     * provided loader if it is not present.
+     * <p>
+     * Concurrent requests for the same missing key wait for a single load.
+     * The loader must not modify this cache.
+     *
+     * @param key    the key to look up
+     * @param loader the function that computes the value
+     * @return the value, or {@code null} if the loader returned {@code null}
+     * @since 1.7
+     */
+    @Nullable
+    public V get(final @NotNull K key, final @NotNull Function<? super K, ? extends V> loader) {
+        final Node<K, V> node = map.get(key);
+        if(node != null) {
+            final long now = now();
+            if(!isExpired(node, now)) {
+                hitCount.increment();
+                onHit(node, now);
+                return node.value;
+            }
+        }
+
+        missCount.increment();
+        return load(key, loader);
+    }
+
+    @Nullable
+    private V load(final @NotNull K key, final @NotNull Function<? super K, ? extends V> loader) {
+        final List<Node<K, V>> replaced = new ArrayList<>(1);
+        final List<Node<K, V>> created = new ArrayList<>(1);
+
+        final Node<K, V> result = map.compute(key, (k, existing) -> {
+            final long start = ticker.getAsLong();
+            if(existing != null && !isExpired(existing, timed ? start : 0)) return existing;
+
+            final V value;
+            try {
+                value = loader.apply(k);
+            } catch(final RuntimeException | Error throwable) {
+                loadFailureCount.increment();
+                totalLoadTime.add(ticker.getAsLong() - start);
+                throw throwable;
+            }
+
+            final long end = ticker.getAsLong();
+            totalLoadTime.add(end - start);
+            if(existing != null) replaced.add(existing);
+            if(value == null) {
+                loadFailureCount.increment();
+                return null;
+            }
+
+            loadSuccessCount.increment();
+            final Node<K, V> node = new Node<>(k, value, end);
+            created.add(node);
+            return node;
+        });
+
+        final Node<K, V> expired = replaced.isEmpty() ? null : replaced.get(0);
+        if(expired != null) evictionCount.increment();
+        if(expired != null || !created.isEmpty()) afterWrite(created.isEmpty() ? null : created.get(0), expired, RemovalCause.EXPIRED);
+        return result != null ? result.value : null;
+    }
+
+    /**
+     * Binds the value to the key, replacing any previous value.
+     *
+     * @param key   the key
+     * @param value the value
+     * @since 1.7
+     */
+    public void put(final @NotNull K key, final @NotNull V value) {
+        Objects.requireNonNull(value, "Values in a cache can not be null.");
+        final Node<K, V> node = new Node<>(key, value, ticker.getAsLong());
+        final Node<K, V> previous = map.put(key, node);
+        afterWrite(node, previous, previous != null && isExpired(previous, node.writeTime) ? RemovalCause.EXPIRED : RemovalCause.REPLACED);
+    }
+
+    /**
+     * Removes the key from the cache.
+     *
+     * @param key the key to remove
+     * @since 1.7
+     */
+    public void invalidate(final @NotNull K key) {
+        final Node<K, V> node = map.remove(key);
+        if(node == null) return;
+
+        evictionLock.lock();
+        try {
+            unlink(node);
+        } finally {
+            evictionLock.unlock();
+        }
+        notifyRemoval(node, RemovalCause.EXPLICIT);
+    }
+
+    /**
+     * Removes every entry from the cache.
+     *
+     * @since 1.7
+     */
+    public void invalidateAll() {
+        for(final K key : map.keySet()) invalidate(key);
+    }
+
+    /**
+     * Reloads the value for the key asynchronously with the cache's loader.
+     * Until the reload completes, the current value, if any, keeps being served.
+     *
+     * @param key the key to reload
+     * @return the future that completes with the reloaded value
+     * @throws IllegalStateException if this cache was built without a loader
+     * @since 1.7
+     */
+    @NotNull
+    public CompletableFuture<V> refresh(final @NotNull K key) {
+        if(loader == null) throw new IllegalStateException("This cache was built without a loader.");
+        return reload(key, map.get(key));
+    }
+
+    /**
+     * Sweeps expired entries and enforces the size bound immediately,
+     * instead of waiting for the next write.
+     *
+     * @since 1.7
+     */
+    public void cleanUp() {
+        afterWrite(null, null, RemovalCause.EXPIRED);
+    }
+
+    /**
+     * Retrieves the approximate number of entries, which may include
+     * expired entries not yet swept.
+     *
+     * @return the estimated size
+     * @since 1.7
+     */
+    public long estimatedSize() {
+        return map.size();
+    }
+
+    /**
+     * Retrieves a snapshot of this cache's statistics.
+     *
+     * @return the statistics
+     * @since 1.7
+     */
+    @NotNull
+    public CacheStats stats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), loadSuccessCount.sum(),
+            loadFailureCount.sum(), totalLoadTime.sum(), evictionCount.sum());
+    }
+
+    private void onHit(final @NotNull Node<K, V> node, final long now) {
+        node.accessTime = now;
+        if((maximumSize >= 0 || expireAfterAccess > 0) && evictionLock.tryLock()) {
+            try {
+                if(node.linked) {
+                    unlinkAccess(node);
+                    linkAccess(node);
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+
+        if(refreshAfterWrite > 0 && now - node.writeTime >= refreshAfterWrite && REFRESHING.compareAndSet(node, 0, 1)) {
+            reload(node.key, node);
+        }
+    }
+
+    @NotNull
+    private CompletableFuture<V> reload(final @NotNull K key, final @Nullable Node<K, V> expected) {
+        final long start = ticker.getAsLong();
+        return CompletableFuture.supplyAsync(() -> loader.apply(key), executor).whenComplete((value, throwable) -> {
+            final long end = ticker.getAsLong();
+            totalLoadTime.add(end - start);
+            if(expected != null) expected.refreshing = 0;
+            if(throwable != null || value == null) {
+                loadFailureCount.increment();
+                return;
+            }
+
+            loadSuccessCount.increment();
+            final Node<K, V> node = new Node<>(key, value, end);
+            final boolean installed = expected == null ? map.putIfAbsent(key, node) == null : map.replace(key, expected, node);
+            if(installed) afterWrite(node, expected, RemovalCause.REPLACED);
+        });
+    }
+
+    private void expire(final @NotNull Node<K, V> node) {
+        if(!map.remove(node.key, node)) return;
+        evictionCount.increment();
+        evictionLock.lock();
+        try {
+            unlink(node);
+        } finally {
+            evictionLock.unlock();
+        }
+        notifyRemoval(node, RemovalCause.EXPIRED);
+    }
+
+    // Links the written node, unlinks the one it replaced, then sweeps and evicts.
+    private void afterWrite(final @Nullable Node<K, V> written, final @Nullable Node<K, V> replaced, final @NotNull RemovalCause cause) {
+        List<Node<K, V>> evicted = null;
+        evictionLock.lock();
+        try {
+            if(replaced != null) unlink(replaced);
+            if(written != null && !written.removed) {
+                linkAccess(written);
+                linkWrite(written);
+                written.linked = true;
+            }
+            evicted = sweep(evicted);
+        } finally {
+            evictionLock.unlock();
+        }
+
+        if(replaced != null) notifyRemoval(replaced, cause);
+        if(evicted != null) {
+            for(final Node<K, V> node : evicted) notifyRemoval(node, node.cause);
+        }
+    }
+
+    @Nullable
+    private List<Node<K, V>> sweep(@Nullable List<Node<K, V>> evicted) {
+        final long now = now();
+        if(expireAfterWrite > 0) {
+            while(writeOrder.writeNext != writeOrder && now - writeOrder.writeNext.writeTime >= expireAfterWrite) {
+                evicted = evict(writeOrder.writeNext, RemovalCause.EXPIRED, evicted);
+            }
+        }
+        if(expireAfterAccess > 0) {
+            while(accessOrder.accessNext != accessOrder && now - accessOrder.accessNext.accessTime >= expireAfterAccess) {
+                evicted = evict(accessOrder.accessNext, RemovalCause.EXPIRED, evicted);
+            }
+        }
+        if(maximumSize >= 0) {
+            while(map.size() > maximumSize && accessOrder.accessNext != accessOrder) {
+                evicted = evict(accessOrder.accessNext, RemovalCause.SIZE, evicted);
+            }
+        }
+        return evicted;
+    }
+
+    @Nullable
+    private List<Node<K, V>> evict(final @NotNull Node<K, V> node, final @NotNull RemovalCause cause, @Nullable List<Node<K, V>> evicted) {
+        unlink(node);
+        if(!map.remove(node.key, node)) return evicted;
+
+        evictionCount.increment();
+        if(removalListener == null) return evicted;
+        if(evicted == null) evicted = new ArrayList<>();
+        node.cause = cause;
+        evicted.add(node);
+        return evicted;
+    }
+
+    private void notifyRemoval(final @NotNull Node<K, V> node, final @NotNull RemovalCause cause) {
+        if(removalListener == null) return;
+        try {
+            removalListener.onRemoval(node.key, node.value, cause);
+        } catch(final RuntimeException exception) {
+            exception.printStackTrace();
+        }
+    }
+
+    private void unlink(final @NotNull Node<K, V> node) {
+        node.removed = true;
+        if(!node.linked) return;
+        unlinkAccess(node);
+        node.writePrev.writeNext = node.writeNext;
+        node.writeNext.writePrev = node.writePrev;
+        node.writePrev = node.writeNext = null;
+        node.linked = false;
+    }
+
+    private void linkAccess(final @NotNull Node<K, V> node) {
+        node.accessPrev = accessOrder.accessPrev;
+        node.accessNext = accessOrder;
+        accessOrder.accessPrev.accessNext = node;
+        accessOrder.accessPrev = node;
+    }
+
+    private void unlinkAccess(final @NotNull Node<K, V> node) {
+        node.accessPrev.accessNext = node.accessNext;
+        node.accessNext.accessPrev = node.accessPrev;
+        node.accessPrev = node.accessNext = null;
+    }
+
+    private void linkWrite(final @NotNull Node<K, V> node) {
+        node.writePrev = writeOrder.writePrev;
+        node.writeNext = writeOrder;
+        writeOrder.writePrev.writeNext = node;
+        writeOrder.writePrev = node;
+    }
+
+    private static final class Node<K, V> {
+
+        final K key;
+        final V value;
+        final long writeTime;
+        volatile long accessTime;
+        volatile int refreshing;
+
+        // Guarded by the eviction lock.
+        boolean linked;
+        boolean removed;
+        RemovalCause cause;
+        Node<K, V> accessPrev;
+        Node<K, V> accessNext;
+        Node<K, V> writePrev;
+        Node<K, V> writeNext;
+
+        Node(final K key, final V value, final long now) {
+            this.key = key;
+            this.value = value;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+
+    }
+
+}
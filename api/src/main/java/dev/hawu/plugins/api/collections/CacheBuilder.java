@@ -0,0 +1,162 @@
+package dev.hawu.plugins.api.collections;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Represents a builder for configuring and creating a {@link Cache}.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @since 1.7
+ */
+public final class CacheBuilder<K, V> {
+
+    long maximumSize = -1;
+    long expireAfterWrite;
+    long expireAfterAccess;
+    long refreshAfterWrite;
+    Executor executor = ForkJoinPool.commonPool();
+    LongSupplier ticker = System::nanoTime;
+    RemovalListener<K, V> removalListener;
+    Function<K, V> loader;
+
+    CacheBuilder() {}
+
+    /**
+     * Sets the maximum number of entries the cache may hold. Once exceeded,
+     * the least recently used entries are evicted.
+     *
+     * @param size the maximum size
+     * @return the same builder
+     * @since 1.7
+     */
+    @NotNull
+    public CacheBuilder<K, V> maximumSize(final long size) {
+        if(size < 0) throw new IllegalArgumentException("Maximum size can not be negative.");
+        this.maximumSize = size;
+        return this;
+    }
+
+    /**
+     * Makes entries expire after the provided amount of time since
+     * they were written.
+     *
+     * @param duration the duration in milliseconds
+     * @return the same builder
+     * @since 1.7
+     */
+    @NotNull
+    public CacheBuilder<K, V> expireAfterWrite(final long duration) {
+        this.expireAfterWrite = toNanos(duration);
+        return this;
+    }
+
+    /**
+     * Makes entries expire after the provided amount of time since
+     * they were last read or written.
+     *
+     * @param duration the duration in milliseconds
+     * @return the same builder
+     * @since 1.7
+     */
+    @NotNull
+    public CacheBuilder<K, V> expireAfterAccess(final long duration) {
+        this.expireAfterAccess = toNanos(duration);
+        return this;
+    }
+
+    /**
+     * Makes entries reload in the background once the provided amount of time
+     * has passed since they were written. The stale value keeps being served until
+     * the reload completes. This only applies to caches built with a loader.
+     *
+     * @param duration the duration in milliseconds
+     * @return the same builder
+     * @since 1.7
+     */
+    @NotNull
+    public CacheBuilder<K, V> refreshAfterWrite(final long duration) {
+        this.refreshAfterWrite = toNanos(duration);
+        return this;
+    }
+
+    /**
+     * Sets the executor used for asynchronous refreshes, by default
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @param executor the executor
+     * @return the same builder
+     * @since 1.7
+     */
+    @NotNull
+    public CacheBuilder<K, V> executor(final @NotNull Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+        return this;
+    }
+
+    /**
+     * Sets the time source, in nanoseconds, used for expiry.
+     * By default, this is {@link System#nanoTime()}.
+     *
+     * @param ticker the time source
+     * @return the same builder
+     * @since 1.7
+     */
+    @NotNull
+    public CacheBuilder<K, V> ticker(final @NotNull LongSupplier ticker) {
+        this.ticker = Objects.requireNonNull(ticker);
+        return this;
+    }
+
+    /**
+     * Sets the listener to notify whenever an entry leaves the cache.
+     *
+     * @param listener the listener
+     * @return the same builder
+     * @since 1.7
+     */
+    @NotNull
+    public CacheBuilder<K, V> removalListener(final @Nullable RemovalListener<K, V> listener) {
+        this.removalListener = listener;
+        return this;
+    }
+
+    /**
+     * Constructs the cache without a default loader.
+     *
+     * @return the cache
+     * @since 1.7
+     */
+    @NotNull
+    public Cache<K, V> build() {
+        return new Cache<>(this);
+    }
+
+    /**
+     * Constructs the cache with a default loader, used by {@link Cache#get(Object)}
+     * and refreshes.
+     *
+     * @param loader the function that computes missing values
+     * @return the cache
+     * @since 1.7
+     */
+    @NotNull
+    public Cache<K, V> build(final @NotNull Function<K, V> loader) {
+        this.loader = Objects.requireNonNull(loader);
+        return new Cache<>(this);
+    }
+
+    private static long toNanos(final long duration) {
+        if(duration < 0) throw new IllegalArgumentException("Duration can not be negative.");
+        return TimeUnit.MILLISECONDS.toNanos(duration);
+    }
+
+}
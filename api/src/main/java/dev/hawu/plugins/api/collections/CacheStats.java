@@ -0,0 +1,129 @@
+package dev.hawu.plugins.api.collections;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents an immutable snapshot of a {@link Cache}'s statistics.
+ *
+ * @since 1.7
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final long totalLoadTime;
+    private final long evictionCount;
+
+    CacheStats(final long hitCount, final long missCount, final long loadSuccessCount,
+               final long loadFailureCount, final long totalLoadTime, final long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTime = totalLoadTime;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * Retrieves the number of lookups that found a live value.
+     *
+     * @return the number of hits
+     * @since 1.7
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Retrieves the number of lookups that did not find a live value.
+     *
+     * @return the number of misses
+     * @since 1.7
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Retrieves the total number of lookups.
+     *
+     * @return the number of requests
+     * @since 1.7
+     */
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Retrieves the ratio of lookups that were hits, or {@code 1.0}
+     * if there were no lookups.
+     *
+     * @return the hit rate
+     * @since 1.7
+     */
+    public double getHitRate() {
+        final long requests = getRequestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * Retrieves the number of times a loader produced a value.
+     *
+     * @return the number of successful loads
+     * @since 1.7
+     */
+    public long getLoadSuccessCount() {
+        return loadSuccessCount;
+    }
+
+    /**
+     * Retrieves the number of times a loader threw or produced {@code null}.
+     *
+     * @return the number of failed loads
+     * @since 1.7
+     */
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    /**
+     * Retrieves the total time spent loading values, in nanoseconds.
+     *
+     * @return the total load time
+     * @since 1.7
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime;
+    }
+
+    /**
+     * Retrieves the average time spent per load, in nanoseconds.
+     *
+     * @return the average load time
+     * @since 1.7
+     */
+    public double getAverageLoadPenalty() {
+        final long loads = loadSuccessCount + loadFailureCount;
+        return loads == 0 ? 0.0 : (double) totalLoadTime / loads;
+    }
+
+    /**
+     * Retrieves the number of entries removed by expiry or the size bound.
+     *
+     * @return the number of evictions
+     * @since 1.7
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return "CacheStats{hits=" + hitCount + ", misses=" + missCount + ", loadSuccesses=" + loadSuccessCount
+            + ", loadFailures=" + loadFailureCount + ", totalLoadTime=" + totalLoadTime + ", evictions=" + evictionCount + "}";
+    }
+
+}
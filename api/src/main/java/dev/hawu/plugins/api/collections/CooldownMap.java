@@ -5,6 +5,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * A delegated map that works with cooldowns.
@@ -16,7 +17,7 @@ import java.util.Map;
 public final class CooldownMap<K> {
 
     private final long cooldown;
-    private final Map<K, Long> map = new HashMap<>();
+    private final Map<K, Long> map;
 
     /**
      * Creates the cooldown map with a 1s cooldown.
@@ -24,7 +25,7 @@ public final class CooldownMap<K> {
      * @since 1.6
      */
     public CooldownMap() {
-        this.cooldown = 1000;
+        this(1000);
     }
 
     /**
@@ -35,7 +36,25 @@ public final class CooldownMap<K> {
      * @since 1.6
      */
     public CooldownMap(final @NotNull Number cooldown) {
+        this(cooldown, new HashMap<>());
+    }
+
+    private CooldownMap(final @NotNull Number cooldown, final @NotNull Map<K, Long> map) {
         this.cooldown = cooldown.longValue();
+        this.map = map;
+    }
+
+    /**
+     * Creates a cooldown map keyed by {@link UUID}s, backed by
+     * an {@link UUIDHashMap} to avoid allocations on lookups.
+     *
+     * @param cooldown the cooldown in milliseconds
+     * @return the cooldown map
+     * @since 1.7
+     */
+    @NotNull
+    public static CooldownMap<UUID> forUUIDs(final @NotNull Number cooldown) {
+        return new CooldownMap<>(cooldown, new UUIDHashMap<>());
     }
 
     /**
@@ -66,8 +85,8 @@ public final class CooldownMap<K> {
      * @since 1.6
      */
     public boolean isOnCooldown(final @NotNull K key) {
-        if(!map.containsKey(key)) return false;
-        return map.get(key) > System.currentTimeMillis();
+        final Long expiry = map.get(key);
+        return expiry != null && expiry > System.currentTimeMillis();
     }
 
     /**
@@ -89,8 +108,9 @@ public final class CooldownMap<K> {
      */
     @NotNull
     public String getCooldown(final @NotNull K key) {
-        if(!map.containsKey(key)) return "0s";
-        return TimeConversions.buildTimestamp(map.get(key)).withSpaces().build();
+        final Long expiry = map.get(key);
+        if(expiry == null) return "0s";
+        return TimeConversions.buildTimestamp(expiry).withSpaces().build();
     }
 
     /**
@@ -3,26 +3,71 @@ package dev.hawu.plugins.api.collections;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 /**
  * Represents a property that is lazily computed on request.
+ * <p>
+ * The supplier may return {@code null}, which is cached just like any other
+ * value. Once computed, reads do not take any locks regardless of the
+ * {@link ThreadSafetyMode} used.
+ * <p>
+ * A reference may also expire or refresh after a fixed amount of time
+ * since its value was computed, making it usable as a tiny cache for a
+ * single periodically recomputed value.
  *
  * @param <T> the type of the property
  * @since 1.6
  */
 public final class LazyReference<T> {
 
+    private static final Object UNINITIALIZED = new Object();
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LazyReference, Object> VALUE_UPDATER =
+        AtomicReferenceFieldUpdater.newUpdater(LazyReference.class, Object.class, "value");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<LazyReference> REFRESHING_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(LazyReference.class, "refreshing");
+
     private final Supplier<T> supplier;
-    private T value;
+    private final ThreadSafetyMode mode;
+    private final long expireAfterWrite; // nanoseconds, 0 if never
+    private final long refreshAfterWrite; // nanoseconds, 0 if never
+    private final LongSupplier ticker;
+
+    private volatile Object value = UNINITIALIZED;
+    private volatile long writtenAt;
+    private volatile int refreshing;
 
     private LazyReference(final @NotNull T computedValue) {
         this.value = Objects.requireNonNull(computedValue);
         this.supplier = null;
+        this.mode = ThreadSafetyMode.NONE;
+        this.expireAfterWrite = 0;
+        this.refreshAfterWrite = 0;
+        this.ticker = System::nanoTime;
     }
 
-    private LazyReference(final @NotNull Supplier<T> supplier) {
-        this.supplier = supplier;
+    private LazyReference(final @NotNull Supplier<T> supplier, final @NotNull ThreadSafetyMode mode,
+                          final long expireAfterWrite, final long refreshAfterWrite, final @NotNull LongSupplier ticker) {
+        if(expireAfterWrite < 0 || refreshAfterWrite < 0) throw new IllegalArgumentException("Durations can not be negative.");
+        this.supplier = Objects.requireNonNull(supplier);
+        this.mode = Objects.requireNonNull(mode);
+        this.expireAfterWrite = TimeUnit.MILLISECONDS.toNanos(expireAfterWrite);
+        this.refreshAfterWrite = TimeUnit.MILLISECONDS.toNanos(refreshAfterWrite);
+        this.ticker = Objects.requireNonNull(ticker);
+    }
+
+    // Creates a reference that reads the time in nanoseconds from the ticker, so tests can control it.
+    @NotNull
+    static <K> LazyReference<K> create(final @NotNull Supplier<K> supplier, final @NotNull ThreadSafetyMode mode,
+                                       final long expireAfterWrite, final long refreshAfterWrite, final @NotNull LongSupplier ticker) {
+        return new LazyReference<>(supplier, mode, expireAfterWrite, refreshAfterWrite, ticker);
     }
 
     /**
@@ -41,6 +86,9 @@ public final class LazyReference<T> {
     /**
      * Creates a new lazy reference, whose value will be computed
      * on the first request.
+     * <p>
+     * This uses {@link ThreadSafetyMode#SYNCHRONIZED}, so the supplier
+     * is invoked at most once.
      *
      * @param supplier the supplier
      * @param <K>      the type of the value
@@ -48,7 +96,91 @@ public final class LazyReference<T> {
      * @since 1.6
      */
     public static <K> LazyReference<K> of(final @NotNull Supplier<K> supplier) {
-        return new LazyReference<>(supplier);
+        return of(supplier, ThreadSafetyMode.SYNCHRONIZED);
+    }
+
+    /**
+     * Creates a new lazy reference, whose value will be computed
+     * on the first request with the provided thread safety mode.
+     *
+     * @param supplier the supplier
+     * @param mode     the thread safety mode
+     * @param <K>      the type of the value
+     * @return the lazy reference
+     * @since 1.7
+     */
+    @NotNull
+    public static <K> LazyReference<K> of(final @NotNull Supplier<K> supplier, final @NotNull ThreadSafetyMode mode) {
+        return new LazyReference<>(supplier, mode, 0, 0, System::nanoTime);
+    }
+
+    /**
+     * Creates a new lazy reference whose value is discarded after the
+     * provided amount of time since it was computed. The next request
+     * afterwards blocks until the value is recomputed.
+     *
+     * @param supplier the supplier
+     * @param duration the time to keep the value for, in milliseconds
+     * @param mode     the thread safety mode
+     * @param <K>      the type of the value
+     * @return the lazy reference
+     * @since 1.7
+     */
+    @NotNull
+    public static <K> LazyReference<K> expiring(final @NotNull Supplier<K> supplier, final long duration, final @NotNull ThreadSafetyMode mode) {
+        if(duration <= 0) throw new IllegalArgumentException("Duration must be positive.");
+        return new LazyReference<>(supplier, mode, duration, 0, System::nanoTime);
+    }
+
+    /**
+     * Creates a new synchronized lazy reference whose value is discarded
+     * after the provided amount of time since it was computed.
+     *
+     * @param supplier the supplier
+     * @param duration the time to keep the value for, in milliseconds
+     * @param <K>      the type of the value
+     * @return the lazy reference
+     * @since 1.7
+     */
+    @NotNull
+    public static <K> LazyReference<K> expiring(final @NotNull Supplier<K> supplier, final long duration) {
+        return expiring(supplier, duration, ThreadSafetyMode.SYNCHRONIZED);
+    }
+
+    /**
+     * Creates a new lazy reference whose value is recomputed once the
+     * provided amount of time has passed since it was computed.
+     * <p>
+     * Unlike {@link #expiring(Supplier, long, ThreadSafetyMode)}, only the request
+     * that notices the value is due recomputes it, while concurrent requests
+     * keep receiving the previous value instead of waiting.
+     *
+     * @param supplier the supplier
+     * @param duration the time between refreshes, in milliseconds
+     * @param mode     the thread safety mode
+     * @param <K>      the type of the value
+     * @return the lazy reference
+     * @since 1.7
+     */
+    @NotNull
+    public static <K> LazyReference<K> refreshing(final @NotNull Supplier<K> supplier, final long duration, final @NotNull ThreadSafetyMode mode) {
+        if(duration <= 0) throw new IllegalArgumentException("Duration must be positive.");
+        return new LazyReference<>(supplier, mode, 0, duration, System::nanoTime);
+    }
+
+    /**
+     * Creates a new synchronized lazy reference whose value is recomputed
+     * once the provided amount of time has passed since it was computed.
+     *
+     * @param supplier the supplier
+     * @param duration the time between refreshes, in milliseconds
+     * @param <K>      the type of the value
+     * @return the lazy reference
+     * @since 1.7
+     */
+    @NotNull
+    public static <K> LazyReference<K> refreshing(final @NotNull Supplier<K> supplier, final long duration) {
+        return refreshing(supplier, duration, ThreadSafetyMode.SYNCHRONIZED);
     }
 
     /**
@@ -58,20 +190,130 @@ public final class LazyReference<T> {
      * @since 1.6
      */
     public boolean isInitialized() {
-        return value != null;
+        return value != UNINITIALIZED && !isExpired(ticker.getAsLong());
+    }
+
+    /**
+     * Discards the computed value, so it is computed again on the
+     * next request. This does nothing for precomputed references.
+     *
+     * @since 1.7
+     */
+    public void invalidate() {
+        if(supplier != null) value = UNINITIALIZED;
+    }
+
+    private boolean isExpired(final long now) {
+        return expireAfterWrite > 0 && now - writtenAt >= expireAfterWrite;
+    }
+
+    private boolean isRefreshDue(final long now) {
+        return refreshAfterWrite > 0 && now - writtenAt >= refreshAfterWrite;
     }
 
     /**
      * Returns the value if it is present, computes then returns otherwise.
+     * <p>
+     * This may return {@code null} if the supplier did.
      *
      * @return the value
      * @since 1.6
      */
-    @NotNull
+    @SuppressWarnings("unchecked")
     public T get() {
-        if(value == null) {
-            return value = Objects.requireNonNull(supplier).get();
-        } else return value;
+        final Object current = value;
+        if(current != UNINITIALIZED) {
+            if(expireAfterWrite == 0 && refreshAfterWrite == 0) return (T) current;
+            final long now = ticker.getAsLong();
+            if(!isExpired(now)) {
+                if(!isRefreshDue(now)) return (T) current;
+                return refresh(current);
+            }
+        }
+
+        switch(mode) {
+            case SYNCHRONIZED:
+                return computeSynchronized();
+            case PUBLICATION:
+                return computePublication(current);
+            default:
+                return (T) publish(supplier.get());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T computeSynchronized() {
+        synchronized(this) {
+            final Object current = value;
+            if(current != UNINITIALIZED && !isExpired(ticker.getAsLong())) return (T) current;
+            return (T) publish(supplier.get());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T computePublication(final Object seen) {
+        final Object computed = supplier.get();
+        final long now = ticker.getAsLong();
+        if(VALUE_UPDATER.compareAndSet(this, seen, computed)) {
+            writtenAt = now;
+            return (T) computed;
+        }
+
+        // Someone else published first, use theirs unless it is already gone.
+        final Object current = value;
+        return current != UNINITIALIZED ? (T) current : (T) computed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T refresh(final Object stale) {
+        if(mode == ThreadSafetyMode.NONE) return (T) publish(supplier.get());
+        if(!REFRESHING_UPDATER.compareAndSet(this, 0, 1)) return (T) stale;
+        try {
+            if(!isRefreshDue(ticker.getAsLong())) return (T) value;
+            return (T) publish(supplier.get());
+        } finally {
+            refreshing = 0;
+        }
+    }
+
+    private Object publish(final Object computed) {
+        writtenAt = ticker.getAsLong();
+        value = computed;
+        return computed;
+    }
+
+    /**
+     * Represents how a {@link LazyReference} guards its supplier
+     * against concurrent requests.
+     *
+     * @since 1.7
+     */
+    public enum ThreadSafetyMode {
+
+        /**
+         * Locks on the reference while computing, so the supplier is invoked
+         * only once even under concurrent requests.
+         *
+         * @since 1.7
+         */
+        SYNCHRONIZED,
+
+        /**
+         * Allows the supplier to be invoked concurrently, but only the first
+         * computed value is published and returned to everyone afterwards.
+         *
+         * @since 1.7
+         */
+        PUBLICATION,
+
+        /**
+         * Does no synchronization at all, for references that are only ever
+         * accessed from a single thread.
+         *
+         * @since 1.7
+         */
+        NONE
+
     }
 
 }
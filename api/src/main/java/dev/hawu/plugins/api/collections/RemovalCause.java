@@ -0,0 +1,53 @@
+package dev.hawu.plugins.api.collections;
+
+/**
+ * Represents the reason an entry was removed from a {@link Cache}.
+ *
+ * @since 1.7
+ */
+public enum RemovalCause {
+
+    /**
+     * The entry was removed manually through
+     * {@link Cache#invalidate(Object)} or {@link Cache#invalidateAll()}.
+     *
+     * @since 1.7
+     */
+    EXPLICIT,
+
+    /**
+     * The entry's value was replaced by another value
+     * for the same key.
+     *
+     * @since 1.7
+     */
+    REPLACED,
+
+    /**
+     * The entry expired because too much time had passed
+     * since it was written or last accessed.
+     *
+     * @since 1.7
+     */
+    EXPIRED,
+
+    /**
+     * The entry was evicted to keep the cache within
+     * its maximum size.
+     *
+     * @since 1.7
+     */
+    SIZE;
+
+    /**
+     * Checks if the entry was removed automatically, rather than
+     * by the user.
+     *
+     * @return true if the removal was caused by expiry or eviction
+     * @since 1.7
+     */
+    public boolean wasEvicted() {
+        return this == EXPIRED || this == SIZE;
+    }
+
+}
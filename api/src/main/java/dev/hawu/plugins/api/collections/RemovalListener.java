@@ -0,0 +1,27 @@
+package dev.hawu.plugins.api.collections;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a listener that is notified whenever an entry
+ * leaves a {@link Cache}.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @since 1.7
+ */
+@FunctionalInterface
+public interface RemovalListener<K, V> {
+
+    /**
+     * Handles the removal of an entry. This is called on the thread
+     * that caused the removal, after the cache has released its locks.
+     *
+     * @param key   the key of the removed entry
+     * @param value the value of the removed entry
+     * @param cause the reason the entry was removed
+     * @since 1.7
+     */
+    void onRemoval(final @NotNull K key, final @NotNull V value, final @NotNull RemovalCause cause);
+
+}
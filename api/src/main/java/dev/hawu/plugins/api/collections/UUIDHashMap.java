@@ -0,0 +1,374 @@
+package dev.hawu.plugins.api.collections;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Represents a hash map specialized for {@link UUID} keys.
+ * <p>
+ * Keys are stored as their two {@code long} halves in open-addressed
+ * parallel arrays with linear probing, so {@link #get(Object)},
+ * {@link #put(UUID, Object)}, {@link #containsKey(Object)} and {@link #remove(Object)}
+ * never allocate once the table has grown to fit. Removal shifts
+ * following entries back instead of leaving tombstones.
+ * <p>
+ * This map does not accept {@code null} values, and its views do not
+ * support removal through iterators. It is not thread-safe.
+ *
+ * @param <V> the type of the values
+ * @since 1.7
+ */
+public final class UUIDHashMap<V> extends AbstractMap<UUID, V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] mostBits;
+    private long[] leastBits;
+    private Object[] values; // null marks an empty slot
+    private int mask;
+    private int size;
+    private int threshold;
+
+    private Set<Entry<UUID, V>> entrySet;
+
+    /**
+     * Creates an empty map with the default capacity.
+     *
+     * @since 1.7
+     */
+    public UUIDHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map that can hold the expected number of entries
+     * without growing.
+     *
+     * @param expectedSize the expected number of entries
+     * @since 1.7
+     */
+    public UUIDHashMap(final int expectedSize) {
+        if(expectedSize < 0) throw new IllegalArgumentException("Expected size can not be negative.");
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Creates a map with the same entries as the provided map.
+     *
+     * @param map the map to copy from
+     * @since 1.7
+     */
+    public UUIDHashMap(final @NotNull Map<? extends UUID, ? extends V> map) {
+        this(map.size());
+        putAll(map);
+    }
+
+    private static int tableSizeFor(final int expectedSize) {
+        final long needed = Math.max(DEFAULT_CAPACITY, (long) Math.ceil(expectedSize / (double) LOAD_FACTOR));
+        if(needed > 1 << 30) return 1 << 30;
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private static int hash(final long most, final long least) {
+        long h = most ^ least;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private void allocate(final int capacity) {
+        mostBits = new long[capacity];
+        leastBits = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int indexOf(final long most, final long least) {
+        int index = hash(most, least) & mask;
+        while(values[index] != null) {
+            if(mostBits[index] == most && leastBits[index] == least) return index;
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void rehash() {
+        final long[] oldMost = mostBits;
+        final long[] oldLeast = leastBits;
+        final Object[] oldValues = values;
+        allocate(oldValues.length << 1);
+
+        for(int i = 0; i < oldValues.length; i++) {
+            if(oldValues[i] == null) continue;
+            int index = hash(oldMost[i], oldLeast[i]) & mask;
+            while(values[index] != null) index = (index + 1) & mask;
+            mostBits[index] = oldMost[i];
+            leastBits[index] = oldLeast[i];
+            values[index] = oldValues[i];
+        }
+    }
+
+    /**
+     * Retrieves the value bound to the UUID made of the two halves.
+     *
+     * @param most  the most significant bits of the UUID
+     * @param least the least significant bits of the UUID
+     * @return the value, or {@code null} if not present
+     * @since 1.7
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(final long most, final long least) {
+        final int index = indexOf(most, least);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    /**
+     * Binds the value to the UUID made of the two halves.
+     *
+     * @param most  the most significant bits of the UUID
+     * @param least the least significant bits of the UUID
+     * @param value the value to bind
+     * @return the previous value, or {@code null} if there was none
+     * @since 1.7
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V put(final long most, final long least, final @NotNull V value) {
+        Objects.requireNonNull(value, "Values in a UUIDHashMap can not be null.");
+        int index = hash(most, least) & mask;
+        while(values[index] != null) {
+            if(mostBits[index] == most && leastBits[index] == least) {
+                final V previous = (V) values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+
+        mostBits[index] = most;
+        leastBits[index] = least;
+        values[index] = value;
+        if(++size > threshold) rehash();
+        return null;
+    }
+
+    /**
+     * Removes the UUID made of the two halves from this map.
+     *
+     * @param most  the most significant bits of the UUID
+     * @param least the least significant bits of the UUID
+     * @return the removed value, or {@code null} if there was none
+     * @since 1.7
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V remove(final long most, final long least) {
+        final int index = indexOf(most, least);
+        if(index < 0) return null;
+        final V previous = (V) values[index];
+        shiftBack(index);
+        size--;
+        return previous;
+    }
+
+    // Backward-shift deletion, moves every displaced entry after the gap closer to its home slot.
+    private void shiftBack(int gap) {
+        int current = (gap + 1) & mask;
+        while(values[current] != null) {
+            final int home = hash(mostBits[current], leastBits[current]) & mask;
+            if(((current - home) & mask) >= ((current - gap) & mask)) {
+                mostBits[gap] = mostBits[current];
+                leastBits[gap] = leastBits[current];
+                values[gap] = values[current];
+                gap = current;
+            }
+            current = (current + 1) & mask;
+        }
+        values[gap] = null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable Object key) {
+        if(!(key instanceof UUID)) return false;
+        final UUID uuid = (UUID) key;
+        return indexOf(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(final @Nullable Object value) {
+        if(value == null) return false;
+        for(final Object v : values) {
+            if(value.equals(v)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    @Nullable
+    public V get(final @Nullable Object key) {
+        if(!(key instanceof UUID)) return null;
+        final UUID uuid = (UUID) key;
+        return get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    @Override
+    @NotNull
+    public V getOrDefault(final @Nullable Object key, final @NotNull V defaultValue) {
+        final V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    @Override
+    @Nullable
+    public V put(final @NotNull UUID key, final @NotNull V value) {
+        return put(key.getMostSignificantBits(), key.getLeastSignificantBits(), value);
+    }
+
+    @Override
+    @Nullable
+    public V putIfAbsent(final @NotNull UUID key, final @NotNull V value) {
+        final V current = get(key);
+        if(current != null) return current;
+        put(key, value);
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public V remove(final @Nullable Object key) {
+        if(!(key instanceof UUID)) return null;
+        final UUID uuid = (UUID) key;
+        return remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    @Override
+    public void clear() {
+        if(size == 0) return;
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Performs the action on every entry of this map, allocating
+     * one {@link UUID} per entry.
+     *
+     * @param action the action to perform
+     * @since 1.7
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(final @NotNull BiConsumer<? super UUID, ? super V> action) {
+        for(int i = 0; i < values.length; i++) {
+            if(values[i] != null) action.accept(new UUID(mostBits[i], leastBits[i]), (V) values[i]);
+        }
+    }
+
+    @NotNull
+    @Override
+    public Set<Entry<UUID, V>> entrySet() {
+        if(entrySet == null) entrySet = new EntrySet();
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<UUID, V>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @NotNull
+        @Override
+        public Iterator<Entry<UUID, V>> iterator() {
+            return new Iterator<Entry<UUID, V>>() {
+                private int next = advance(0);
+
+                private int advance(int from) {
+                    while(from < values.length && values[from] == null) from++;
+                    return from;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next < values.length;
+                }
+
+                @Override
+                public Entry<UUID, V> next() {
+                    if(!hasNext()) throw new NoSuchElementException();
+                    final MapEntry entry = new MapEntry(next);
+                    next = advance(next + 1);
+                    return entry;
+                }
+            };
+        }
+
+    }
+
+    private final class MapEntry implements Entry<UUID, V> {
+
+        private final int index;
+        private final UUID key;
+
+        private MapEntry(final int index) {
+            this.index = index;
+            this.key = new UUID(mostBits[index], leastBits[index]);
+        }
+
+        @Override
+        public UUID getKey() {
+            return key;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V) values[index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V setValue(final V value) {
+            Objects.requireNonNull(value, "Values in a UUIDHashMap can not be null.");
+            final V previous = (V) values[index];
+            values[index] = value;
+            return previous;
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ values[index].hashCode();
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object other) {
+            if(!(other instanceof Entry)) return false;
+            final Entry<?, ?> entry = (Entry<?, ?>) other;
+            return key.equals(entry.getKey()) && values[index].equals(entry.getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + values[index];
+        }
+
+    }
+
+}
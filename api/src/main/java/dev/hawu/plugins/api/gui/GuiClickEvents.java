@@ -1,6 +1,7 @@
 package dev.hawu.plugins.api.gui;
 
 import dev.hawu.plugins.api.Tasks;
+import dev.hawu.plugins.api.collections.UUIDHashMap;
 import dev.hawu.plugins.api.collections.tuples.Pair;
 import dev.hawu.plugins.api.events.Events;
 import org.bukkit.Bukkit;
@@ -30,7 +31,7 @@ import java.util.function.Consumer;
 public final class GuiClickEvents implements Listener {
 
     private static final GuiClickEvents INSTANCE = new GuiClickEvents();
-    private static final Map<UUID, Pair<Boolean, Consumer<String>>> textInputs = new HashMap<>(); // UUID -> <async, callback>
+    private static final Map<UUID, Pair<Boolean, Consumer<String>>> textInputs = Collections.synchronizedMap(new UUIDHashMap<>()); // UUID -> <async, callback>
 
     private static JavaPlugin plugin;
 
@@ -116,16 +117,15 @@ public final class GuiClickEvents implements Listener {
     @SuppressWarnings("unused")
     @EventHandler(priority = EventPriority.LOWEST)
     private void onChat(final @NotNull AsyncPlayerChatEvent event) {
-        if(!textInputs.containsKey(event.getPlayer().getUniqueId())) return;
+        final Pair<Boolean, Consumer<String>> pair = textInputs.remove(event.getPlayer().getUniqueId());
+        if(pair == null) return;
 
         event.setCancelled(true);
-        final Pair<Boolean, Consumer<String>> pair = textInputs.get(event.getPlayer().getUniqueId());
         if(pair.getFirst()) {
             Tasks.scheduleAsync(plugin, runnable -> pair.getSecond().accept(event.getMessage()));
         } else {
             Tasks.schedule(plugin, runnable -> pair.getSecond().accept(event.getMessage()));
         }
-        textInputs.remove(event.getPlayer().getUniqueId());
     }
 
     @SuppressWarnings("unused")
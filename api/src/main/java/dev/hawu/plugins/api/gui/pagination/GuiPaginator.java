@@ -1,10 +1,11 @@
 package dev.hawu.plugins.api.gui.pagination;
 
+import dev.hawu.plugins.api.collections.LazyReference;
 import dev.hawu.plugins.api.collections.tuples.Pair;
 import dev.hawu.plugins.api.gui.GuiClickEvents;
 import dev.hawu.plugins.api.gui.GuiElement;
 import dev.hawu.plugins.api.gui.GuiModel;
-import dev.hawu.plugins.api.items.ItemStackBuilder;
+import dev.hawu.plugins.api.items.ItemTemplate;
 import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
@@ -33,6 +34,10 @@ public final class GuiPaginator<T> {
     private final PaginationOptions<T> options;
     private final PaginationControlOptions controlOptions;
     private final PaginationFilterOptions filterOptions;
+    // Templates are shared between paginators with equal buttons, and only looked up once rendered.
+    private final LazyReference<ItemTemplate> nextButtonTemplate;
+    private final LazyReference<ItemTemplate> previousButtonTemplate;
+    private final LazyReference<ItemTemplate> filterTemplate;
 
     /**
      * Initializes the data for the paginator to paginate.
@@ -50,6 +55,11 @@ public final class GuiPaginator<T> {
         this.options = options;
         this.controlOptions = controlOptions;
         this.filterOptions = filterOptions;
+        this.nextButtonTemplate = LazyReference.of(() -> ItemTemplate.shared(controlOptions.getNextButtonTemplate()));
+        this.previousButtonTemplate = LazyReference.of(() -> ItemTemplate.shared(controlOptions.getPreviousButtonTemplate()));
+        this.filterTemplate = filterOptions.getFilterTemplate() != null
+            ? LazyReference.of(() -> ItemTemplate.shared(filterOptions.getFilterTemplate()))
+            : null;
     }
 
     /**
@@ -108,7 +118,7 @@ public final class GuiPaginator<T> {
         }
 
         // Put the button to filter elements if specified.
-        if(filterOptions.getFilterTemplate() != null && filterOptions.getFilterSlots().size() > 0 && options.getPredicate() != null) {
+        if(filterTemplate != null && filterOptions.getFilterSlots().size() > 0 && options.getPredicate() != null) {
             final GuiElement<?> filterButton = new GuiElement<Object>() {
                 @Override
                 public void handleClick(final @NotNull InventoryClickEvent event) {
@@ -126,9 +136,7 @@ public final class GuiPaginator<T> {
                 @Override
                 @NotNull
                 public ItemStack render() {
-                    return ItemStackBuilder.from(filterOptions.getFilterTemplate())
-                        .replaceText(Pair.of("filter", filter == null ? "&cN/A" : "&a" + filter))
-                        .build();
+                    return filterTemplate.get().instantiate(Pair.of("filter", filter == null ? "&cN/A" : "&a" + filter));
                 }
             };
             filterOptions.getFilterSlots().forEach(i -> model.mount(i, filterButton));
@@ -157,9 +165,7 @@ public final class GuiPaginator<T> {
             @Override
             @NotNull
             public ItemStack render() {
-                return ItemStackBuilder.from(controlOptions.getNextButtonTemplate())
-                    .replaceText(Pair.of("next", currentIndex + 2))
-                    .build();
+                return nextButtonTemplate.get().instantiate(Pair.of("next", currentIndex + 2));
             }
         };
     }
@@ -175,9 +181,7 @@ public final class GuiPaginator<T> {
             @Override
             @NotNull
             public ItemStack render() {
-                return ItemStackBuilder.from(controlOptions.getPreviousButtonTemplate())
-                    .replaceText(Pair.of("prev", currentIndex))
-                    .build();
+                return previousButtonTemplate.get().instantiate(Pair.of("prev", currentIndex));
             }
         };
     }
@@ -1,6 +1,7 @@
 package dev.hawu.plugins.api.i18n;
 
 import dev.hawu.plugins.api.ObjectUtils;
+import dev.hawu.plugins.api.PlaceholderTemplate;
 import dev.hawu.plugins.api.Strings;
 import dev.hawu.plugins.api.collections.tuples.Pair;
 import dev.hawu.plugins.api.items.ItemStackBuilder;
@@ -13,10 +14,12 @@ import org.jetbrains.annotations.NotNull;
 import java.io.File;
 import java.io.InputStream;
 import java.text.MessageFormat;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -30,6 +33,7 @@ public final class ResourceModule {
     private final String moduleName;
     private final Locale defaultLocale;
     private final Map<Locale, FileConfiguration> configurationMap;
+    private final Map<Locale, Map<String, PlaceholderTemplate>> templateMap;
 
     /**
      * Constructs a new resource module with English as default.
@@ -53,6 +57,27 @@ public final class ResourceModule {
         this.plugin = plugin;
         this.defaultLocale = defaultLocale;
         this.configurationMap = new HashMap<>();
+        this.templateMap = new EnumMap<>(Locale.class);
+        this.reloadConfigurations();
+    }
+
+    /**
+     * Constructs a resource module backed by configurations that are
+     * already loaded, instead of files in a plugin's data folder.
+     * <p>
+     * Reloading such a module only clears its compiled messages.
+     *
+     * @param moduleName     the name of the module
+     * @param configurations the configurations for each available locale
+     * @param defaultLocale  the default locale
+     * @since 1.7
+     */
+    public ResourceModule(final @NotNull String moduleName, final @NotNull Map<Locale, ? extends FileConfiguration> configurations, final @NotNull Locale defaultLocale) {
+        this.moduleName = moduleName;
+        this.plugin = null;
+        this.defaultLocale = defaultLocale;
+        this.configurationMap = new HashMap<>(configurations);
+        this.templateMap = new EnumMap<>(Locale.class);
         this.reloadConfigurations();
     }
 
@@ -63,12 +88,21 @@ public final class ResourceModule {
      */
     @SuppressWarnings("ResultOfMethodCallIgnored")
     public void reloadConfigurations() {
+        if(plugin == null) {
+            synchronized(configurationMap) {
+                templateMap.clear();
+                configurationMap.keySet().forEach(locale -> templateMap.put(locale, new ConcurrentHashMap<>()));
+            }
+            return;
+        }
+
         final String path = MessageFormat.format("lang/{0}", moduleName);
         final File folder = new File(plugin.getDataFolder(), path);
         if(!folder.exists()) folder.mkdirs();
 
         synchronized(configurationMap) {
             configurationMap.clear();
+            templateMap.clear();
             for(final Locale locale : Locale.values()) {
                 final File file = new File(folder, MessageFormat.format("{0}_{1}.yml", moduleName, locale.name()));
                 if(!file.exists()) {
@@ -81,6 +115,7 @@ public final class ResourceModule {
 
                 final YamlConfiguration configuration = YamlConfiguration.loadConfiguration(file);
                 configurationMap.put(locale, configuration);
+                templateMap.put(locale, new ConcurrentHashMap<>());
             }
         }
     }
@@ -106,9 +141,20 @@ public final class ResourceModule {
      */
     @NotNull
     public String translate(final @NotNull Locale locale, final @NotNull String key, final @NotNull Pair<?, ?>... args) {
-        final FileConfiguration configuration = ObjectUtils.elvis(configurationMap.get(locale), configurationMap.get(defaultLocale));
+        final Locale resolved = configurationMap.containsKey(locale) ? locale : defaultLocale;
+        final FileConfiguration configuration = configurationMap.get(resolved);
         if(configuration == null) return key;
-        return Strings.fillPlaceholders(extractString(key, configuration), args);
+
+        // Messages are already colored when extracted, so only the arguments need coloring.
+        final Map<String, PlaceholderTemplate> templates = templateMap.get(resolved);
+        final PlaceholderTemplate template = templates != null
+            ? templates.computeIfAbsent(key, k -> PlaceholderTemplate.compile(extractString(k, configuration)))
+            : PlaceholderTemplate.compile(extractString(key, configuration));
+        if(args.length == 0) return template.getSource();
+
+        // Arguments may name placeholders that the template does not recognize on its own, so always fill.
+        final String filled = template.fill(args);
+        return filled != template.getSource() ? Strings.colorUncached(filled) : filled;
     }
 
     /**
@@ -1,16 +1,18 @@
 package dev.hawu.plugins.api.items;
 
+import dev.hawu.plugins.api.Tasks;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
+import java.io.*;
+import java.util.*;
+import java.util.logging.Level;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -21,11 +23,18 @@ import java.util.stream.Stream;
  */
 public final class BukkitMaterial {
 
-    private static final List<Material> DISPLAYABLE_MATERIALS = new ArrayList<>();
+    private static final String CACHE_FILE = "cache/displayable-materials.dat";
+    private static final int CACHE_FORMAT = 1;
+    private static final long LOAD_TIMEOUT_MILLIS = 10_000;
 
     // These things show up without a texture in Bukkit 1.8, just ignoring them.
     private static final Set<String> IGNORED = Stream.of("SOIL", "BURNING_FURNACE").collect(Collectors.toSet());
 
+    private static final Snapshot EMPTY = new Snapshot(EnumSet.noneOf(Material.class));
+
+    private static volatile Snapshot snapshot;
+    private static volatile boolean loading;
+
     private BukkitMaterial() {}
 
     /**
@@ -35,20 +44,46 @@ public final class BukkitMaterial {
      * @since 1.2
      */
     public static void initialize() {
-        DISPLAYABLE_MATERIALS.clear();
-        final Inventory inventory = Bukkit.createInventory(null, 9);
-        for(final Material material : Material.values()) {
-            // Make sure that the material is not ignored and not legacy (preventing duplicates)
-            if(IGNORED.contains(material.name()) || material.name().startsWith("LEGACY_")) continue;
-            inventory.setItem(0, new ItemStack(material));
-            if(inventory.getItem(0) != null && inventory.getItem(0).getType() != Material.AIR) {
-                DISPLAYABLE_MATERIALS.add(material);
+        publish(compute(), true);
+    }
+
+    /**
+     * Initializes the materials that can be displayed within inventories in the
+     * background, reading them from the plugin's data folder if they were computed
+     * before on the same server version and build.
+     * <p>
+     * If the materials are requested on the main thread before they are loaded,
+     * they are computed on the spot instead. Requests from other threads wait for
+     * the load to finish.
+     *
+     * @param plugin The plugin to schedule with and to store the cache for.
+     * @since 1.7
+     */
+    public static void initialize(final @NotNull JavaPlugin plugin) {
+        final File file = new File(plugin.getDataFolder(), CACHE_FILE);
+        final String key = getCacheKey();
+        loading = true;
+
+        Tasks.scheduleAsync(plugin, runnable -> {
+            final EnumSet<Material> cached = read(file, key);
+            if(cached != null) {
+                publish(cached, false);
+                return;
             }
-        }
+
+            Tasks.schedule(plugin, sync -> {
+                final Snapshot current = ensureLoaded();
+                Tasks.scheduleAsync(plugin, async -> write(plugin, file, key, current.set));
+            });
+        });
     }
 
     /**
      * Retrieves the list of materials that can be displayed.
+     * <p>
+     * The materials can only be computed on the main thread, so requests from other
+     * threads before they are loaded wait for {@link #initialize(JavaPlugin)} to load
+     * them, and see no materials if it was not called or takes too long.
      *
      * @return Said list.
      * @since 1.2
@@ -56,7 +91,128 @@ public final class BukkitMaterial {
     @NotNull
     @UnmodifiableView
     public static List<@NotNull Material> getDisplayableMaterials() {
-        return Collections.unmodifiableList(DISPLAYABLE_MATERIALS);
+        return ensureLoaded().list;
+    }
+
+    /**
+     * Retrieves the set of materials that can be displayed, in declaration order.
+     * This behaves the same as {@link #getDisplayableMaterials()} off the main thread.
+     *
+     * @return Said set.
+     * @since 1.7
+     */
+    @NotNull
+    @UnmodifiableView
+    public static Set<@NotNull Material> getDisplayableMaterialSet() {
+        return ensureLoaded().view;
+    }
+
+    /**
+     * Checks whether the material can be displayed within inventories. This behaves
+     * the same as {@link #getDisplayableMaterials()} off the main thread.
+     *
+     * @param material The material to check.
+     * @return Whether it can be displayed.
+     * @since 1.7
+     */
+    public static boolean isDisplayable(final @Nullable Material material) {
+        return material != null && ensureLoaded().set.contains(material);
+    }
+
+    @NotNull
+    private static Snapshot ensureLoaded() {
+        final Snapshot current = snapshot;
+        if(current != null) return current;
+        // Creating inventories and items is not safe off the main thread.
+        return Bukkit.isPrimaryThread() ? publish(compute(), false) : awaitLoad();
+    }
+
+    @NotNull
+    private static synchronized Snapshot awaitLoad() {
+        final long deadline = System.currentTimeMillis() + LOAD_TIMEOUT_MILLIS;
+        long remaining = LOAD_TIMEOUT_MILLIS;
+        try {
+            while(snapshot == null && loading && remaining > 0) {
+                BukkitMaterial.class.wait(remaining);
+                remaining = deadline - System.currentTimeMillis();
+            }
+        } catch(final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return snapshot != null ? snapshot : EMPTY;
+    }
+
+    private static synchronized Snapshot publish(final @NotNull EnumSet<Material> set, final boolean replace) {
+        if(snapshot == null || replace) snapshot = new Snapshot(set);
+        loading = false;
+        BukkitMaterial.class.notifyAll();
+        return snapshot;
+    }
+
+    @NotNull
+    private static EnumSet<Material> compute() {
+        final EnumSet<Material> set = EnumSet.noneOf(Material.class);
+        final Inventory inventory = Bukkit.createInventory(null, 9);
+        for(final Material material : Material.values()) {
+            // Make sure that the material is not ignored and not legacy (preventing duplicates)
+            if(IGNORED.contains(material.name()) || material.name().startsWith("LEGACY_")) continue;
+            inventory.setItem(0, new ItemStack(material));
+            final ItemStack item = inventory.getItem(0);
+            if(item != null && item.getType() != Material.AIR) set.add(material);
+        }
+        return set;
+    }
+
+    // The material count guards against plugins that patch extra materials in.
+    @NotNull
+    private static String getCacheKey() {
+        return Bukkit.getVersion() + "|" + Bukkit.getBukkitVersion() + "|" + Material.values().length;
+    }
+
+    @Nullable
+    private static EnumSet<Material> read(final @NotNull File file, final @NotNull String key) {
+        if(!file.isFile()) return null;
+        try(final DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if(in.readInt() != CACHE_FORMAT || !in.readUTF().equals(key)) return null;
+
+            final EnumSet<Material> set = EnumSet.noneOf(Material.class);
+            final int size = in.readInt();
+            for(int i = 0; i < size; i++) {
+                final Material material = Material.getMaterial(in.readUTF());
+                if(material == null) return null;
+                set.add(material);
+            }
+            return set;
+        } catch(final IOException ex) {
+            return null;
+        }
+    }
+
+    private static void write(final @NotNull JavaPlugin plugin, final @NotNull File file, final @NotNull String key, final @NotNull Set<Material> set) {
+        final File folder = file.getParentFile();
+        if(!folder.exists()) folder.mkdirs();
+        try(final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(CACHE_FORMAT);
+            out.writeUTF(key);
+            out.writeInt(set.size());
+            for(final Material material : set) out.writeUTF(material.name());
+        } catch(final IOException ex) {
+            plugin.getLogger().log(Level.WARNING, "Failed to cache displayable materials", ex);
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final EnumSet<Material> set;
+        private final Set<Material> view;
+        private final List<Material> list;
+
+        private Snapshot(final @NotNull EnumSet<Material> set) {
+            this.set = set;
+            this.view = Collections.unmodifiableSet(set);
+            this.list = Collections.unmodifiableList(new ArrayList<>(set));
+        }
+
     }
 
 }
@@ -0,0 +1,142 @@
+package dev.hawu.plugins.api.items;
+
+import dev.hawu.plugins.api.nbt.*;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Utility class for encoding item stacks into compact, compressed
+ * named binary tags and back, as a faster alternative to Bukkit's
+ * YAML serialization.
+ * <p>
+ * Items are only guaranteed to be read back on the same server version
+ * they were written on.
+ *
+ * @since 1.7
+ */
+public final class ItemCodec {
+
+    private static final String MATERIAL_KEY = "id";
+    private static final String AMOUNT_KEY = "Count";
+    private static final String DURABILITY_KEY = "Damage";
+    private static final String TAG_KEY = "tag";
+    private static final String SIZE_KEY = "Size";
+    private static final String ITEMS_KEY = "Items";
+    private static final String SLOT_KEY = "Slot";
+
+    // Empty slots are not stored, so the size can not be checked against the data and is capped instead.
+    private static final int MAX_SIZE = 65536;
+
+    private ItemCodec() {}
+
+    /**
+     * Converts the item stack into a compound holding its type, amount,
+     * durability and tag.
+     *
+     * @param item The item to convert.
+     * @return The compound representing the item.
+     * @since 1.7
+     */
+    @NotNull
+    public static NBTCompound toCompound(final @NotNull ItemStack item) {
+        final NBTCompound compound = new NBTCompound();
+        compound.put(MATERIAL_KEY, new NBTString(item.getType().name()));
+        compound.put(AMOUNT_KEY, NBTInt.valueOf(item.getAmount()));
+        compound.put(DURABILITY_KEY, new NBTShort(item.getDurability()));
+
+        final NBTCompound tag = NBTRegistry.getRegistry().getCompound(item);
+        if(tag != null && !tag.isEmpty()) compound.put(TAG_KEY, tag);
+        return compound;
+    }
+
+    /**
+     * Converts a compound made by {@link #toCompound(ItemStack)} back
+     * into an item stack.
+     *
+     * @param compound The compound to convert.
+     * @return The item stack.
+     * @throws IllegalArgumentException If the compound does not represent a known item.
+     * @since 1.7
+     */
+    @NotNull
+    public static ItemStack fromCompound(final @NotNull NBTCompound compound) {
+        final NBTType id = compound.get(MATERIAL_KEY);
+        final Material material = id instanceof NBTString ? Material.getMaterial(((NBTString) id).getData()) : null;
+        if(material == null) throw new IllegalArgumentException("Unknown item type " + id);
+
+        final NBTType amount = compound.get(AMOUNT_KEY);
+        final NBTType durability = compound.get(DURABILITY_KEY);
+        final ItemStack item = new ItemStack(material,
+            amount instanceof NBTInt ? ((NBTInt) amount).getData() : 1,
+            durability instanceof NBTShort ? ((NBTShort) durability).getData() : 0);
+
+        final NBTType tag = compound.get(TAG_KEY);
+        if(tag instanceof NBTCompound) NBTRegistry.getRegistry().writeCompound(item, (NBTCompound) tag);
+        return item;
+    }
+
+    /**
+     * Encodes the items, such as an inventory's contents, into GZIP compressed
+     * bytes. Empty slots are preserved.
+     *
+     * @param items The items to encode, which may contain nulls.
+     * @return The encoded bytes.
+     * @throws IllegalArgumentException If there are more than 65536 slots.
+     * @since 1.7
+     */
+    public static byte @NotNull [] encode(final @Nullable ItemStack @NotNull [] items) {
+        if(items.length > MAX_SIZE) throw new IllegalArgumentException("Can not encode more than " + MAX_SIZE + " slots");
+        final NBTList list = new NBTList();
+        for(int slot = 0; slot < items.length; slot++) {
+            final ItemStack item = items[slot];
+            if(item == null || item.getType() == Material.AIR) continue;
+
+            final NBTCompound compound = toCompound(item);
+            compound.put(SLOT_KEY, NBTInt.valueOf(slot));
+            list.add(compound);
+        }
+
+        final NBTCompound root = new NBTCompound();
+        root.put(SIZE_KEY, NBTInt.valueOf(items.length));
+        root.put(ITEMS_KEY, list);
+        return NBTCodec.toByteArray(root, NBTCodec.Compression.GZIP);
+    }
+
+    /**
+     * Decodes items encoded by {@link #encode(ItemStack[])}, keeping
+     * the items in their original slots.
+     *
+     * @param bytes The encoded bytes.
+     * @return The items, with nulls for empty slots.
+     * @throws IOException If the data is malformed, or holds more than 65536 slots.
+     * @since 1.7
+     */
+    public static @Nullable ItemStack @NotNull [] decode(final byte @NotNull [] bytes) throws IOException {
+        final NBTCompound root = NBTCodec.fromByteArray(bytes, NBTCodec.Compression.GZIP);
+        final NBTType size = root.get(SIZE_KEY);
+        final NBTType list = root.get(ITEMS_KEY);
+        if(!(size instanceof NBTInt) || ((NBTInt) size).getData() < 0 || !(list instanceof NBTList)) throw new IOException("Data does not hold encoded items");
+        if(((NBTInt) size).getData() > MAX_SIZE) throw new IOException("Data holds more than " + MAX_SIZE + " slots");
+
+        final ItemStack[] items = new ItemStack[((NBTInt) size).getData()];
+        for(final NBTType element : (NBTList) list) {
+            if(!(element instanceof NBTCompound)) throw new IOException("Data does not hold encoded items");
+            final NBTType slot = ((NBTCompound) element).get(SLOT_KEY);
+            if(!(slot instanceof NBTInt) || ((NBTInt) slot).getData() < 0 || ((NBTInt) slot).getData() >= items.length) {
+                throw new IOException("Item slot is out of bounds");
+            }
+
+            try {
+                items[((NBTInt) slot).getData()] = fromCompound((NBTCompound) element);
+            } catch(final IllegalArgumentException ex) {
+                throw new IOException(ex);
+            }
+        }
+        return items;
+    }
+
+}
@@ -0,0 +1,186 @@
+package dev.hawu.plugins.api.items;
+
+import dev.hawu.plugins.api.collections.UUIDHashMap;
+import dev.hawu.plugins.api.nbt.NBTRegistry;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Represents an index of custom items, keyed by the fingerprint of their material
+ * and the tags at a fixed set of paths, as computed by
+ * {@link NBTRegistry#fingerprint(ItemStack, String...)}.
+ * <p>
+ * Looking up an item reads its tag once and probes a single {@link UUIDHashMap},
+ * instead of comparing display names or whole compounds. Items are matched
+ * regardless of their amount, durability or any tag outside the paths.
+ * <p>
+ * This index does not accept {@code null} values. It is not thread-safe.
+ *
+ * @param <V> the type of the values
+ * @since 1.7
+ */
+public final class ItemIndex<V> {
+
+    private final String[] paths;
+    // Fingerprints are stored as the most significant half of a UUID key, with the other half always 0.
+    private final UUIDHashMap<V> table = new UUIDHashMap<>();
+
+    private ItemIndex(final @NotNull String @NotNull [] paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * Creates an empty index that identifies items by their material
+     * and the tags at the provided paths.
+     *
+     * @param paths the paths of the tags, with keys of nested compounds separated by dots
+     * @param <V>   the type of the values
+     * @return the new index
+     * @since 1.7
+     */
+    @NotNull
+    public static <V> ItemIndex<V> of(final @NotNull String @NotNull ... paths) {
+        return new ItemIndex<>(paths.clone());
+    }
+
+    /**
+     * Retrieves the paths of the tags this index identifies items by.
+     *
+     * @return a copy of the paths
+     * @since 1.7
+     */
+    @NotNull
+    public String @NotNull [] getPaths() {
+        return paths.clone();
+    }
+
+    /**
+     * Computes the fingerprint this index uses for the item.
+     *
+     * @param item the item to fingerprint
+     * @return the fingerprint
+     * @since 1.7
+     */
+    public long fingerprint(final @NotNull ItemStack item) {
+        return NBTRegistry.getRegistry().fingerprint(item, paths);
+    }
+
+    /**
+     * Retrieves the value bound to the fingerprint.
+     *
+     * @param fingerprint the fingerprint of the item
+     * @return the value, or {@code null} if not present
+     * @since 1.7
+     */
+    @Nullable
+    public V get(final long fingerprint) {
+        return table.get(fingerprint, 0L);
+    }
+
+    /**
+     * Retrieves the value bound to items like the provided item.
+     *
+     * @param item the item to look up, may be null
+     * @return the value, or {@code null} if not present
+     * @since 1.7
+     */
+    @Nullable
+    public V get(final @Nullable ItemStack item) {
+        return item != null ? get(fingerprint(item)) : null;
+    }
+
+    /**
+     * Checks whether a value is bound to items like the provided item.
+     *
+     * @param item the item to look up, may be null
+     * @return whether a value is present
+     * @since 1.7
+     */
+    public boolean contains(final @Nullable ItemStack item) {
+        return item != null && table.get(fingerprint(item), 0L) != null;
+    }
+
+    /**
+     * Binds the value to the fingerprint.
+     *
+     * @param fingerprint the fingerprint of the item
+     * @param value       the value to bind
+     * @return the previous value, or {@code null} if there was none
+     * @since 1.7
+     */
+    @Nullable
+    public V put(final long fingerprint, final @NotNull V value) {
+        Objects.requireNonNull(value, "Values in an ItemIndex can not be null.");
+        return table.put(fingerprint, 0L, value);
+    }
+
+    /**
+     * Binds the value to items like the provided item.
+     *
+     * @param item  the item to bind to
+     * @param value the value to bind
+     * @return the previous value, or {@code null} if there was none
+     * @since 1.7
+     */
+    @Nullable
+    public V put(final @NotNull ItemStack item, final @NotNull V value) {
+        return put(fingerprint(item), value);
+    }
+
+    /**
+     * Removes the value bound to the fingerprint.
+     *
+     * @param fingerprint the fingerprint of the item
+     * @return the removed value, or {@code null} if there was none
+     * @since 1.7
+     */
+    @Nullable
+    public V remove(final long fingerprint) {
+        return table.remove(fingerprint, 0L);
+    }
+
+    /**
+     * Removes the value bound to items like the provided item.
+     *
+     * @param item the item to remove, may be null
+     * @return the removed value, or {@code null} if there was none
+     * @since 1.7
+     */
+    @Nullable
+    public V remove(final @Nullable ItemStack item) {
+        return item != null ? remove(fingerprint(item)) : null;
+    }
+
+    /**
+     * Retrieves the number of values in this index.
+     *
+     * @return the number of values
+     * @since 1.7
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * Checks whether this index holds no values.
+     *
+     * @return whether this index is empty
+     * @since 1.7
+     */
+    public boolean isEmpty() {
+        return table.isEmpty();
+    }
+
+    /**
+     * Removes every value from this index.
+     *
+     * @since 1.7
+     */
+    public void clear() {
+        table.clear();
+    }
+
+}
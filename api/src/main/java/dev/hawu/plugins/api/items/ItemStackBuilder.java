@@ -215,12 +215,12 @@ public final class ItemStackBuilder {
     @NotNull
     public ItemStackBuilder replaceText(final @NotNull Pair<?, ?> @NotNull ... args) {
         if(this.meta.hasDisplayName()) {
-            final String newName = Strings.color(Strings.fillPlaceholders(this.meta.getDisplayName(), args));
+            final String newName = Strings.fillPlaceholders(this.meta.getDisplayName(), args);
             this.meta.setDisplayName(newName);
         }
         if(this.meta.hasLore()) {
             final List<String> newLore = this.meta.getLore().stream()
-                .map(s -> Strings.color(Strings.fillPlaceholders(s, args)))
+                .map(s -> Strings.fillPlaceholders(s, args))
                 .collect(Collectors.toList());
             this.meta.setLore(newLore);
         }
@@ -295,9 +295,20 @@ public final class ItemStackBuilder {
         final ItemStack itemStack = new ItemStack(material, amount, durability);
 
         itemStack.setItemMeta(this.meta);
-        final NBTCompound compound = NBTRegistry.getRegistry().getCompound(itemStack);
-        if(compound != null && this.compound != null) compound.putAll(this.compound);
-        return NBTRegistry.getRegistry().applyCompound(itemStack, compound);
+        if(this.compound == null) return itemStack;
+        return NBTRegistry.getRegistry().edit(itemStack, compound -> compound.putAll(this.compound));
+    }
+
+    /**
+     * Builds the item once and prepares it as a template, for items
+     * that are handed out many times with different placeholder values.
+     *
+     * @return The template of the built item.
+     * @since 1.7
+     */
+    @NotNull
+    public ItemTemplate toTemplate() {
+        return ItemTemplate.of(build());
     }
 
 }
@@ -0,0 +1,186 @@
+package dev.hawu.plugins.api.items;
+
+import dev.hawu.plugins.api.PlaceholderTemplate;
+import dev.hawu.plugins.api.Strings;
+import dev.hawu.plugins.api.collections.Cache;
+import dev.hawu.plugins.api.collections.tuples.Pair;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnmodifiableView;
+
+import java.util.*;
+
+/**
+ * Represents an immutable item that has been prepared once to be handed out many
+ * times, such as a GUI button whose text changes between renders.
+ * <p>
+ * The name and lore are colorized and parsed for placeholders when the template is
+ * created, and the item's tag is kept inside its meta. Instantiating the template
+ * copies the meta once and fills in the placeholders in a single pass, in the same
+ * manner as {@link ItemStackBuilder#replaceText(Pair[])}. Items made for values that
+ * were seen recently are copied from a cache instead.
+ *
+ * @since 1.7
+ */
+public final class ItemTemplate {
+
+    private static final int DEFAULT_CACHE_SIZE = 64;
+    private static final Cache<ItemStack, ItemTemplate> SHARED = Cache.<ItemStack, ItemTemplate>builder()
+        .maximumSize(256)
+        .build(ItemTemplate::of);
+
+    private final ItemStack prototype;
+    private final ItemMeta meta;
+    private final PlaceholderTemplate name;
+    private final PlaceholderTemplate[] lore;
+    private final List<String> placeholders;
+    private final Cache<List<String>, ItemStack> cache;
+
+    private ItemTemplate(final @NotNull ItemStack item, final int cacheSize) {
+        final ItemMeta meta = item.getItemMeta();
+        final Set<String> placeholders = new LinkedHashSet<>();
+        PlaceholderTemplate name = null;
+        PlaceholderTemplate[] lore = null;
+
+        if(meta != null && meta.hasDisplayName()) {
+            name = PlaceholderTemplate.compile(Strings.color(meta.getDisplayName()));
+            meta.setDisplayName(name.getSource());
+            placeholders.addAll(name.getPlaceholders());
+        }
+        if(meta != null && meta.hasLore()) {
+            final List<String> lines = meta.getLore();
+            final List<String> colored = new ArrayList<>(lines.size());
+            lore = new PlaceholderTemplate[lines.size()];
+            for(int i = 0; i < lore.length; i++) {
+                lore[i] = PlaceholderTemplate.compile(Strings.color(lines.get(i)));
+                colored.add(lore[i].getSource());
+                placeholders.addAll(lore[i].getPlaceholders());
+            }
+            meta.setLore(colored);
+        }
+
+        if(meta != null) item.setItemMeta(meta);
+        this.prototype = item;
+        this.meta = meta;
+        this.name = name;
+        this.lore = lore;
+        this.placeholders = Collections.unmodifiableList(new ArrayList<>(placeholders));
+        this.cache = cacheSize > 0 && !placeholders.isEmpty()
+            ? Cache.<List<String>, ItemStack>builder().maximumSize(cacheSize).build(this::create)
+            : null;
+    }
+
+    /**
+     * Creates a template from a copy of the item, caching items
+     * for the most recently used values.
+     *
+     * @param item The item to create from.
+     * @return The new template.
+     * @since 1.7
+     */
+    @NotNull
+    public static ItemTemplate of(final @NotNull ItemStack item) {
+        return of(item, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a template from a copy of the item, caching items for
+     * up to the provided number of distinct values.
+     *
+     * @param item      The item to create from.
+     * @param cacheSize The maximum number of cached items, or 0 to not cache.
+     * @return The new template.
+     * @since 1.7
+     */
+    @NotNull
+    public static ItemTemplate of(final @NotNull ItemStack item, final int cacheSize) {
+        return new ItemTemplate(item.clone(), cacheSize);
+    }
+
+    /**
+     * Retrieves a template for the item that is shared with every caller passing
+     * an equal item, such as GUIs built from the same options, so that they also
+     * share one cache of instantiated items.
+     *
+     * @param item The item to create from, which is copied.
+     * @return The shared template.
+     * @since 1.7
+     */
+    @NotNull
+    public static ItemTemplate shared(final @NotNull ItemStack item) {
+        return Objects.requireNonNull(SHARED.get(item.clone()));
+    }
+
+    /**
+     * Retrieves the distinct placeholders in the name and lore of this
+     * template, in order of first appearance.
+     *
+     * @return The placeholder names.
+     * @since 1.7
+     */
+    @NotNull
+    @UnmodifiableView
+    public List<@NotNull String> getPlaceholders() {
+        return placeholders;
+    }
+
+    /**
+     * Retrieves a copy of the item this template was made of, with
+     * the placeholders unfilled.
+     *
+     * @return The item.
+     * @since 1.7
+     */
+    @NotNull
+    public ItemStack getPrototype() {
+        return prototype.clone();
+    }
+
+    /**
+     * Creates a new item from this template, replacing placeholders in the name
+     * and lore with the provided values and colorizing them.
+     *
+     * @param args The pairs of placeholder names and values.
+     * @return The new item, which the caller is free to modify.
+     * @since 1.7
+     */
+    @NotNull
+    public ItemStack instantiate(final @NotNull Pair<?, ?> @NotNull ... args) {
+        if(placeholders.isEmpty() || args.length == 0) return prototype.clone();
+
+        final String[] values = new String[placeholders.size()];
+        for(final Pair<?, ?> arg : args) {
+            final Object key = arg.getFirstOrNull();
+            if(key == null) continue;
+            final int index = placeholders.indexOf(key.toString());
+            if(index >= 0 && values[index] == null) values[index] = String.valueOf(arg.getSecondOrNull());
+        }
+
+        final List<String> key = Arrays.asList(values);
+        return cache != null ? cache.get(key).clone() : create(key);
+    }
+
+    @NotNull
+    private ItemStack create(final @NotNull List<String> values) {
+        final Map<String, String> map = new HashMap<>();
+        for(int i = 0; i < values.size(); i++) {
+            if(values.get(i) != null) map.put(placeholders.get(i), values.get(i));
+        }
+
+        final ItemMeta meta = this.meta.clone();
+        if(name != null && name.hasPlaceholders()) meta.setDisplayName(Strings.colorUncached(name.fill(map)));
+        if(lore != null) {
+            final List<String> lines = new ArrayList<>(lore.length);
+            for(final PlaceholderTemplate line : lore) {
+                lines.add(line.hasPlaceholders() ? Strings.colorUncached(line.fill(map)) : line.getSource());
+            }
+            meta.setLore(lines);
+        }
+
+        final ItemStack item = new ItemStack(prototype.getType(), prototype.getAmount(), prototype.getDurability());
+        item.setItemMeta(meta);
+        return item;
+    }
+
+}
@@ -29,7 +29,7 @@ public final class SporadicMessenger {
      * @since 1.6
      */
     public SporadicMessenger(final Number cooldown) {
-        map = new CooldownMap<>(cooldown.longValue());
+        map = CooldownMap.forUUIDs(cooldown);
     }
 
     /**
@@ -1,5 +1,6 @@
 package dev.hawu.plugins.api.misc;
 
+import dev.hawu.plugins.api.collections.LazyReference;
 import dev.hawu.plugins.api.exceptions.AlreadyInitializedException;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
@@ -8,6 +9,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * The class for looking up entities around a location.
@@ -18,7 +20,7 @@ import java.util.Objects;
  */
 public abstract class WorldEntitiesLookupAdapter {
 
-    private static WorldEntitiesLookupAdapter adapter;
+    private static volatile LazyReference<WorldEntitiesLookupAdapter> adapter;
 
     /**
      * Gets entities around a location.
@@ -52,7 +54,7 @@ public abstract class WorldEntitiesLookupAdapter {
      */
     @NotNull
     public static WorldEntitiesLookupAdapter getAdapter() {
-        return Objects.requireNonNull(adapter, "Entities lookup adapter is not yet initialized.");
+        return Objects.requireNonNull(adapter, "Entities lookup adapter is not yet initialized.").get();
     }
 
     /**
@@ -63,7 +65,18 @@ public abstract class WorldEntitiesLookupAdapter {
      */
     public static void setAdapter(@NotNull WorldEntitiesLookupAdapter lookupAdapter) {
         if(adapter != null) throw new AlreadyInitializedException("World Entities Lookup adapter is already initialized.");
-        adapter = lookupAdapter;
+        adapter = LazyReference.of(lookupAdapter);
+    }
+
+    /**
+     * Initializes the adapter, which is only created the first time it is retrieved.
+     *
+     * @param supplier the supplier of the adapter to use.
+     * @since 1.7
+     */
+    public static void setAdapter(final @NotNull Supplier<? extends @NotNull WorldEntitiesLookupAdapter> supplier) {
+        if(adapter != null) throw new AlreadyInitializedException("World Entities Lookup adapter is already initialized.");
+        adapter = LazyReference.of(supplier::get);
     }
 
 }
@@ -0,0 +1,190 @@
+package dev.hawu.plugins.api.nbt;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Backing map for {@link NBTCompound}s that keeps up to {@value #MAX_COMPACT_SIZE}
+ * entries in two small arrays, in insertion order, and only switches to a
+ * {@link HashMap} once it grows past that.
+ * <p>
+ * Most compounds on items hold only a handful of keys, for which a linear
+ * search is as fast as hashing and needs no entry objects.
+ *
+ * @since 1.7
+ */
+final class CompactMap extends AbstractMap<String, NBTType> {
+
+    static final int MAX_COMPACT_SIZE = 8;
+
+    private String[] keys;
+    private NBTType[] values;
+    private int size;
+    private Map<String, NBTType> inflated;
+
+    CompactMap() {
+        this.keys = new String[4];
+        this.values = new NBTType[4];
+    }
+
+    private CompactMap(final @NotNull CompactMap other) {
+        if(other.inflated != null) {
+            this.inflated = new HashMap<>(other.inflated);
+        } else {
+            this.keys = Arrays.copyOf(other.keys, other.keys.length);
+            this.values = Arrays.copyOf(other.values, other.values.length);
+            this.size = other.size;
+        }
+    }
+
+    @NotNull
+    CompactMap copy() {
+        return new CompactMap(this);
+    }
+
+    private int indexOf(final @Nullable Object key) {
+        if(key == null) return -1;
+        for(int i = 0; i < size; i++) {
+            if(key.equals(keys[i])) return i;
+        }
+        return -1;
+    }
+
+    private void removeAt(final int index) {
+        final int moved = size - index - 1;
+        System.arraycopy(keys, index + 1, keys, index, moved);
+        System.arraycopy(values, index + 1, values, index, moved);
+        size--;
+        keys[size] = null;
+        values[size] = null;
+    }
+
+    @Override
+    public int size() {
+        return inflated != null ? inflated.size() : size;
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable Object key) {
+        return inflated != null ? inflated.containsKey(key) : indexOf(key) >= 0;
+    }
+
+    @Override
+    @Nullable
+    public NBTType get(final @Nullable Object key) {
+        if(inflated != null) return inflated.get(key);
+        final int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    @Nullable
+    public NBTType put(final @NotNull String key, final @NotNull NBTType value) {
+        if(inflated != null) return inflated.put(key, value);
+
+        final int index = indexOf(key);
+        if(index >= 0) {
+            final NBTType old = values[index];
+            values[index] = value;
+            return old;
+        }
+
+        if(size == MAX_COMPACT_SIZE) {
+            inflated = new HashMap<>(MAX_COMPACT_SIZE * 4);
+            for(int i = 0; i < size; i++) inflated.put(keys[i], values[i]);
+            keys = null;
+            values = null;
+            size = 0;
+            return inflated.put(key, value);
+        }
+
+        if(size == keys.length) {
+            keys = Arrays.copyOf(keys, MAX_COMPACT_SIZE);
+            values = Arrays.copyOf(values, MAX_COMPACT_SIZE);
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public NBTType remove(final @Nullable Object key) {
+        if(inflated != null) return inflated.remove(key);
+
+        final int index = indexOf(key);
+        if(index < 0) return null;
+        final NBTType old = values[index];
+        removeAt(index);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        if(inflated != null) {
+            inflated = null;
+            keys = new String[4];
+            values = new NBTType[4];
+        } else {
+            Arrays.fill(keys, 0, size, null);
+            Arrays.fill(values, 0, size, null);
+        }
+        size = 0;
+    }
+
+    @Override
+    @NotNull
+    public Set<Entry<String, NBTType>> entrySet() {
+        return new AbstractSet<Entry<String, NBTType>>() {
+            @Override
+            public int size() {
+                return CompactMap.this.size();
+            }
+
+            @Override
+            @NotNull
+            public Iterator<Entry<String, NBTType>> iterator() {
+                return inflated != null ? inflated.entrySet().iterator() : new CompactIterator();
+            }
+        };
+    }
+
+    private final class CompactIterator implements Iterator<Entry<String, NBTType>> {
+
+        private int next;
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            return inflated == null && next < size;
+        }
+
+        @Override
+        @NotNull
+        public Entry<String, NBTType> next() {
+            if(!hasNext()) throw new NoSuchElementException();
+            last = next++;
+            final int index = last;
+            return new SimpleEntry<String, NBTType>(keys[index], values[index]) {
+                @Override
+                public NBTType setValue(final @NotNull NBTType value) {
+                    values[index] = value;
+                    return super.setValue(value);
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if(last < 0) throw new IllegalStateException();
+            removeAt(last);
+            next = last;
+            last = -1;
+        }
+
+    }
+
+}
@@ -11,6 +11,12 @@ import org.jetbrains.annotations.Nullable;
  */
 public final class NBTByte extends NBTType {
 
+    private static final NBTByte[] CACHE = new NBTByte[256];
+
+    static {
+        for(int i = 0; i < CACHE.length; i++) CACHE[i] = new NBTByte((byte) (i + Byte.MIN_VALUE));
+    }
+
     private final byte data;
 
     /**
@@ -24,6 +30,19 @@ public final class NBTByte extends NBTType {
         this.data = value;
     }
 
+    /**
+     * Retrieves a shared tag holding the provided value. As tags are
+     * immutable, this should be preferred over the constructor.
+     *
+     * @param value The value of the tag.
+     * @return The shared tag.
+     * @since 1.7
+     */
+    @NotNull
+    public static NBTByte valueOf(final byte value) {
+        return CACHE[value - Byte.MIN_VALUE];
+    }
+
     /**
      * Retrieves the contained value in the form
      * of a {@link Byte}.
@@ -52,6 +71,11 @@ public final class NBTByte extends NBTType {
         return ((NBTByte) other).data == data;
     }
 
+    @Override
+    public byte getTypeId() {
+        return NBTCodec.TAG_BYTE;
+    }
+
     @Override
     @NotNull
     public NBTType clone() {
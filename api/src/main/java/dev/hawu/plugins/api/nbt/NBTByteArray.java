@@ -57,6 +57,11 @@ public final class NBTByteArray extends NBTType {
         return Arrays.equals(((NBTByteArray) other).data, data);
     }
 
+    @Override
+    public byte getTypeId() {
+        return NBTCodec.TAG_BYTE_ARRAY;
+    }
+
     @Override
     @NotNull
     public NBTType clone() {
@@ -0,0 +1,590 @@
+package dev.hawu.plugins.api.nbt;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Utility class for reading and writing tags in the standard
+ * Named Binary Tag format, the same one Minecraft uses for its
+ * data files, without going through the server.
+ *
+ * @since 1.7
+ */
+public final class NBTCodec {
+
+    /**
+     * The type id of the tag that marks the end of a compound.
+     *
+     * @since 1.7
+     */
+    public static final byte TAG_END = 0;
+
+    /**
+     * The type id of an 8-bit integer tag.
+     *
+     * @since 1.7
+     */
+    public static final byte TAG_BYTE = 1;
+
+    /**
+     * The type id of a 16-bit integer tag.
+     *
+     * @since 1.7
+     */
+    public static final byte TAG_SHORT = 2;
+
+    /**
+     * The type id of a 32-bit integer tag.
+     *
+     * @since 1.7
+     */
+    public static final byte TAG_INT = 3;
+
+    /**
+     * The type id of a 64-bit integer tag.
+     *
+     * @since 1.7
+     */
+    public static final byte TAG_LONG = 4;
+
+    /**
+     * The type id of a 32-bit floating point tag.
+     *
+     * @since 1.7
+     */
+    public static final byte TAG_FLOAT = 5;
+
+    /**
+     * The type id of a 64-bit floating point tag.
+     *
+     * @since 1.7
+     */
+    public static final byte TAG_DOUBLE = 6;
+
+    /**
+     * The type id of an array of 8-bit integers.
+     *
+     * @since 1.7
+     */
+    public static final byte TAG_BYTE_ARRAY = 7;
+
+    /**
+     * The type id of a string tag.
+     *
+     * @since 1.7
+     */
+    public static final byte TAG_STRING = 8;
+
+    /**
+     * The type id of a list tag.
+     *
+     * @since 1.7
+     */
+    public static final byte TAG_LIST = 9;
+
+    /**
+     * The type id of a compound tag.
+     *
+     * @since 1.7
+     */
+    public static final byte TAG_COMPOUND = 10;
+
+    /**
+     * The type id of an array of 32-bit integers.
+     *
+     * @since 1.7
+     */
+    public static final byte TAG_INT_ARRAY = 11;
+
+    /**
+     * The type id of an array of 64-bit integers.
+     *
+     * @since 1.7
+     */
+    public static final byte TAG_LONG_ARRAY = 12;
+
+    private static final int MAX_DEPTH = 512;
+
+    // Lengths are read from the input, so arrays start at this many elements and grow as
+    // the elements actually arrive, instead of letting a few bytes claim gigabytes.
+    private static final int CHUNK_LENGTH = 8192;
+
+    private NBTCodec() {}
+
+    /**
+     * Represents the compression applied around the binary data.
+     *
+     * @since 1.7
+     */
+    public enum Compression {
+
+        /**
+         * No compression, as used by network packets.
+         *
+         * @since 1.7
+         */
+        NONE,
+
+        /**
+         * GZIP compression, as used by Minecraft's data files.
+         *
+         * @since 1.7
+         */
+        GZIP,
+
+        /**
+         * Raw DEFLATE compression with a zlib header, as used by region files.
+         *
+         * @since 1.7
+         */
+        DEFLATE;
+
+        @NotNull
+        private OutputStream wrap(final @NotNull OutputStream stream) throws IOException {
+            switch(this) {
+                case GZIP:
+                    return new GZIPOutputStream(stream);
+                case DEFLATE:
+                    return new DeflaterOutputStream(stream);
+                default:
+                    return stream;
+            }
+        }
+
+        @NotNull
+        private InputStream wrap(final @NotNull InputStream stream) throws IOException {
+            switch(this) {
+                case GZIP:
+                    return new GZIPInputStream(stream);
+                case DEFLATE:
+                    return new InflaterInputStream(stream);
+                default:
+                    return stream;
+            }
+        }
+
+    }
+
+    /**
+     * Writes the compound as a named root tag.
+     *
+     * @param output   The output to write to.
+     * @param name     The name of the root tag, usually empty.
+     * @param compound The compound to write.
+     * @throws IOException If the output could not be written to.
+     * @since 1.7
+     */
+    public static void write(@NotNull final DataOutput output, @NotNull final String name, @NotNull final NBTCompound compound) throws IOException {
+        output.writeByte(TAG_COMPOUND);
+        output.writeUTF(name);
+        writePayload(output, compound);
+    }
+
+    /**
+     * Writes the compound as an unnamed root tag into a stream, with
+     * the provided compression. The stream is not closed.
+     *
+     * @param stream      The stream to write to.
+     * @param compound    The compound to write.
+     * @param compression The compression to apply.
+     * @throws IOException If the stream could not be written to.
+     * @since 1.7
+     */
+    public static void write(@NotNull final OutputStream stream, @NotNull final NBTCompound compound, @NotNull final Compression compression) throws IOException {
+        final OutputStream wrapped = compression.wrap(new NonClosingOutputStream(stream));
+        try(final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(wrapped))) {
+            write(output, "", compound);
+        }
+    }
+
+    /**
+     * Writes the compound as an uncompressed, unnamed root tag into a buffer.
+     *
+     * @param buffer   The buffer to write to.
+     * @param compound The compound to write.
+     * @throws java.nio.BufferOverflowException If the buffer does not have enough space remaining.
+     * @since 1.7
+     */
+    public static void write(@NotNull final ByteBuffer buffer, @NotNull final NBTCompound compound) {
+        try {
+            write(new DataOutputStream(new ByteBufferOutputStream(buffer)), "", compound);
+        } catch(final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Encodes the compound as an unnamed root tag with the provided compression.
+     *
+     * @param compound    The compound to encode.
+     * @param compression The compression to apply.
+     * @return The encoded bytes.
+     * @since 1.7
+     */
+    public static byte @NotNull [] toByteArray(@NotNull final NBTCompound compound, @NotNull final Compression compression) {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream(256);
+        try {
+            write(stream, compound, compression);
+        } catch(final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return stream.toByteArray();
+    }
+
+    /**
+     * Reads a named root compound, discarding its name.
+     *
+     * @param input The input to read from.
+     * @return The compound that was read.
+     * @throws IOException If the input could not be read, or the data is malformed.
+     * @since 1.7
+     */
+    @NotNull
+    public static NBTCompound read(@NotNull final DataInput input) throws IOException {
+        final byte type = input.readByte();
+        if(type != TAG_COMPOUND) throw new IOException("Root tag must be a compound, found type " + type);
+        input.readUTF();
+        return (NBTCompound) readPayload(input, TAG_COMPOUND, 0);
+    }
+
+    /**
+     * Reads a root compound from a stream with the provided compression.
+     * The stream is not closed, but it may be read past the end of the tag.
+     *
+     * @param stream      The stream to read from.
+     * @param compression The compression the data was written with.
+     * @return The compound that was read.
+     * @throws IOException If the stream could not be read, or the data is malformed.
+     * @since 1.7
+     */
+    @NotNull
+    public static NBTCompound read(@NotNull final InputStream stream, @NotNull final Compression compression) throws IOException {
+        final InputStream unwrapped = compression.wrap(new NonClosingInputStream(stream));
+        try(final DataInputStream input = new DataInputStream(new BufferedInputStream(unwrapped))) {
+            return read(input);
+        }
+    }
+
+    /**
+     * Reads an uncompressed root compound from a buffer, advancing its position.
+     *
+     * @param buffer The buffer to read from.
+     * @return The compound that was read.
+     * @throws IOException If the data is malformed.
+     * @since 1.7
+     */
+    @NotNull
+    public static NBTCompound read(@NotNull final ByteBuffer buffer) throws IOException {
+        return read(new DataInputStream(new ByteBufferInputStream(buffer)));
+    }
+
+    /**
+     * Decodes a root compound from bytes with the provided compression.
+     *
+     * @param bytes       The encoded bytes.
+     * @param compression The compression the data was written with.
+     * @return The compound that was read.
+     * @throws IOException If the data is malformed.
+     * @since 1.7
+     */
+    @NotNull
+    public static NBTCompound fromByteArray(final byte @NotNull [] bytes, @NotNull final Compression compression) throws IOException {
+        return read(new ByteArrayInputStream(bytes), compression);
+    }
+
+    /**
+     * Writes only the payload of a tag, without its type id and name.
+     *
+     * @param output The output to write to.
+     * @param tag    The tag to write.
+     * @throws IOException If the output could not be written to.
+     * @since 1.7
+     */
+    public static void writePayload(@NotNull final DataOutput output, @NotNull final NBTType tag) throws IOException {
+        switch(tag.getTypeId()) {
+            case TAG_BYTE:
+                output.writeByte(((NBTByte) tag).getData());
+                break;
+            case TAG_SHORT:
+                output.writeShort(((NBTShort) tag).getData());
+                break;
+            case TAG_INT:
+                output.writeInt(((NBTInt) tag).getData());
+                break;
+            case TAG_LONG:
+                output.writeLong(((NBTLong) tag).getData());
+                break;
+            case TAG_FLOAT:
+                output.writeFloat(((NBTFloat) tag).getData());
+                break;
+            case TAG_DOUBLE:
+                output.writeDouble(((NBTDouble) tag).getData());
+                break;
+            case TAG_BYTE_ARRAY: {
+                final byte[] data = ((NBTByteArray) tag).getData();
+                output.writeInt(data.length);
+                output.write(data);
+                break;
+            }
+            case TAG_STRING:
+                output.writeUTF(((NBTString) tag).getData());
+                break;
+            case TAG_LIST: {
+                final List<NBTType> list = ((NBTList) tag).getBackingList();
+                final byte elementType = list.isEmpty() ? TAG_END : list.get(0).getTypeId();
+                output.writeByte(elementType);
+                output.writeInt(list.size());
+                if(list instanceof PackedList) {
+                    ((PackedList) list).writeElements(output);
+                    break;
+                }
+
+                for(final NBTType element : list) {
+                    if(element.getTypeId() != elementType) throw new IllegalArgumentException("Lists must only hold tags of the same type");
+                    writePayload(output, element);
+                }
+                break;
+            }
+            case TAG_COMPOUND:
+                for(final Map.Entry<String, NBTType> entry : ((NBTCompound) tag).getBackingMap().entrySet()) {
+                    output.writeByte(entry.getValue().getTypeId());
+                    output.writeUTF(entry.getKey());
+                    writePayload(output, entry.getValue());
+                }
+                output.writeByte(TAG_END);
+                break;
+            case TAG_INT_ARRAY: {
+                final int[] data = ((NBTIntArray) tag).getData();
+                output.writeInt(data.length);
+                for(final int i : data) output.writeInt(i);
+                break;
+            }
+            case TAG_LONG_ARRAY: {
+                final long[] data = ((NBTLongArray) tag).getData();
+                output.writeInt(data.length);
+                for(final long l : data) output.writeLong(l);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Reads only the payload of a tag whose type id is already known.
+     *
+     * @param input The input to read from.
+     * @param type  The type id of the tag.
+     * @return The tag that was read.
+     * @throws IOException If the input could not be read, or the data is malformed.
+     * @since 1.7
+     */
+    @NotNull
+    public static NBTType readPayload(@NotNull final DataInput input, final byte type) throws IOException {
+        return readPayload(input, type, 0);
+    }
+
+    @NotNull
+    private static NBTType readPayload(@NotNull final DataInput input, final byte type, final int depth) throws IOException {
+        if(depth > MAX_DEPTH) throw new IOException("Tag is nested deeper than " + MAX_DEPTH);
+        switch(type) {
+            case TAG_BYTE:
+                return NBTByte.valueOf(input.readByte());
+            case TAG_SHORT:
+                return new NBTShort(input.readShort());
+            case TAG_INT:
+                return NBTInt.valueOf(input.readInt());
+            case TAG_LONG:
+                return new NBTLong(input.readLong());
+            case TAG_FLOAT:
+                return new NBTFloat(input.readFloat());
+            case TAG_DOUBLE:
+                return new NBTDouble(input.readDouble());
+            case TAG_BYTE_ARRAY:
+                return new NBTByteArray(readBytes(input, readLength(input)));
+            case TAG_STRING:
+                return new NBTString(input.readUTF());
+            case TAG_LIST: {
+                final byte elementType = input.readByte();
+                final int length = readLength(input);
+                if(elementType == TAG_END && length > 0) throw new IOException("List of end tags can not have elements");
+                final NBTList packed = readPackedList(input, elementType, length);
+                if(packed != null) return packed;
+
+                final NBTList list = new NBTList();
+                for(int i = 0; i < length; i++) list.add(readPayload(input, elementType, depth + 1));
+                return list;
+            }
+            case TAG_COMPOUND: {
+                final NBTCompound compound = new NBTCompound();
+                byte elementType;
+                while((elementType = input.readByte()) != TAG_END) {
+                    final String key = input.readUTF();
+                    compound.put(key, readPayload(input, elementType, depth + 1));
+                }
+                return compound;
+            }
+            case TAG_INT_ARRAY:
+                return new NBTIntArray(readInts(input, readLength(input)));
+            case TAG_LONG_ARRAY:
+                return new NBTLongArray(readLongs(input, readLength(input)));
+            default:
+                throw new IOException("Unknown tag type " + type);
+        }
+    }
+
+    @Nullable
+    private static NBTList readPackedList(@NotNull final DataInput input, final byte elementType, final int length) throws IOException {
+        switch(elementType) {
+            case TAG_INT:
+                return NBTList.ofInts(readInts(input, length));
+            case TAG_LONG:
+                return NBTList.ofLongs(readLongs(input, length));
+            case TAG_FLOAT: {
+                float[] values = new float[Math.min(length, CHUNK_LENGTH)];
+                for(int i = 0; i < length; i++) {
+                    if(i == values.length) values = Arrays.copyOf(values, grow(length, i));
+                    values[i] = input.readFloat();
+                }
+                return NBTList.ofFloats(values);
+            }
+            case TAG_DOUBLE: {
+                double[] values = new double[Math.min(length, CHUNK_LENGTH)];
+                for(int i = 0; i < length; i++) {
+                    if(i == values.length) values = Arrays.copyOf(values, grow(length, i));
+                    values[i] = input.readDouble();
+                }
+                return NBTList.ofDoubles(values);
+            }
+            default:
+                return null;
+        }
+    }
+
+    private static int readLength(@NotNull final DataInput input) throws IOException {
+        final int length = input.readInt();
+        if(length < 0) throw new IOException("Negative length " + length);
+        return length;
+    }
+
+    // Doubles the capacity of an array that has been filled up to read elements, without exceeding length.
+    private static int grow(final int length, final int read) {
+        return (int) Math.min(length, Math.max(CHUNK_LENGTH, (long) read * 2));
+    }
+
+    private static byte @NotNull [] readBytes(@NotNull final DataInput input, final int length) throws IOException {
+        byte[] data = new byte[Math.min(length, CHUNK_LENGTH)];
+        int read = 0;
+        while(true) {
+            input.readFully(data, read, data.length - read);
+            read = data.length;
+            if(read == length) return data;
+            data = Arrays.copyOf(data, grow(length, read));
+        }
+    }
+
+    private static int @NotNull [] readInts(@NotNull final DataInput input, final int length) throws IOException {
+        int[] data = new int[Math.min(length, CHUNK_LENGTH)];
+        for(int i = 0; i < length; i++) {
+            if(i == data.length) data = Arrays.copyOf(data, grow(length, i));
+            data[i] = input.readInt();
+        }
+        return data;
+    }
+
+    private static long @NotNull [] readLongs(@NotNull final DataInput input, final int length) throws IOException {
+        long[] data = new long[Math.min(length, CHUNK_LENGTH)];
+        for(int i = 0; i < length; i++) {
+            if(i == data.length) data = Arrays.copyOf(data, grow(length, i));
+            data[i] = input.readLong();
+        }
+        return data;
+    }
+
+    private static final class ByteBufferOutputStream extends OutputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferOutputStream(final @NotNull ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(final int b) {
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(final byte @NotNull [] b, final int off, final int len) {
+            buffer.put(b, off, len);
+        }
+
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(final @NotNull ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte @NotNull [] b, final int off, final int len) {
+            if(len == 0) return 0;
+            if(!buffer.hasRemaining()) return -1;
+            final int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+    }
+
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        private NonClosingOutputStream(final @NotNull OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final byte @NotNull [] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+    }
+
+    private static final class NonClosingInputStream extends FilterInputStream {
+
+        private NonClosingInputStream(final @NotNull InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {}
+
+    }
+
+}
@@ -4,6 +4,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -14,20 +15,34 @@ import java.util.function.Function;
 /**
  * Represents a compound tag that holds an underlying
  * map of {@link String} and {@link NBTType}.
+ * <p>
+ * Clones of {@link #freeze() frozen} compounds are copy-on-write: {@link #clone()}
+ * shares the frozen entries, and the clone only copies a level once it is modified
+ * or hands out a nested compound or list, which are cloned the same way. Unmodified
+ * subtrees therefore stay shared however deep they are. Cloning a mutable compound
+ * copies every mutable level, since its nested tags may still be modified through
+ * references held elsewhere, but still shares the frozen subtrees within it.
+ * <p>
+ * While a clone shares its entries, {@link #forEach(BiConsumer)} and the views
+ * read them without copying, and the views are read-only. Any other method that
+ * modifies the clone, or hands out a nested compound or list, copies the level first.
  *
  * @since 1.0
  */
 public final class NBTCompound extends NBTType implements Map<@NotNull String, @NotNull NBTType> {
 
-    private final Map<String, NBTType> map;
+    private Map<String, NBTType> map;
+    private boolean shared;
+    private boolean frozen;
 
     /**
-     * Constructs a new compound with an empty hash map.
+     * Constructs a new empty compound. Small compounds keep their
+     * entries compactly in insertion order until they grow larger.
      *
      * @since 1.0
      */
     public NBTCompound() {
-        this.map = new HashMap<>();
+        this.map = new CompactMap();
     }
 
     /**
@@ -41,6 +56,69 @@ public final class NBTCompound extends NBTType implements Map<@NotNull String, @
         this.map = map;
     }
 
+    /**
+     * Makes this compound and every compound and list nested in it deeply
+     * immutable, so that any attempt to modify them throws an
+     * {@link UnsupportedOperationException}.
+     * <p>
+     * A frozen compound can be read and {@link #clone() cloned} from many threads
+     * at once, which makes it suitable as a template that is handed out to many
+     * builders. Its clones are mutable and still share the frozen entries until
+     * they are modified. The arrays of array tags are not copied.
+     *
+     * @return This compound.
+     * @since 1.7
+     */
+    @NotNull
+    public NBTCompound freeze() {
+        if(frozen) return this;
+        for(final NBTType value : map.values()) {
+            if(value instanceof NBTCompound) ((NBTCompound) value).freeze();
+            else if(value instanceof NBTList) ((NBTList) value).freeze();
+        }
+        frozen = true;
+        return this;
+    }
+
+    /**
+     * Checks whether this compound has been {@link #freeze() frozen}.
+     *
+     * @return Whether this compound is frozen.
+     * @since 1.7
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    @NotNull
+    Map<String, NBTType> getBackingMap() {
+        return map;
+    }
+
+    @NotNull
+    private Map<String, NBTType> copyEntries() {
+        final Map<String, NBTType> copy = map instanceof CompactMap ? ((CompactMap) map).copy() : new HashMap<>(map);
+        copy.replaceAll((key, value) -> value instanceof NBTCompound || value instanceof NBTList ? value.clone() : value);
+        return copy;
+    }
+
+    private void detach() {
+        if(!shared || frozen) return;
+        map = copyEntries();
+        shared = false;
+    }
+
+    // Shared entries belong to a frozen compound, so they can only be read.
+    @NotNull
+    private Map<String, NBTType> view() {
+        return frozen || shared ? Collections.unmodifiableMap(map) : map;
+    }
+
+    private void checkMutable() {
+        if(frozen) throw new UnsupportedOperationException("This compound is frozen");
+        detach();
+    }
+
     @Override
     public @NotNull String toString() {
         return map.toString();
@@ -57,9 +135,18 @@ public final class NBTCompound extends NBTType implements Map<@NotNull String, @
         return map.equals(((NBTCompound) other).map);
     }
 
+    @Override
+    public byte getTypeId() {
+        return NBTCodec.TAG_COMPOUND;
+    }
+
     @Override
     public @NotNull NBTType clone() {
-        return new NBTCompound(new HashMap<>(this.map));
+        // Frozen entries never change, so they are shared until the clone modifies them.
+        if(!frozen && !shared) return new NBTCompound(copyEntries());
+        final NBTCompound clone = new NBTCompound(map);
+        clone.shared = true;
+        return clone;
     }
 
     @Override
@@ -85,45 +172,52 @@ public final class NBTCompound extends NBTType implements Map<@NotNull String, @
     @Override
     @Nullable
     public NBTType get(@Nullable final Object key) {
+        final NBTType value = map.get(key);
+        if(!shared || frozen || !(value instanceof NBTCompound || value instanceof NBTList)) return value;
+        detach();
         return map.get(key);
     }
 
     @Override
     public @Nullable NBTType put(@NotNull final String key, @NotNull final NBTType value) {
+        checkMutable();
         return map.put(key, value);
     }
 
     @Override
     public @Nullable NBTType remove(final Object key) {
+        checkMutable();
         return map.remove(key);
     }
 
     @Override
     public void putAll(@NotNull final Map<? extends @NotNull String, ? extends @NotNull NBTType> m) {
+        checkMutable();
         map.putAll(m);
     }
 
     @Override
     public void clear() {
+        checkMutable();
         map.clear();
     }
 
     @NotNull
     @Override
     public Set<@NotNull String> keySet() {
-        return map.keySet();
+        return view().keySet();
     }
 
     @NotNull
     @Override
     public Collection<@NotNull NBTType> values() {
-        return map.values();
+        return view().values();
     }
 
     @NotNull
     @Override
     public Set<Entry<@NotNull String, @NotNull NBTType>> entrySet() {
-        return map.entrySet();
+        return view().entrySet();
     }
 
     @Override
@@ -133,38 +227,44 @@ public final class NBTCompound extends NBTType implements Map<@NotNull String, @
 
     @Override
     public void forEach(final BiConsumer<? super @NotNull String, ? super @NotNull NBTType> action) {
-        Map.super.forEach(action);
+        map.forEach(action);
     }
 
     @Override
     public void replaceAll(final BiFunction<? super @NotNull String, ? super @NotNull NBTType, ? extends @NotNull NBTType> function) {
+        checkMutable();
         Map.super.replaceAll(function);
     }
 
     @Nullable
     @Override
     public NBTType putIfAbsent(@NotNull final String key, @NotNull final NBTType value) {
+        checkMutable();
         return Map.super.putIfAbsent(key, value);
     }
 
     @Override
     public boolean remove(@Nullable final Object key, @Nullable final Object value) {
+        checkMutable();
         return Map.super.remove(key, value);
     }
 
     @Override
     public boolean replace(@NotNull final String key, @NotNull final NBTType oldValue, @NotNull final NBTType newValue) {
+        checkMutable();
         return Map.super.replace(key, oldValue, newValue);
     }
 
     @Nullable
     @Override
     public NBTType replace(@NotNull final String key, @NotNull final NBTType value) {
+        checkMutable();
         return Map.super.replace(key, value);
     }
 
     @Override
     public @NotNull NBTType computeIfAbsent(@NotNull final String key, @NotNull final Function<? super @NotNull String, ? extends @NotNull NBTType> mappingFunction) {
+        checkMutable();
         return Map.super.computeIfAbsent(key, mappingFunction);
     }
 
@@ -172,18 +272,21 @@ public final class NBTCompound extends NBTType implements Map<@NotNull String, @
     @Nullable
     public NBTType computeIfPresent(@NotNull final String key,
                                     @NotNull final BiFunction<? super @NotNull String, ? super @NotNull NBTType, ? extends @NotNull NBTType> remappingFunction) {
+        checkMutable();
         return Map.super.computeIfPresent(key, remappingFunction);
     }
 
     @Override
     public @NotNull NBTType compute(@NotNull final String key,
                                     @NotNull final BiFunction<? super @NotNull String, ? super @NotNull NBTType, ? extends @NotNull NBTType> remappingFunction) {
+        checkMutable();
         return Map.super.compute(key, remappingFunction);
     }
 
     @Override
     public @NotNull NBTType merge(@NotNull final String key, @NotNull final NBTType value,
                                   @NotNull final BiFunction<? super @NotNull NBTType, ? super @NotNull NBTType, ? extends @NotNull NBTType> remappingFunction) {
+        checkMutable();
         return Map.super.merge(key, value, remappingFunction);
     }
 
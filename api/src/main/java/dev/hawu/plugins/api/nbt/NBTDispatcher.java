@@ -0,0 +1,171 @@
+package dev.hawu.plugins.api.nbt;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Converts between this API's tags and another implementation's tags, such
+ * as Minecraft's, through tables indexed by the numeric type id of the tag.
+ * <p>
+ * Each type is registered once, usually when the registry is constructed.
+ * The type id of a foreign tag is resolved from its class on first sight
+ * and remembered, so converting a tag never walks a chain of type checks.
+ *
+ * @param <T> The base type of the foreign tags.
+ * @since 1.7
+ */
+public final class NBTDispatcher<T> {
+
+    private static final int TABLE_SIZE = NBTCodec.TAG_LONG_ARRAY + 1;
+
+    private final Class<T> baseClass;
+    private final Map<Class<?>, Byte> registeredIds = new IdentityHashMap<>();
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private final Function<? super T, ? extends NBTType>[] fromForeign = new Function[TABLE_SIZE];
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private final Function<? super NBTType, ? extends T>[] toForeign = new Function[TABLE_SIZE];
+    private final ClassValue<Byte> resolvedIds = new ClassValue<Byte>() {
+        @Override
+        protected Byte computeValue(final Class<?> type) {
+            for(Class<?> current = type; current != null; current = current.getSuperclass()) {
+                final Byte id = registeredIds.get(current);
+                if(id != null) return id;
+            }
+            return NBTCodec.TAG_END;
+        }
+    };
+
+    /**
+     * Constructs an empty dispatcher for foreign tags of the provided base type.
+     *
+     * @param baseClass The base type of the foreign tags.
+     * @since 1.7
+     */
+    public NBTDispatcher(@NotNull final Class<T> baseClass) {
+        this.baseClass = baseClass;
+    }
+
+    /**
+     * Registers the conversions for the tag type with the provided id. All types
+     * should be registered before the dispatcher is first used.
+     *
+     * @param typeId       The type id, as in the {@code TAG_} constants of {@link NBTCodec}.
+     * @param foreignClass The class of the foreign tags of this type.
+     * @param fromForeign  The function converting a foreign tag of this type.
+     * @param toForeign    The function converting this API's tag of this type.
+     * @param <F>          The type of the foreign tags.
+     * @return This dispatcher, for chaining.
+     * @throws IllegalArgumentException If the type id is not a valid tag type.
+     * @since 1.7
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <F extends T> NBTDispatcher<T> register(final byte typeId, @NotNull final Class<F> foreignClass,
+                                                   @NotNull final Function<? super F, ? extends NBTType> fromForeign,
+                                                   @NotNull final Function<? super NBTType, ? extends F> toForeign) {
+        if(typeId <= NBTCodec.TAG_END || typeId >= TABLE_SIZE) throw new IllegalArgumentException("Invalid tag type id " + typeId);
+        registeredIds.put(foreignClass, typeId);
+        this.fromForeign[typeId] = (Function<? super T, ? extends NBTType>) fromForeign;
+        this.toForeign[typeId] = toForeign;
+        return this;
+    }
+
+    /**
+     * Retrieves the type id of the foreign tag.
+     *
+     * @param tag The foreign tag.
+     * @return The type id, or {@link NBTCodec#TAG_END} if its type is not registered.
+     * @since 1.7
+     */
+    public byte getTypeId(@NotNull final T tag) {
+        return resolvedIds.get(tag.getClass());
+    }
+
+    /**
+     * Converts the foreign tag into this API's tag.
+     *
+     * @param tag The foreign tag.
+     * @return The converted tag, or null if its type is not registered.
+     * @since 1.7
+     */
+    @Nullable
+    public NBTType fromForeign(@NotNull final T tag) {
+        final Function<? super T, ? extends NBTType> function = fromForeign[getTypeId(tag)];
+        return function != null ? function.apply(tag) : null;
+    }
+
+    /**
+     * Converts the elements of a foreign list tag into this API's list. Lists of
+     * int, long, float or double tags are {@link NBTList#ofInts(int...) packed},
+     * storing their values in an array instead of a tag for every element.
+     *
+     * @param size     The number of elements in the foreign list.
+     * @param elements The function retrieving the foreign element at an index.
+     * @return The converted list, without the elements whose type is not registered.
+     * @since 1.7
+     */
+    @NotNull
+    public NBTList listFromForeign(final int size, @NotNull final IntFunction<? extends T> elements) {
+        if(size == 0) return new NBTList();
+        final byte elementType = getTypeId(elements.apply(0));
+        if(fromForeign[elementType] != null) {
+            switch(elementType) {
+                case NBTCodec.TAG_INT: {
+                    final int[] values = new int[size];
+                    for(int i = 0; i < size; i++) values[i] = ((NBTInt) element(elementType, elements.apply(i))).getData();
+                    return NBTList.ofInts(values);
+                }
+                case NBTCodec.TAG_LONG: {
+                    final long[] values = new long[size];
+                    for(int i = 0; i < size; i++) values[i] = ((NBTLong) element(elementType, elements.apply(i))).getData();
+                    return NBTList.ofLongs(values);
+                }
+                case NBTCodec.TAG_FLOAT: {
+                    final float[] values = new float[size];
+                    for(int i = 0; i < size; i++) values[i] = ((NBTFloat) element(elementType, elements.apply(i))).getData();
+                    return NBTList.ofFloats(values);
+                }
+                case NBTCodec.TAG_DOUBLE: {
+                    final double[] values = new double[size];
+                    for(int i = 0; i < size; i++) values[i] = ((NBTDouble) element(elementType, elements.apply(i))).getData();
+                    return NBTList.ofDoubles(values);
+                }
+            }
+        }
+
+        final NBTList list = new NBTList(new ArrayList<>(size));
+        for(int i = 0; i < size; i++) {
+            final NBTType element = fromForeign(elements.apply(i));
+            if(element != null) list.add(element);
+        }
+        return list;
+    }
+
+    // List tags only hold elements of one type, so the type of the first element is used for the rest.
+    @NotNull
+    private NBTType element(final byte elementType, @NotNull final T tag) {
+        final NBTType element = fromForeign[elementType].apply(tag);
+        if(element == null) throw new IllegalArgumentException("Could not convert list element " + tag);
+        return element;
+    }
+
+    /**
+     * Converts this API's tag into the foreign tag.
+     *
+     * @param tag This API's tag.
+     * @return The converted tag, or null if its type is not registered.
+     * @since 1.7
+     */
+    @Nullable
+    public T toForeign(@NotNull final NBTType tag) {
+        final Function<? super NBTType, ? extends T> function = toForeign[tag.getTypeId()];
+        return function != null ? baseClass.cast(function.apply(tag)) : null;
+    }
+
+}
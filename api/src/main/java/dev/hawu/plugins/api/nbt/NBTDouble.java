@@ -52,6 +52,11 @@ public final class NBTDouble extends NBTType {
         return ((NBTDouble) other).data == data;
     }
 
+    @Override
+    public byte getTypeId() {
+        return NBTCodec.TAG_DOUBLE;
+    }
+
     @Override
     @NotNull
     public NBTType clone() {
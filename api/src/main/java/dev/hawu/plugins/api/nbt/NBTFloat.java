@@ -52,6 +52,11 @@ public final class NBTFloat extends NBTType {
         return ((NBTFloat) other).data == data;
     }
 
+    @Override
+    public byte getTypeId() {
+        return NBTCodec.TAG_FLOAT;
+    }
+
     @Override
     @NotNull
     public NBTType clone() {
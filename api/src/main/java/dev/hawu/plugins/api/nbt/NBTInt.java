@@ -11,6 +11,14 @@ import org.jetbrains.annotations.Nullable;
  */
 public final class NBTInt extends NBTType {
 
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 1024;
+    private static final NBTInt[] CACHE = new NBTInt[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for(int i = 0; i < CACHE.length; i++) CACHE[i] = new NBTInt(i + CACHE_LOW);
+    }
+
     private final int data;
 
     /**
@@ -24,6 +32,20 @@ public final class NBTInt extends NBTType {
         this.data = value;
     }
 
+    /**
+     * Retrieves a tag holding the provided value, shared for small values
+     * between {@code -128} and {@code 1024}. As tags are immutable, this should
+     * be preferred over the constructor.
+     *
+     * @param value The value of the tag.
+     * @return The tag, which may be shared.
+     * @since 1.7
+     */
+    @NotNull
+    public static NBTInt valueOf(final int value) {
+        return value >= CACHE_LOW && value <= CACHE_HIGH ? CACHE[value - CACHE_LOW] : new NBTInt(value);
+    }
+
     /**
      * Retrieves the contained value in the form
      * of a {@link Integer}.
@@ -52,6 +74,11 @@ public final class NBTInt extends NBTType {
         return ((NBTInt) other).data == data;
     }
 
+    @Override
+    public byte getTypeId() {
+        return NBTCodec.TAG_INT;
+    }
+
     @Override
     @NotNull
     public NBTType clone() {
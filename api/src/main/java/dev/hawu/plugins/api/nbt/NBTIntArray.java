@@ -55,6 +55,11 @@ public final class NBTIntArray extends NBTType {
         return Arrays.equals(((NBTIntArray) other).data, data);
     }
 
+    @Override
+    public byte getTypeId() {
+        return NBTCodec.TAG_INT_ARRAY;
+    }
+
     @Override
     @NotNull
     public NBTType clone() {
@@ -8,12 +8,18 @@ import java.util.*;
 /**
  * Represents a generic tag list that holds multiple
  * tags in insertion order.
+ * <p>
+ * Like {@link NBTCompound}s, clones of frozen lists are copy-on-write, and
+ * clones of mutable lists copy every mutable level. While a clone shares its
+ * elements, iterating it does not copy them, and its iterators are read-only.
  *
  * @since 1.0
  */
 public final class NBTList extends NBTType implements List<NBTType> {
 
-    private final List<@NotNull NBTType> list;
+    private List<@NotNull NBTType> list;
+    private boolean shared;
+    private boolean frozen;
 
     /**
      * Constructs the tag with an empty list of tags.
@@ -35,6 +41,180 @@ public final class NBTList extends NBTType implements List<NBTType> {
         this.list = list;
     }
 
+    /**
+     * Constructs a list of int tags that stores the values in the provided
+     * array instead of wrapping each one. The array is used directly.
+     * <p>
+     * The returned list can only hold {@link NBTInt}s.
+     *
+     * @param values The values of the tags.
+     * @return The packed list.
+     * @since 1.7
+     */
+    @NotNull
+    public static NBTList ofInts(final int @NotNull ... values) {
+        return new NBTList(new PackedList.Ints(values));
+    }
+
+    /**
+     * Constructs a list of long tags that stores the values in the provided
+     * array instead of wrapping each one. The array is used directly.
+     * <p>
+     * The returned list can only hold {@link NBTLong}s.
+     *
+     * @param values The values of the tags.
+     * @return The packed list.
+     * @since 1.7
+     */
+    @NotNull
+    public static NBTList ofLongs(final long @NotNull ... values) {
+        return new NBTList(new PackedList.Longs(values));
+    }
+
+    /**
+     * Constructs a list of float tags that stores the values in the provided
+     * array instead of wrapping each one. The array is used directly.
+     * <p>
+     * The returned list can only hold {@link NBTFloat}s.
+     *
+     * @param values The values of the tags.
+     * @return The packed list.
+     * @since 1.7
+     */
+    @NotNull
+    public static NBTList ofFloats(final float @NotNull ... values) {
+        return new NBTList(new PackedList.Floats(values));
+    }
+
+    /**
+     * Constructs a list of double tags that stores the values in the provided
+     * array instead of wrapping each one. The array is used directly.
+     * <p>
+     * The returned list can only hold {@link NBTDouble}s.
+     *
+     * @param values The values of the tags.
+     * @return The packed list.
+     * @since 1.7
+     */
+    @NotNull
+    public static NBTList ofDoubles(final double @NotNull ... values) {
+        return new NBTList(new PackedList.Doubles(values));
+    }
+
+    /**
+     * Makes this list and every compound and list nested in it deeply
+     * immutable, so that any attempt to modify them throws an
+     * {@link UnsupportedOperationException}.
+     *
+     * @return This list.
+     * @see NBTCompound#freeze()
+     * @since 1.7
+     */
+    @NotNull
+    public NBTList freeze() {
+        if(frozen) return this;
+        if(!(list instanceof PackedList)) {
+            for(final NBTType element : list) {
+                if(element instanceof NBTCompound) ((NBTCompound) element).freeze();
+                else if(element instanceof NBTList) ((NBTList) element).freeze();
+            }
+        }
+        frozen = true;
+        return this;
+    }
+
+    /**
+     * Checks whether this list has been {@link #freeze() frozen}.
+     *
+     * @return Whether this list is frozen.
+     * @since 1.7
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    @NotNull
+    List<@NotNull NBTType> getBackingList() {
+        return list;
+    }
+
+    @NotNull
+    private List<@NotNull NBTType> copyElements() {
+        if(list instanceof PackedList) return ((PackedList) list).copy();
+        final List<NBTType> copy = new ArrayList<>(list);
+        copy.replaceAll(element -> element instanceof NBTCompound || element instanceof NBTList ? element.clone() : element);
+        return copy;
+    }
+
+    private void detach() {
+        if(!shared || frozen) return;
+        list = copyElements();
+        shared = false;
+    }
+
+    private void checkMutable() {
+        if(frozen) throw new UnsupportedOperationException("This list is frozen");
+        detach();
+    }
+
+    // Shared elements belong to a frozen list, so they can only be read.
+    @NotNull
+    private List<@NotNull NBTType> view() {
+        return frozen || shared ? Collections.unmodifiableList(list) : list;
+    }
+
+    /**
+     * Retrieves the value of the int tag at the index, without
+     * creating the tag if the list is packed.
+     *
+     * @param index The index of the tag.
+     * @return The value of the tag.
+     * @throws ClassCastException If the tag at the index is not an int.
+     * @since 1.7
+     */
+    public int getInt(final int index) {
+        return list instanceof PackedList.Ints ? ((PackedList.Ints) list).getInt(index) : ((NBTInt) list.get(index)).getData();
+    }
+
+    /**
+     * Retrieves the value of the long tag at the index, without
+     * creating the tag if the list is packed.
+     *
+     * @param index The index of the tag.
+     * @return The value of the tag.
+     * @throws ClassCastException If the tag at the index is not a long.
+     * @since 1.7
+     */
+    public long getLong(final int index) {
+        return list instanceof PackedList.Longs ? ((PackedList.Longs) list).getLong(index) : ((NBTLong) list.get(index)).getData();
+    }
+
+    /**
+     * Retrieves the value of the float tag at the index, without
+     * creating the tag if the list is packed.
+     *
+     * @param index The index of the tag.
+     * @return The value of the tag.
+     * @throws ClassCastException If the tag at the index is not a float.
+     * @since 1.7
+     */
+    public float getFloat(final int index) {
+        return list instanceof PackedList.Floats ? ((PackedList.Floats) list).getFloat(index) : ((NBTFloat) list.get(index)).getData();
+    }
+
+    /**
+     * Retrieves the value of the double tag at the index, without
+     * creating the tag if the list is packed.
+     *
+     * @param index The index of the tag.
+     * @return The value of the tag.
+     * @throws ClassCastException If the tag at the index is not a double.
+     * @since 1.7
+     */
+    public double getDouble(final int index) {
+        return list instanceof PackedList.Doubles ? ((PackedList.Doubles) list).getDouble(index) : ((NBTDouble) list.get(index)).getData();
+    }
+
     @Override
     @NotNull
     public String toString() {
@@ -52,10 +232,19 @@ public final class NBTList extends NBTType implements List<NBTType> {
         return ((NBTList) other).list.equals(list);
     }
 
+    @Override
+    public byte getTypeId() {
+        return NBTCodec.TAG_LIST;
+    }
+
     @Override
     @NotNull
     public NBTType clone() {
-        return new NBTList(new ArrayList<>(list));
+        // Frozen elements never change, so they are shared until the clone modifies them.
+        if(!frozen && !shared) return new NBTList(copyElements());
+        final NBTList clone = new NBTList(list);
+        clone.shared = true;
+        return clone;
     }
 
     @Override
@@ -76,23 +265,24 @@ public final class NBTList extends NBTType implements List<NBTType> {
     @NotNull
     @Override
     public Iterator<@NotNull NBTType> iterator() {
-        return list.iterator();
+        return view().iterator();
     }
 
     @Override
     @NotNull
     public Object @NotNull [] toArray() {
-        return list.toArray();
+        return view().toArray();
     }
 
     @NotNull
     @Override
     public <T> T @NotNull [] toArray(@NotNull final T @NotNull [] a) {
-        return list.toArray(a);
+        return view().toArray(a);
     }
 
     @Override
     public boolean add(@NotNull final NBTType nbtType) {
+        checkMutable();
         return list.add(nbtType);
     }
 
@@ -105,7 +295,8 @@ public final class NBTList extends NBTType implements List<NBTType> {
      * @since 1.0
      */
     public boolean addByte(final byte b) {
-        return list.add(new NBTByte(b));
+        checkMutable();
+        return list.add(NBTByte.valueOf(b));
     }
 
     /**
@@ -117,6 +308,7 @@ public final class NBTList extends NBTType implements List<NBTType> {
      * @since 1.0
      */
     public boolean addShort(final short s) {
+        checkMutable();
         return list.add(new NBTShort(s));
     }
 
@@ -129,7 +321,8 @@ public final class NBTList extends NBTType implements List<NBTType> {
      * @since 1.0
      */
     public boolean addInt(final int i) {
-        return list.add(new NBTInt(i));
+        checkMutable();
+        return list.add(NBTInt.valueOf(i));
     }
 
     /**
@@ -141,6 +334,7 @@ public final class NBTList extends NBTType implements List<NBTType> {
      * @since 1.0
      */
     public boolean addLong(final long l) {
+        checkMutable();
         return list.add(new NBTLong(l));
     }
 
@@ -153,6 +347,7 @@ public final class NBTList extends NBTType implements List<NBTType> {
      * @since 1.0
      */
     public boolean addFloat(final float f) {
+        checkMutable();
         return list.add(new NBTFloat(f));
     }
 
@@ -165,6 +360,7 @@ public final class NBTList extends NBTType implements List<NBTType> {
      * @since 1.0
      */
     public boolean addDouble(final double d) {
+        checkMutable();
         return list.add(new NBTDouble(d));
     }
 
@@ -177,6 +373,7 @@ public final class NBTList extends NBTType implements List<NBTType> {
      * @since 1.0
      */
     public boolean addString(@NotNull final String s) {
+        checkMutable();
         return list.add(new NBTString(s));
     }
 
@@ -189,6 +386,7 @@ public final class NBTList extends NBTType implements List<NBTType> {
      * @since 1.0
      */
     public boolean addByteArray(final byte[] array) {
+        checkMutable();
         return list.add(new NBTByteArray(array));
     }
 
@@ -201,6 +399,7 @@ public final class NBTList extends NBTType implements List<NBTType> {
      * @since 1.0
      */
     public boolean addIntArray(final int[] array) {
+        checkMutable();
         return list.add(new NBTIntArray(array));
     }
 
@@ -213,6 +412,7 @@ public final class NBTList extends NBTType implements List<NBTType> {
      * @since 1.0
      */
     public boolean addLongArray(final long[] array) {
+        checkMutable();
         return list.add(new NBTLongArray(array));
     }
 
@@ -225,6 +425,7 @@ public final class NBTList extends NBTType implements List<NBTType> {
      * @since 1.0
      */
     public boolean addList(@NotNull final List<@NotNull NBTType> list) {
+        checkMutable();
         return list.add(new NBTList(list));
     }
 
@@ -237,11 +438,13 @@ public final class NBTList extends NBTType implements List<NBTType> {
      * @since 1.0
      */
     public boolean addCompound(@NotNull final Map<@NotNull String, @NotNull NBTType> map) {
+        checkMutable();
         return list.add(new NBTCompound(map));
     }
 
     @Override
     public boolean remove(@Nullable final Object o) {
+        checkMutable();
         return list.remove(o);
     }
 
@@ -252,49 +455,60 @@ public final class NBTList extends NBTType implements List<NBTType> {
 
     @Override
     public boolean addAll(@NotNull final Collection<? extends NBTType> c) {
+        checkMutable();
         return list.addAll(c);
     }
 
     @Override
     public boolean addAll(final int index, @NotNull final Collection<? extends NBTType> c) {
+        checkMutable();
         return list.addAll(index, c);
     }
 
     @Override
     public boolean removeAll(@NotNull final Collection<?> c) {
+        checkMutable();
         return list.removeAll(c);
     }
 
     @Override
     public boolean retainAll(@NotNull final Collection<?> c) {
+        checkMutable();
         return list.retainAll(c);
     }
 
     @Override
     public void clear() {
+        checkMutable();
         list.clear();
     }
 
     @Override
     @NotNull
     public NBTType get(final int index) {
+        final NBTType element = list.get(index);
+        if(!shared || frozen || !(element instanceof NBTCompound || element instanceof NBTList)) return element;
+        detach();
         return list.get(index);
     }
 
     @Override
     @NotNull
     public NBTType set(final int index, @NotNull final NBTType element) {
+        checkMutable();
         return list.set(index, element);
     }
 
     @Override
     public void add(final int index, @NotNull final NBTType element) {
+        checkMutable();
         list.add(index, element);
     }
 
     @Override
     @NotNull
     public NBTType remove(final int index) {
+        checkMutable();
         return list.remove(index);
     }
 
@@ -311,19 +525,19 @@ public final class NBTList extends NBTType implements List<NBTType> {
     @NotNull
     @Override
     public ListIterator<@NotNull NBTType> listIterator() {
-        return list.listIterator();
+        return view().listIterator();
     }
 
     @NotNull
     @Override
     public ListIterator<@NotNull NBTType> listIterator(final int index) {
-        return list.listIterator(index);
+        return view().listIterator(index);
     }
 
     @NotNull
     @Override
     public List<@NotNull NBTType> subList(final int fromIndex, final int toIndex) {
-        return list.subList(fromIndex, toIndex);
+        return view().subList(fromIndex, toIndex);
     }
 
 }
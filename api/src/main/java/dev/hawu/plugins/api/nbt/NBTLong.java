@@ -52,6 +52,11 @@ public final class NBTLong extends NBTType {
         return ((NBTLong) other).data == data;
     }
 
+    @Override
+    public byte getTypeId() {
+        return NBTCodec.TAG_LONG;
+    }
+
     @Override
     @NotNull
     public NBTType clone() {
@@ -55,6 +55,11 @@ public final class NBTLongArray extends NBTType {
         return Arrays.equals(((NBTLongArray) other).data, data);
     }
 
+    @Override
+    public byte getTypeId() {
+        return NBTCodec.TAG_LONG_ARRAY;
+    }
+
     @Override
     @NotNull
     public NBTType clone() {
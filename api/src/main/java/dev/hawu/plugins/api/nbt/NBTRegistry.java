@@ -1,11 +1,20 @@
 package dev.hawu.plugins.api.nbt;
 
+import dev.hawu.plugins.api.collections.LazyReference;
 import dev.hawu.plugins.api.reflect.LookupException;
 import dev.hawu.plugins.api.reflect.MinecraftVersion;
+import dev.hawu.plugins.api.reflect.SimpleLookup;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.function.Consumer;
+
 /**
  * Represents an abstract registry for converting from this API's
  * types of tags into Minecraft's and vice versa.
@@ -14,7 +23,18 @@ import org.jetbrains.annotations.Nullable;
  */
 public abstract class NBTRegistry {
 
+    private static final long FINGERPRINT_SEED = 0xcbf29ce484222325L;
+
     private static NBTRegistry registry;
+    private static final LazyReference<MethodHandle> HANDLE_GETTER = LazyReference.of(() -> {
+        try {
+            final Field field = SimpleLookup.lookupOBC("inventory.CraftItemStack").getDeclaredField("handle");
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(field).asType(MethodType.methodType(Object.class, ItemStack.class));
+        } catch(final NoSuchFieldException | IllegalAccessException ex) {
+            throw new LookupException(ex);
+        }
+    });
 
     /**
      * Retrieves the computed registry for converting named binary tags.
@@ -54,4 +74,310 @@ public abstract class NBTRegistry {
     @NotNull
     public abstract ItemStack applyCompound(@NotNull final ItemStack item, @Nullable final NBTCompound compound);
 
+    /**
+     * Writes the compound into the item itself instead of a copy. Items backed by
+     * a Minecraft item are modified directly, other items have their meta replaced.
+     *
+     * @param item     The item whose tag to override.
+     * @param compound The compound to write, or null to remove the tag.
+     * @since 1.7
+     */
+    public abstract void writeCompound(@NotNull final ItemStack item, @Nullable final NBTCompound compound);
+
+    /**
+     * Reads the item's compound once, lets the editor modify it and
+     * writes it back into the item once.
+     * <p>
+     * If the item has no compound, the editor receives an empty one.
+     *
+     * @param item   The item to edit.
+     * @param editor The consumer to modify the compound.
+     * @return The same item, for chaining.
+     * @since 1.7
+     */
+    @NotNull
+    public ItemStack edit(@NotNull final ItemStack item, @NotNull final Consumer<@NotNull NBTCompound> editor) {
+        final NBTCompound compound = getCompound(item);
+        final NBTCompound target = compound != null ? compound : new NBTCompound();
+        editor.accept(target);
+        writeCompound(item, target);
+        return item;
+    }
+
+    /**
+     * Retrieves the Minecraft's compound held by the item, without copying it if the item
+     * is already backed by a Minecraft item. The returned tag must not be modified.
+     *
+     * @param item The item whose tag to retrieve.
+     * @return The Minecraft's compound, or null if the item has none.
+     * @since 1.7
+     */
+    @Nullable
+    protected abstract Object getTag(@NotNull final ItemStack item);
+
+    /**
+     * Retrieves the Minecraft's tag bound to the key in a Minecraft's compound.
+     *
+     * @param compound The Minecraft's tag to look into.
+     * @param key      The key to look for.
+     * @return The tag bound to the key, or null if there is none or the tag is not a compound.
+     * @since 1.7
+     */
+    @Nullable
+    protected abstract Object getTag(@NotNull final Object compound, @NotNull final String key);
+
+    /**
+     * Converts a single Minecraft's tag into this API's type.
+     *
+     * @param tag The Minecraft's tag.
+     * @return The converted tag, or null if the type is not supported.
+     * @since 1.7
+     */
+    @Nullable
+    protected abstract NBTType toAPIType(@NotNull final Object tag);
+
+    /**
+     * Converts a single tag of this API into Minecraft's type.
+     *
+     * @param tag The tag to convert.
+     * @return The Minecraft's tag, or null if the type is not supported.
+     * @since 1.7
+     */
+    @Nullable
+    protected abstract Object toNMSType(@NotNull final NBTType tag);
+
+    /**
+     * Retrieves the Minecraft's item that backs a CraftBukkit item stack.
+     *
+     * @param item The CraftBukkit item stack.
+     * @return The Minecraft's item, can be null for empty items.
+     * @since 1.7
+     */
+    @Nullable
+    protected static Object getHandle(@NotNull final ItemStack item) {
+        try {
+            return (Object) HANDLE_GETTER.get().invokeExact(item);
+        } catch(final Throwable throwable) {
+            throw new LookupException(throwable);
+        }
+    }
+
+    @Nullable
+    private Object resolve(@NotNull final ItemStack item, @NotNull final String path) {
+        final Object root = getTag(item);
+        return root != null ? resolve(root, path) : null;
+    }
+
+    @Nullable
+    private Object resolve(@NotNull final Object root, @NotNull final String path) {
+        Object tag = root;
+        int start = 0;
+        while(tag != null) {
+            final int end = path.indexOf('.', start);
+            tag = getTag(tag, end < 0 ? path.substring(start) : path.substring(start, end));
+            if(end < 0) break;
+            start = end + 1;
+        }
+        return tag;
+    }
+
+    /**
+     * Checks if the item holds a tag at the provided path, where keys of
+     * nested compounds are separated by dots, such as {@code display.Name}.
+     * <p>
+     * This reads the item's tag directly, without converting it.
+     *
+     * @param item The item to check.
+     * @param path The path to the tag.
+     * @return True if a tag is present at the path.
+     * @since 1.7
+     */
+    public boolean has(@NotNull final ItemStack item, @NotNull final String path) {
+        return resolve(item, path) != null;
+    }
+
+    /**
+     * Retrieves the tag at the provided path, where keys of nested compounds are
+     * separated by dots. Only the tag at the path is converted.
+     *
+     * @param item The item to look into.
+     * @param path The path to the tag.
+     * @return The tag at the path, or null if there is none.
+     * @since 1.7
+     */
+    @Nullable
+    public NBTType get(@NotNull final ItemStack item, @NotNull final String path) {
+        final Object tag = resolve(item, path);
+        return tag != null ? toAPIType(tag) : null;
+    }
+
+    /**
+     * Retrieves the number at the provided path as an int, in the same
+     * manner as {@link #get(ItemStack, String)}.
+     *
+     * @param item The item to look into.
+     * @param path The path to the tag.
+     * @return The number at the path, or 0 if there is no number there.
+     * @since 1.7
+     */
+    public int getInt(@NotNull final ItemStack item, @NotNull final String path) {
+        final Number number = toNumber(get(item, path));
+        return number != null ? number.intValue() : 0;
+    }
+
+    /**
+     * Retrieves the number at the provided path as a long, in the same
+     * manner as {@link #get(ItemStack, String)}.
+     *
+     * @param item The item to look into.
+     * @param path The path to the tag.
+     * @return The number at the path, or 0 if there is no number there.
+     * @since 1.7
+     */
+    public long getLong(@NotNull final ItemStack item, @NotNull final String path) {
+        final Number number = toNumber(get(item, path));
+        return number != null ? number.longValue() : 0L;
+    }
+
+    /**
+     * Retrieves the number at the provided path as a double, in the same
+     * manner as {@link #get(ItemStack, String)}.
+     *
+     * @param item The item to look into.
+     * @param path The path to the tag.
+     * @return The number at the path, or 0 if there is no number there.
+     * @since 1.7
+     */
+    public double getDouble(@NotNull final ItemStack item, @NotNull final String path) {
+        final Number number = toNumber(get(item, path));
+        return number != null ? number.doubleValue() : 0D;
+    }
+
+    /**
+     * Retrieves the string at the provided path, in the same
+     * manner as {@link #get(ItemStack, String)}.
+     *
+     * @param item The item to look into.
+     * @param path The path to the tag.
+     * @return The string at the path, or null if there is no string there.
+     * @since 1.7
+     */
+    @Nullable
+    public String getString(@NotNull final ItemStack item, @NotNull final String path) {
+        final NBTType tag = get(item, path);
+        return tag instanceof NBTString ? ((NBTString) tag).getData() : null;
+    }
+
+    /**
+     * Computes a 64-bit fingerprint of the item's material and the tags at the
+     * provided paths, in the same manner as {@link #get(ItemStack, String)}. The item's
+     * tag is read once and only the tags at the paths are converted.
+     * <p>
+     * The fingerprint does not depend on the order of keys in compounds, and stays
+     * the same across restarts on the same server version, so it can be stored for as
+     * long as the server is not updated. Material names and the tags the server writes
+     * may change between versions, which changes the fingerprint. Items with
+     * different fingerprints are never equal on those paths, and items with equal
+     * fingerprints are equal on them with overwhelming probability.
+     *
+     * @param item  The item to fingerprint.
+     * @param paths The paths of the tags that identify the item.
+     * @return The fingerprint.
+     * @since 1.7
+     */
+    public long fingerprint(@NotNull final ItemStack item, @NotNull final String @NotNull ... paths) {
+        long hash = hashString(FINGERPRINT_SEED, item.getType().name());
+        final Object root = paths.length > 0 ? getTag(item) : null;
+        for(final String path : paths) {
+            final Object tag = root != null ? resolve(root, path) : null;
+            final NBTType value = tag != null ? toAPIType(tag) : null;
+            hash = value != null ? hashTag(hash, value) : step(hash, NBTCodec.TAG_END);
+        }
+        return finish(hash);
+    }
+
+    @Nullable
+    private static Number toNumber(@Nullable final NBTType tag) {
+        if(tag instanceof NBTByte) return ((NBTByte) tag).getData();
+        else if(tag instanceof NBTShort) return ((NBTShort) tag).getData();
+        else if(tag instanceof NBTInt) return ((NBTInt) tag).getData();
+        else if(tag instanceof NBTLong) return ((NBTLong) tag).getData();
+        else if(tag instanceof NBTFloat) return ((NBTFloat) tag).getData();
+        else if(tag instanceof NBTDouble) return ((NBTDouble) tag).getData();
+        else return null;
+    }
+
+    private static long step(final long hash, final long value) {
+        return (hash ^ value) * 0x100000001b3L;
+    }
+
+    private static long finish(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ hash >>> 33;
+    }
+
+    private static long hashString(long hash, @NotNull final String string) {
+        hash = step(hash, string.length());
+        for(int i = 0; i < string.length(); i++) hash = step(hash, string.charAt(i));
+        return hash;
+    }
+
+    private static long hashTag(long hash, @NotNull final NBTType tag) {
+        hash = step(hash, tag.getTypeId());
+        switch(tag.getTypeId()) {
+            case NBTCodec.TAG_BYTE:
+                return step(hash, ((NBTByte) tag).getData());
+            case NBTCodec.TAG_SHORT:
+                return step(hash, ((NBTShort) tag).getData());
+            case NBTCodec.TAG_INT:
+                return step(hash, ((NBTInt) tag).getData());
+            case NBTCodec.TAG_LONG:
+                return step(hash, ((NBTLong) tag).getData());
+            case NBTCodec.TAG_FLOAT:
+                return step(hash, Float.floatToIntBits(((NBTFloat) tag).getData()));
+            case NBTCodec.TAG_DOUBLE:
+                return step(hash, Double.doubleToLongBits(((NBTDouble) tag).getData()));
+            case NBTCodec.TAG_STRING:
+                return hashString(hash, ((NBTString) tag).getData());
+            case NBTCodec.TAG_BYTE_ARRAY: {
+                final byte[] data = ((NBTByteArray) tag).getData();
+                hash = step(hash, data.length);
+                for(final byte b : data) hash = step(hash, b);
+                return hash;
+            }
+            case NBTCodec.TAG_INT_ARRAY: {
+                final int[] data = ((NBTIntArray) tag).getData();
+                hash = step(hash, data.length);
+                for(final int i : data) hash = step(hash, i);
+                return hash;
+            }
+            case NBTCodec.TAG_LONG_ARRAY: {
+                final long[] data = ((NBTLongArray) tag).getData();
+                hash = step(hash, data.length);
+                for(final long l : data) hash = step(hash, l);
+                return hash;
+            }
+            case NBTCodec.TAG_LIST: {
+                final NBTList list = (NBTList) tag;
+                hash = step(hash, list.size());
+                for(final NBTType element : list) hash = hashTag(hash, element);
+                return hash;
+            }
+            case NBTCodec.TAG_COMPOUND: {
+                // Entries are combined by addition so the order of keys does not matter.
+                final NBTCompound compound = (NBTCompound) tag;
+                long entries = 0;
+                for(final Map.Entry<String, NBTType> entry : compound.entrySet()) {
+                    entries += finish(hashTag(hashString(FINGERPRINT_SEED, entry.getKey()), entry.getValue()));
+                }
+                return step(step(hash, compound.size()), entries);
+            }
+            default:
+                return hash;
+        }
+    }
+
 }
@@ -52,6 +52,11 @@ public final class NBTShort extends NBTType {
         return ((NBTShort) other).data == data;
     }
 
+    @Override
+    public byte getTypeId() {
+        return NBTCodec.TAG_SHORT;
+    }
+
     @Override
     @NotNull
     public NBTType clone() {
@@ -51,6 +51,11 @@ public final class NBTString extends NBTType {
         return ((NBTString) other).data.equals(data);
     }
 
+    @Override
+    public byte getTypeId() {
+        return NBTCodec.TAG_STRING;
+    }
+
     @Override
     @NotNull
     public NBTType clone() {
@@ -40,6 +40,15 @@ public abstract class NBTType {
      */
     public abstract boolean equals(@Nullable Object other);
 
+    /**
+     * Retrieves the numeric id of this tag's type, as in the
+     * {@code TAG_} constants of {@link NBTCodec}.
+     *
+     * @return The type id of this tag.
+     * @since 1.7
+     */
+    public abstract byte getTypeId();
+
     /**
      * Clones this tag and retrieves an entirely new tag
      * with the same value of this tag.
@@ -0,0 +1,258 @@
+package dev.hawu.plugins.api.nbt;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Backing list for {@link NBTList}s of numeric tags that stores
+ * the values in a primitive array instead of wrapping each one.
+ * <p>
+ * Tags are only created when elements are read, and only tags
+ * of the element type can be stored.
+ *
+ * @since 1.7
+ */
+abstract class PackedList extends AbstractList<NBTType> implements RandomAccess {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private final Class<? extends NBTType> elementType;
+    Object array;
+    int size;
+
+    PackedList(final @NotNull Class<? extends NBTType> elementType, final @NotNull Object array, final int size) {
+        this.elementType = elementType;
+        this.array = array;
+        this.size = size;
+    }
+
+    @NotNull
+    abstract NBTType box(final int index);
+
+    abstract void unbox(final int index, final @NotNull NBTType tag);
+
+    @NotNull
+    abstract PackedList copy();
+
+    abstract void writeElements(final @NotNull DataOutput output) throws IOException;
+
+    @NotNull
+    private NBTType check(final @NotNull NBTType tag) {
+        if(!elementType.isInstance(tag)) {
+            throw new IllegalArgumentException("This list can only hold " + elementType.getSimpleName() + " tags, found " + tag.getClass().getSimpleName());
+        }
+        return tag;
+    }
+
+    private void checkIndex(final int index, final int bound) {
+        if(index < 0 || index >= bound) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    private void ensureCapacity(final int capacity) {
+        final int length = Array.getLength(array);
+        if(length >= capacity) return;
+
+        final Object grown = Array.newInstance(array.getClass().getComponentType(), Math.max(capacity, Math.max(MIN_CAPACITY, length * 2)));
+        System.arraycopy(array, 0, grown, 0, size);
+        array = grown;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @NotNull
+    public NBTType get(final int index) {
+        checkIndex(index, size);
+        return box(index);
+    }
+
+    @Override
+    @NotNull
+    public NBTType set(final int index, @NotNull final NBTType element) {
+        checkIndex(index, size);
+        final NBTType old = box(index);
+        unbox(index, check(element));
+        return old;
+    }
+
+    @Override
+    public void add(final int index, @NotNull final NBTType element) {
+        checkIndex(index, size + 1);
+        check(element);
+        ensureCapacity(size + 1);
+        System.arraycopy(array, index, array, index + 1, size - index);
+        unbox(index, element);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    @NotNull
+    public NBTType remove(final int index) {
+        checkIndex(index, size);
+        final NBTType old = box(index);
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    static final class Ints extends PackedList {
+
+        Ints(final int @NotNull [] values) {
+            super(NBTInt.class, values, values.length);
+        }
+
+        int getInt(final int index) {
+            if(index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            return ((int[]) array)[index];
+        }
+
+        @Override
+        @NotNull NBTType box(final int index) {
+            return NBTInt.valueOf(((int[]) array)[index]);
+        }
+
+        @Override
+        void unbox(final int index, final @NotNull NBTType tag) {
+            ((int[]) array)[index] = ((NBTInt) tag).getData();
+        }
+
+        @Override
+        @NotNull PackedList copy() {
+            final int[] values = new int[size];
+            System.arraycopy(array, 0, values, 0, size);
+            return new Ints(values);
+        }
+
+        @Override
+        void writeElements(final @NotNull DataOutput output) throws IOException {
+            final int[] values = (int[]) array;
+            for(int i = 0; i < size; i++) output.writeInt(values[i]);
+        }
+
+    }
+
+    static final class Longs extends PackedList {
+
+        Longs(final long @NotNull [] values) {
+            super(NBTLong.class, values, values.length);
+        }
+
+        long getLong(final int index) {
+            if(index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            return ((long[]) array)[index];
+        }
+
+        @Override
+        @NotNull NBTType box(final int index) {
+            return new NBTLong(((long[]) array)[index]);
+        }
+
+        @Override
+        void unbox(final int index, final @NotNull NBTType tag) {
+            ((long[]) array)[index] = ((NBTLong) tag).getData();
+        }
+
+        @Override
+        @NotNull PackedList copy() {
+            final long[] values = new long[size];
+            System.arraycopy(array, 0, values, 0, size);
+            return new Longs(values);
+        }
+
+        @Override
+        void writeElements(final @NotNull DataOutput output) throws IOException {
+            final long[] values = (long[]) array;
+            for(int i = 0; i < size; i++) output.writeLong(values[i]);
+        }
+
+    }
+
+    static final class Floats extends PackedList {
+
+        Floats(final float @NotNull [] values) {
+            super(NBTFloat.class, values, values.length);
+        }
+
+        float getFloat(final int index) {
+            if(index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            return ((float[]) array)[index];
+        }
+
+        @Override
+        @NotNull NBTType box(final int index) {
+            return new NBTFloat(((float[]) array)[index]);
+        }
+
+        @Override
+        void unbox(final int index, final @NotNull NBTType tag) {
+            ((float[]) array)[index] = ((NBTFloat) tag).getData();
+        }
+
+        @Override
+        @NotNull PackedList copy() {
+            final float[] values = new float[size];
+            System.arraycopy(array, 0, values, 0, size);
+            return new Floats(values);
+        }
+
+        @Override
+        void writeElements(final @NotNull DataOutput output) throws IOException {
+            final float[] values = (float[]) array;
+            for(int i = 0; i < size; i++) output.writeFloat(values[i]);
+        }
+
+    }
+
+    static final class Doubles extends PackedList {
+
+        Doubles(final double @NotNull [] values) {
+            super(NBTDouble.class, values, values.length);
+        }
+
+        double getDouble(final int index) {
+            if(index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            return ((double[]) array)[index];
+        }
+
+        @Override
+        @NotNull NBTType box(final int index) {
+            return new NBTDouble(((double[]) array)[index]);
+        }
+
+        @Override
+        void unbox(final int index, final @NotNull NBTType tag) {
+            ((double[]) array)[index] = ((NBTDouble) tag).getData();
+        }
+
+        @Override
+        @NotNull PackedList copy() {
+            final double[] values = new double[size];
+            System.arraycopy(array, 0, values, 0, size);
+            return new Doubles(values);
+        }
+
+        @Override
+        void writeElements(final @NotNull DataOutput output) throws IOException {
+            final double[] values = (double[]) array;
+            for(int i = 0; i < size; i++) output.writeDouble(values[i]);
+        }
+
+    }
+
+}
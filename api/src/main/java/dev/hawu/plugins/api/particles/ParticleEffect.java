@@ -1,6 +1,7 @@
 package dev.hawu.plugins.api.particles;
 
 import org.bukkit.Bukkit;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
@@ -188,6 +189,41 @@ public final class ParticleEffect {
         Bukkit.getOnlinePlayers().forEach(this::play);
     }
 
+    /**
+     * Plays the contained particle effect to the players in the world who are close
+     * enough to see it, as looked up by {@link ParticleViewers}. The view distance
+     * follows {@link #longDistance}.
+     *
+     * @param world the world the effect is in.
+     * @since 1.7
+     */
+    public void playNearby(final @NotNull World world) {
+        playNearby(world, ParticleViewers.getRadius(this));
+    }
+
+    /**
+     * Plays the contained particle effect to the players in the world within the radius.
+     *
+     * @param world  the world the effect is in.
+     * @param radius the distance players must be within.
+     * @since 1.7
+     */
+    public void playNearby(final @NotNull World world, final double radius) {
+        for(final Player player : ParticleViewers.getViewers(world, x, y, z, radius, Math.max(particleCount, 1))) play(player);
+    }
+
+    /**
+     * Prepares this effect to be played repeatedly without being rebuilt, which
+     * suits effects that stay in place, such as markers replayed every few ticks.
+     *
+     * @return the prepared effect.
+     * @since 1.7
+     */
+    @NotNull
+    public PreparedParticle prepare() {
+        return ParticlePacketAdapter.getAdapter().prepare(this);
+    }
+
     /**
      * Constructs a new builder of particle effects with the current
      * particle effect as a base.
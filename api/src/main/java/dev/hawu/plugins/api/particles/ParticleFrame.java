@@ -0,0 +1,270 @@
+package dev.hawu.plugins.api.particles;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Represents a batch of positions that all display the same particle
+ * effect, such as every point of a shape in one tick.
+ * <p>
+ * Positions are kept in a primitive buffer and the effect's own location
+ * is ignored, so building a frame allocates nothing per point. Playing the
+ * frame sends every point to each viewer in one pass through the adapter.
+ * Frames can be cleared and refilled to be reused across ticks.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @since 1.7
+ */
+public final class ParticleFrame {
+
+    private static final int DEFAULT_CAPACITY = 32;
+
+    private final ParticleEffect prototype;
+    private double[] points;
+    private int size;
+
+    private ParticleFrame(final @NotNull ParticleEffect prototype, final int capacity) {
+        this.prototype = prototype;
+        this.points = new double[Math.max(capacity, 1) * 3];
+    }
+
+    /**
+     * Creates an empty frame displaying the effect.
+     *
+     * @param prototype The effect to display at every point.
+     * @return The new frame.
+     * @since 1.7
+     */
+    @NotNull
+    public static ParticleFrame of(final @NotNull ParticleEffect prototype) {
+        return new ParticleFrame(prototype, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty frame displaying the effect, with room
+     * for the provided number of points before growing.
+     *
+     * @param prototype The effect to display at every point.
+     * @param capacity  The expected number of points.
+     * @return The new frame.
+     * @since 1.7
+     */
+    @NotNull
+    public static ParticleFrame of(final @NotNull ParticleEffect prototype, final int capacity) {
+        return new ParticleFrame(prototype, capacity);
+    }
+
+    /**
+     * Retrieves the effect displayed at every point of this frame.
+     *
+     * @return The effect.
+     * @since 1.7
+     */
+    @NotNull
+    public ParticleEffect getPrototype() {
+        return prototype;
+    }
+
+    /**
+     * Adds a point to this frame.
+     *
+     * @param x The X position of the point.
+     * @param y The Y position of the point.
+     * @param z The Z position of the point.
+     * @return The same frame.
+     * @since 1.7
+     */
+    @NotNull
+    public ParticleFrame add(final double x, final double y, final double z) {
+        final int index = size * 3;
+        if(index == points.length) points = Arrays.copyOf(points, points.length << 1);
+        points[index] = x;
+        points[index + 1] = y;
+        points[index + 2] = z;
+        size++;
+        return this;
+    }
+
+    /**
+     * Adds a point to this frame.
+     *
+     * @param location The position of the point.
+     * @return The same frame.
+     * @since 1.7
+     */
+    @NotNull
+    public ParticleFrame add(final @NotNull Location location) {
+        return add(location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Adds a point to this frame.
+     *
+     * @param vector The position of the point.
+     * @return The same frame.
+     * @since 1.7
+     */
+    @NotNull
+    public ParticleFrame add(final @NotNull Vector vector) {
+        return add(vector.getX(), vector.getY(), vector.getZ());
+    }
+
+    /**
+     * Adds every point of the shape to this frame, placed by the transform.
+     *
+     * @param shape     The shape to add.
+     * @param transform The transform to place the shape with.
+     * @return The same frame.
+     * @since 1.7
+     */
+    @NotNull
+    public ParticleFrame add(final @NotNull ParticleShape shape, final @NotNull ParticleTransform transform) {
+        final double[] source = shape.points;
+        final int start = size * 3;
+        if(start + source.length > points.length) points = Arrays.copyOf(points, Math.max(points.length << 1, start + source.length));
+
+        final ParticleTransform t = transform;
+        for(int i = 0; i < source.length; i += 3) {
+            final double x = source[i], y = source[i + 1], z = source[i + 2];
+            points[start + i] = t.m00 * x + t.m01 * y + t.m02 * z + t.m03;
+            points[start + i + 1] = t.m10 * x + t.m11 * y + t.m12 * z + t.m13;
+            points[start + i + 2] = t.m20 * x + t.m21 * y + t.m22 * z + t.m23;
+        }
+        size += source.length / 3;
+        return this;
+    }
+
+    /**
+     * Retrieves the X position of the point at the index.
+     *
+     * @param index The index of the point.
+     * @return The X position.
+     * @since 1.7
+     */
+    public double getX(final int index) {
+        return points[checkIndex(index) * 3];
+    }
+
+    /**
+     * Retrieves the Y position of the point at the index.
+     *
+     * @param index The index of the point.
+     * @return The Y position.
+     * @since 1.7
+     */
+    public double getY(final int index) {
+        return points[checkIndex(index) * 3 + 1];
+    }
+
+    /**
+     * Retrieves the Z position of the point at the index.
+     *
+     * @param index The index of the point.
+     * @return The Z position.
+     * @since 1.7
+     */
+    public double getZ(final int index) {
+        return points[checkIndex(index) * 3 + 2];
+    }
+
+    /**
+     * Retrieves the number of points in this frame.
+     *
+     * @return The number of points.
+     * @since 1.7
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether this frame has no points.
+     *
+     * @return Whether this frame is empty.
+     * @since 1.7
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every point from this frame, keeping its buffer.
+     *
+     * @since 1.7
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Plays every point of this frame to a player.
+     *
+     * @param player The player to play to.
+     * @since 1.7
+     */
+    public void play(final @NotNull Player player) {
+        play(Collections.singletonList(player));
+    }
+
+    /**
+     * Plays every point of this frame to the players.
+     *
+     * @param players The players to play to.
+     * @since 1.7
+     */
+    public void play(final @NotNull Collection<? extends @NotNull Player> players) {
+        if(size > 0 && !players.isEmpty()) ParticlePacketAdapter.getAdapter().send(players, this);
+    }
+
+    /**
+     * Plays every point of this frame to the players in the world who are close enough
+     * to see any of them, as looked up by {@link ParticleViewers}. The view distance
+     * follows the prototype's {@link ParticleEffect#longDistance}.
+     *
+     * @param world The world the frame is in.
+     * @since 1.7
+     */
+    public void playNearby(final @NotNull World world) {
+        playNearby(world, ParticleViewers.getRadius(prototype));
+    }
+
+    /**
+     * Plays every point of this frame to the players in the world
+     * within the radius of the box bounding its points.
+     *
+     * @param world  The world the frame is in.
+     * @param radius The distance players must be within.
+     * @since 1.7
+     */
+    public void playNearby(final @NotNull World world, final double radius) {
+        if(size == 0) return;
+
+        double minX = points[0], minY = points[1], minZ = points[2];
+        double maxX = minX, maxY = minY, maxZ = minZ;
+        for(int i = 3; i < size * 3; i += 3) {
+            minX = Math.min(minX, points[i]);
+            minY = Math.min(minY, points[i + 1]);
+            minZ = Math.min(minZ, points[i + 2]);
+            maxX = Math.max(maxX, points[i]);
+            maxY = Math.max(maxY, points[i + 1]);
+            maxZ = Math.max(maxZ, points[i + 2]);
+        }
+
+        final int cost = size * Math.max(prototype.particleCount, 1);
+        play(ParticleViewers.getViewers(world, minX, minY, minZ, maxX, maxY, maxZ, radius, cost));
+    }
+
+    private int checkIndex(final int index) {
+        if(index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        return index;
+    }
+
+}
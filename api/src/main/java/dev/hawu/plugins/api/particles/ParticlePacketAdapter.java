@@ -1,9 +1,13 @@
 package dev.hawu.plugins.api.particles;
 
+import dev.hawu.plugins.api.collections.LazyReference;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.function.Supplier;
+
 /**
  * The cross-version adapter for spawning world particles
  * to players.
@@ -12,7 +16,7 @@ import org.jetbrains.annotations.NotNull;
  */
 public abstract class ParticlePacketAdapter {
 
-    private static ParticlePacketAdapter adapter;
+    private static volatile LazyReference<ParticlePacketAdapter> adapter;
 
     /**
      * Retrieves an instance of the particle packet adapter, and computes
@@ -23,7 +27,8 @@ public abstract class ParticlePacketAdapter {
      */
     @NotNull
     public static ParticlePacketAdapter getAdapter() {
-        return adapter;
+        final LazyReference<ParticlePacketAdapter> current = adapter;
+        return current != null ? current.get() : null;
     }
 
     /**
@@ -34,7 +39,19 @@ public abstract class ParticlePacketAdapter {
      */
     @Internal
     public static void setAdapter(final @NotNull ParticlePacketAdapter packetAdapter) {
-        if(adapter == null) adapter = packetAdapter;
+        if(adapter == null) adapter = LazyReference.of(packetAdapter);
+    }
+
+    /**
+     * Sets the adapter for particle packets, which is only created
+     * the first time it is retrieved.
+     *
+     * @param supplier The supplier of the packet adapter implementation.
+     * @since 1.7
+     */
+    @Internal
+    public static void setAdapter(final @NotNull Supplier<? extends @NotNull ParticlePacketAdapter> supplier) {
+        if(adapter == null) adapter = LazyReference.of(supplier::get);
     }
 
     /**
@@ -46,4 +63,38 @@ public abstract class ParticlePacketAdapter {
      */
     public abstract void send(final @NotNull Player player, final @NotNull ParticleEffect effect);
 
+    /**
+     * Sends every point of a particle frame to the players. Implementations
+     * should override this to avoid creating an effect for each point.
+     *
+     * @param players The players whom to send to.
+     * @param frame   The frame to send.
+     * @since 1.7
+     */
+    public void send(final @NotNull Collection<? extends @NotNull Player> players, final @NotNull ParticleFrame frame) {
+        final ParticleEffect prototype = frame.getPrototype();
+        for(int i = 0; i < frame.size(); i++) {
+            final ParticleEffect effect = prototype.toBuilder().location(frame.getX(i), frame.getY(i), frame.getZ(i)).build();
+            for(final Player player : players) send(player, effect);
+        }
+    }
+
+    /**
+     * Prepares the effect to be played repeatedly. Implementations should override
+     * this to build what the server sends only once.
+     *
+     * @param effect The effect to prepare.
+     * @return The prepared effect.
+     * @since 1.7
+     */
+    @NotNull
+    public PreparedParticle prepare(final @NotNull ParticleEffect effect) {
+        return new PreparedParticle(effect) {
+            @Override
+            public void play(final @NotNull Player player) {
+                send(player, effect);
+            }
+        };
+    }
+
 }
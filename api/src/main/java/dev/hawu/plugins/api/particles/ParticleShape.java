@@ -0,0 +1,247 @@
+package dev.hawu.plugins.api.particles;
+
+import dev.hawu.plugins.api.collections.Cache;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents an immutable mesh of points, usually of unit size and centered
+ * around the origin, that can be placed in the world with a {@link ParticleTransform}
+ * and drawn through a {@link ParticleFrame}.
+ * <p>
+ * The built-in shapes compute their points once for each resolution and cache
+ * them, so drawing a shape every tick costs a matrix multiplication per point
+ * instead of trigonometry:
+ * <pre>{@code
+ * frame.clear();
+ * frame.add(ParticleShape.helix(60, 3), ParticleTransform.identity().scale(1.5).rotateY(tick * 4).translate(x, y, z));
+ * frame.playNearby(world);
+ * }</pre>
+ *
+ * @since 1.7
+ */
+public final class ParticleShape {
+
+    private static final Cache<List<Object>, ParticleShape> MESHES = Cache.<List<Object>, ParticleShape>builder().maximumSize(256).build();
+    private static final double GOLDEN_ANGLE = Math.PI * (3 - Math.sqrt(5));
+
+    final double[] points;
+
+    private ParticleShape(final double @NotNull [] points) {
+        this.points = points;
+    }
+
+    private static void checkPositive(final int value, final @NotNull String name) {
+        if(value <= 0) throw new IllegalArgumentException("The " + name + " must be positive.");
+    }
+
+    /**
+     * Retrieves a circle of radius 1 lying in the x-z plane.
+     *
+     * @param points The number of points, spread evenly.
+     * @return The shape.
+     * @throws IllegalArgumentException If the number of points is not positive.
+     * @since 1.7
+     */
+    @NotNull
+    public static ParticleShape circle(final int points) {
+        checkPositive(points, "number of points");
+        return MESHES.get(Arrays.asList("circle", points), key -> parametric(points, false, (t, point) -> {
+            point[0] = Math.cos(2 * Math.PI * t);
+            point[2] = Math.sin(2 * Math.PI * t);
+        }));
+    }
+
+    /**
+     * Retrieves a sphere of radius 1, with its points spread
+     * evenly over the surface along a Fibonacci spiral.
+     *
+     * @param points The number of points.
+     * @return The shape.
+     * @throws IllegalArgumentException If the number of points is not positive.
+     * @since 1.7
+     */
+    @NotNull
+    public static ParticleShape sphere(final int points) {
+        checkPositive(points, "number of points");
+        return MESHES.get(Arrays.asList("sphere", points), key -> {
+            final double[] mesh = new double[points * 3];
+            for(int i = 0; i < points; i++) {
+                final double y = points == 1 ? 0 : 1 - 2.0 * i / (points - 1);
+                final double radius = Math.sqrt(Math.max(1 - y * y, 0));
+                final double angle = GOLDEN_ANGLE * i;
+                mesh[i * 3] = radius * Math.cos(angle);
+                mesh[i * 3 + 1] = y;
+                mesh[i * 3 + 2] = radius * Math.sin(angle);
+            }
+            return new ParticleShape(mesh);
+        });
+    }
+
+    /**
+     * Retrieves a helix of radius 1 rising around the Y axis, from a height of 0 to 1.
+     *
+     * @param points The number of points, spread evenly from the bottom to the top.
+     * @param turns  The number of full turns.
+     * @return The shape.
+     * @throws IllegalArgumentException If the number of points is not positive.
+     * @since 1.7
+     */
+    @NotNull
+    public static ParticleShape helix(final int points, final double turns) {
+        checkPositive(points, "number of points");
+        return MESHES.get(Arrays.asList("helix", points, turns), key -> parametric(points, true, (t, point) -> {
+            point[0] = Math.cos(2 * Math.PI * turns * t);
+            point[1] = t;
+            point[2] = Math.sin(2 * Math.PI * turns * t);
+        }));
+    }
+
+    /**
+     * Retrieves the surface of a cone standing on the x-z plane, with a base
+     * of radius 1 and its tip at a height of 1.
+     *
+     * @param rings         The number of rings from the base to below the tip.
+     * @param pointsPerRing The number of points on each ring.
+     * @return The shape.
+     * @throws IllegalArgumentException If either number is not positive.
+     * @since 1.7
+     */
+    @NotNull
+    public static ParticleShape cone(final int rings, final int pointsPerRing) {
+        checkPositive(rings, "number of rings");
+        checkPositive(pointsPerRing, "number of points per ring");
+        return MESHES.get(Arrays.asList("cone", rings, pointsPerRing), key -> {
+            final double[] mesh = new double[(rings * pointsPerRing + 1) * 3];
+            int index = 0;
+            for(int ring = 0; ring < rings; ring++) {
+                final double y = (double) ring / rings;
+                for(int i = 0; i < pointsPerRing; i++) {
+                    final double angle = 2 * Math.PI * i / pointsPerRing;
+                    mesh[index++] = (1 - y) * Math.cos(angle);
+                    mesh[index++] = y;
+                    mesh[index++] = (1 - y) * Math.sin(angle);
+                }
+            }
+            mesh[index + 1] = 1;
+            return new ParticleShape(mesh);
+        });
+    }
+
+    /**
+     * Retrieves the outline of a regular polygon inscribed in a circle
+     * of radius 1 lying in the x-z plane, with a vertex on the X axis.
+     *
+     * @param sides         The number of sides, at least 3.
+     * @param pointsPerSide The number of points on each side, starting at its vertex.
+     * @return The shape.
+     * @throws IllegalArgumentException If there are fewer than 3 sides, or the number of points is not positive.
+     * @since 1.7
+     */
+    @NotNull
+    public static ParticleShape polygon(final int sides, final int pointsPerSide) {
+        if(sides < 3) throw new IllegalArgumentException("A polygon must have at least 3 sides.");
+        checkPositive(pointsPerSide, "number of points per side");
+        return MESHES.get(Arrays.asList("polygon", sides, pointsPerSide), key -> {
+            final double[] mesh = new double[sides * pointsPerSide * 3];
+            int index = 0;
+            for(int side = 0; side < sides; side++) {
+                final double fromX = Math.cos(2 * Math.PI * side / sides), fromZ = Math.sin(2 * Math.PI * side / sides);
+                final double toX = Math.cos(2 * Math.PI * (side + 1) / sides), toZ = Math.sin(2 * Math.PI * (side + 1) / sides);
+                for(int i = 0; i < pointsPerSide; i++) {
+                    final double t = (double) i / pointsPerSide;
+                    mesh[index++] = fromX + (toX - fromX) * t;
+                    index++;
+                    mesh[index++] = fromZ + (toZ - fromZ) * t;
+                }
+            }
+            return new ParticleShape(mesh);
+        });
+    }
+
+    /**
+     * Creates a shape from a parametric curve, sampled at evenly spaced values from
+     * 0 to 1, both ends included. Shapes made this way are not cached, so they should
+     * be created once and kept.
+     *
+     * @param points The number of points.
+     * @param curve  The curve.
+     * @return The new shape.
+     * @throws IllegalArgumentException If the number of points is not positive.
+     * @since 1.7
+     */
+    @NotNull
+    public static ParticleShape parametric(final int points, final @NotNull Curve curve) {
+        checkPositive(points, "number of points");
+        return parametric(points, true, curve);
+    }
+
+    /**
+     * Creates a shape from the coordinates of its points.
+     *
+     * @param coordinates The X, Y and Z coordinates of each point, one after another.
+     * @return The new shape.
+     * @throws IllegalArgumentException If the number of coordinates is not a multiple of 3.
+     * @since 1.7
+     */
+    @NotNull
+    public static ParticleShape of(final double @NotNull ... coordinates) {
+        if(coordinates.length % 3 != 0) throw new IllegalArgumentException("Every point must have 3 coordinates.");
+        return new ParticleShape(coordinates.clone());
+    }
+
+    @NotNull
+    private static ParticleShape parametric(final int points, final boolean inclusive, final @NotNull Curve curve) {
+        final double[] mesh = new double[points * 3];
+        final double[] point = new double[3];
+        final int divisor = inclusive ? Math.max(points - 1, 1) : points;
+        for(int i = 0; i < points; i++) {
+            Arrays.fill(point, 0);
+            curve.at((double) i / divisor, point);
+            System.arraycopy(point, 0, mesh, i * 3, 3);
+        }
+        return new ParticleShape(mesh);
+    }
+
+    /**
+     * Retrieves the number of points in this shape.
+     *
+     * @return The number of points.
+     * @since 1.7
+     */
+    public int size() {
+        return points.length / 3;
+    }
+
+    /**
+     * Retrieves the coordinates of the points in this shape.
+     *
+     * @return A copy of the X, Y and Z coordinates of each point, one after another.
+     * @since 1.7
+     */
+    public double @NotNull [] getCoordinates() {
+        return points.clone();
+    }
+
+    /**
+     * Represents a parametric curve that defines a custom shape.
+     *
+     * @since 1.7
+     */
+    @FunctionalInterface
+    public interface Curve {
+
+        /**
+         * Computes the point of the curve at the parameter.
+         *
+         * @param t     The parameter, from 0 to 1.
+         * @param point The array to write the X, Y and Z coordinates into, zeroed beforehand.
+         * @since 1.7
+         */
+        void at(final double t, final double @NotNull [] point);
+
+    }
+
+}
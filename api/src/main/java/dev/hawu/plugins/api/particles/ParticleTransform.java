@@ -0,0 +1,235 @@
+package dev.hawu.plugins.api.particles;
+
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents an immutable affine transform, made of scaling, rotations and
+ * translations, that places a {@link ParticleShape} in the world.
+ * <p>
+ * Each operation is applied after the ones before it, so
+ * {@code identity().scale(2).rotateY(45).translate(location)} scales the shape,
+ * then rotates it, then moves it. Rotations follow the same directions as the
+ * rotations in {@link dev.hawu.plugins.api.MathUtils}. The trigonometry of a
+ * transform is computed once when it is built, and transforming a point is then
+ * a single matrix multiplication.
+ *
+ * @since 1.7
+ */
+public final class ParticleTransform {
+
+    private static final ParticleTransform IDENTITY = new ParticleTransform(
+        1, 0, 0, 0,
+        0, 1, 0, 0,
+        0, 0, 1, 0
+    );
+
+    // Rows of the upper 3x4 part of the matrix, the last column is the translation.
+    final double m00, m01, m02, m03;
+    final double m10, m11, m12, m13;
+    final double m20, m21, m22, m23;
+
+    private ParticleTransform(final double m00, final double m01, final double m02, final double m03,
+                              final double m10, final double m11, final double m12, final double m13,
+                              final double m20, final double m21, final double m22, final double m23) {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m02 = m02;
+        this.m03 = m03;
+        this.m10 = m10;
+        this.m11 = m11;
+        this.m12 = m12;
+        this.m13 = m13;
+        this.m20 = m20;
+        this.m21 = m21;
+        this.m22 = m22;
+        this.m23 = m23;
+    }
+
+    /**
+     * Retrieves the transform that leaves points in place.
+     *
+     * @return The identity transform.
+     * @since 1.7
+     */
+    @NotNull
+    public static ParticleTransform identity() {
+        return IDENTITY;
+    }
+
+    // Returns the transform of applying this one, then the provided matrix.
+    @NotNull
+    private ParticleTransform then(final double a00, final double a01, final double a02, final double a03,
+                                   final double a10, final double a11, final double a12, final double a13,
+                                   final double a20, final double a21, final double a22, final double a23) {
+        return new ParticleTransform(
+            a00 * m00 + a01 * m10 + a02 * m20, a00 * m01 + a01 * m11 + a02 * m21, a00 * m02 + a01 * m12 + a02 * m22, a00 * m03 + a01 * m13 + a02 * m23 + a03,
+            a10 * m00 + a11 * m10 + a12 * m20, a10 * m01 + a11 * m11 + a12 * m21, a10 * m02 + a11 * m12 + a12 * m22, a10 * m03 + a11 * m13 + a12 * m23 + a13,
+            a20 * m00 + a21 * m10 + a22 * m20, a20 * m01 + a21 * m11 + a22 * m21, a20 * m02 + a21 * m12 + a22 * m22, a20 * m03 + a21 * m13 + a22 * m23 + a23
+        );
+    }
+
+    /**
+     * Creates a transform that applies this one, then the other one.
+     *
+     * @param other The transform to apply afterwards.
+     * @return The new transform.
+     * @since 1.7
+     */
+    @NotNull
+    public ParticleTransform then(final @NotNull ParticleTransform other) {
+        return then(other.m00, other.m01, other.m02, other.m03,
+            other.m10, other.m11, other.m12, other.m13,
+            other.m20, other.m21, other.m22, other.m23);
+    }
+
+    /**
+     * Creates a transform that applies this one, then scales uniformly.
+     *
+     * @param factor The factor to scale by.
+     * @return The new transform.
+     * @since 1.7
+     */
+    @NotNull
+    public ParticleTransform scale(final double factor) {
+        return scale(factor, factor, factor);
+    }
+
+    /**
+     * Creates a transform that applies this one, then scales each axis.
+     *
+     * @param x The factor to scale the X axis by.
+     * @param y The factor to scale the Y axis by.
+     * @param z The factor to scale the Z axis by.
+     * @return The new transform.
+     * @since 1.7
+     */
+    @NotNull
+    public ParticleTransform scale(final double x, final double y, final double z) {
+        return then(x, 0, 0, 0, 0, y, 0, 0, 0, 0, z, 0);
+    }
+
+    /**
+     * Creates a transform that applies this one, then rotates around the X axis.
+     *
+     * @param angle The angle to rotate by (in degrees).
+     * @return The new transform.
+     * @since 1.7
+     */
+    @NotNull
+    public ParticleTransform rotateX(final double angle) {
+        final double radians = Math.toRadians(angle);
+        final double cos = Math.cos(radians), sin = Math.sin(radians);
+        return then(1, 0, 0, 0, 0, cos, -sin, 0, 0, sin, cos, 0);
+    }
+
+    /**
+     * Creates a transform that applies this one, then rotates around the Y axis.
+     *
+     * @param angle The angle to rotate by (in degrees).
+     * @return The new transform.
+     * @since 1.7
+     */
+    @NotNull
+    public ParticleTransform rotateY(final double angle) {
+        final double radians = Math.toRadians(angle);
+        final double cos = Math.cos(radians), sin = Math.sin(radians);
+        return then(cos, 0, -sin, 0, 0, 1, 0, 0, sin, 0, cos, 0);
+    }
+
+    /**
+     * Creates a transform that applies this one, then rotates around the Z axis.
+     *
+     * @param angle The angle to rotate by (in degrees).
+     * @return The new transform.
+     * @since 1.7
+     */
+    @NotNull
+    public ParticleTransform rotateZ(final double angle) {
+        final double radians = Math.toRadians(angle);
+        final double cos = Math.cos(radians), sin = Math.sin(radians);
+        return then(cos, -sin, 0, 0, sin, cos, 0, 0, 0, 0, 1, 0);
+    }
+
+    /**
+     * Creates a transform that applies this one, then rotates around an axis
+     * through the origin.
+     *
+     * @param axis  The axis to rotate around, which does not have to be normalized.
+     * @param angle The angle to rotate by (in degrees).
+     * @return The new transform.
+     * @since 1.7
+     */
+    @NotNull
+    public ParticleTransform rotate(final @NotNull Vector axis, final double angle) {
+        final double length = axis.length();
+        if(length == 0) return this;
+
+        final double x = axis.getX() / length, y = axis.getY() / length, z = axis.getZ() / length;
+        final double radians = Math.toRadians(angle);
+        final double cos = Math.cos(radians), sin = Math.sin(radians), t = 1 - cos;
+        return then(
+            t * x * x + cos, t * x * y - sin * z, t * x * z + sin * y, 0,
+            t * x * y + sin * z, t * y * y + cos, t * y * z - sin * x, 0,
+            t * x * z - sin * y, t * y * z + sin * x, t * z * z + cos, 0
+        );
+    }
+
+    /**
+     * Creates a transform that applies this one, then moves points.
+     *
+     * @param x The distance to move along the X axis.
+     * @param y The distance to move along the Y axis.
+     * @param z The distance to move along the Z axis.
+     * @return The new transform.
+     * @since 1.7
+     */
+    @NotNull
+    public ParticleTransform translate(final double x, final double y, final double z) {
+        return new ParticleTransform(m00, m01, m02, m03 + x, m10, m11, m12, m13 + y, m20, m21, m22, m23 + z);
+    }
+
+    /**
+     * Creates a transform that applies this one, then moves points.
+     *
+     * @param offset The distance to move along each axis.
+     * @return The new transform.
+     * @since 1.7
+     */
+    @NotNull
+    public ParticleTransform translate(final @NotNull Vector offset) {
+        return translate(offset.getX(), offset.getY(), offset.getZ());
+    }
+
+    /**
+     * Creates a transform that applies this one, then moves points
+     * from the origin to be around the location.
+     *
+     * @param location The location to move to.
+     * @return The new transform.
+     * @since 1.7
+     */
+    @NotNull
+    public ParticleTransform translate(final @NotNull Location location) {
+        return translate(location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Transforms a point, without modifying the provided vector.
+     *
+     * @param point The point to transform.
+     * @return The transformed point.
+     * @since 1.7
+     */
+    @NotNull
+    public Vector apply(final @NotNull Vector point) {
+        final double x = point.getX(), y = point.getY(), z = point.getZ();
+        return new Vector(
+            m00 * x + m01 * y + m02 * z + m03,
+            m10 * x + m11 * y + m12 * z + m13,
+            m20 * x + m21 * y + m22 * z + m23
+        );
+    }
+
+}
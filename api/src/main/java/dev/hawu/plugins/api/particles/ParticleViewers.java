@@ -0,0 +1,264 @@
+package dev.hawu.plugins.api.particles;
+
+import dev.hawu.plugins.api.Tasks;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Looks up the players that should receive a particle, so that effects are only
+ * sent to players in the same world and within view distance instead of everyone online.
+ * <p>
+ * Once {@link #initialize(JavaPlugin)} is called, the positions of all online players are
+ * indexed into a grid once per tick, and lookups only visit the cells near the particles.
+ * Before that, lookups scan the players of the world directly.
+ * <p>
+ * An optional budget caps the number of particles each player receives per tick
+ * through culled broadcasts. Effects past the budget are dropped for that player
+ * until the next tick, so an overloaded client sees fewer particles instead of lagging.
+ *
+ * @since 1.7
+ */
+public final class ParticleViewers {
+
+    /**
+     * The distance within which players see normal particles, as in vanilla.
+     *
+     * @since 1.7
+     */
+    public static final double DEFAULT_RADIUS = 32;
+
+    /**
+     * The distance within which players see long distance particles, as in vanilla.
+     *
+     * @since 1.7
+     */
+    public static final double LONG_DISTANCE_RADIUS = 512;
+
+    private static final int CELL_SHIFT = 5; // 32 blocks per cell
+
+    private static volatile Map<UUID, WorldIndex> index;
+    private static volatile int budget;
+    private static JavaPlugin plugin;
+
+    private ParticleViewers() {}
+
+    /**
+     * Starts refreshing the index of player positions every tick.
+     *
+     * @param pl The plugin to schedule with.
+     * @since 1.7
+     */
+    public static void initialize(final @NotNull JavaPlugin pl) {
+        if(plugin != null) return;
+        plugin = pl;
+        Tasks.scheduleTimer(pl, 0, 1, runnable -> refresh());
+    }
+
+    /**
+     * Sets the maximum number of particles each player receives per tick through
+     * culled broadcasts. An effect costs its particle count, at least 1, and a
+     * frame costs that of its prototype for every point.
+     *
+     * @param particlesPerTick The budget, or 0 or less for no budget.
+     * @since 1.7
+     */
+    public static void setBudget(final int particlesPerTick) {
+        budget = Math.max(particlesPerTick, 0);
+    }
+
+    /**
+     * Retrieves the maximum number of particles each player receives per tick
+     * through culled broadcasts.
+     *
+     * @return The budget, or 0 for no budget.
+     * @since 1.7
+     */
+    public static int getBudget() {
+        return budget;
+    }
+
+    /**
+     * Retrieves the view radius for the effect, following {@link ParticleEffect#longDistance}.
+     *
+     * @param effect The effect.
+     * @return The radius.
+     * @since 1.7
+     */
+    public static double getRadius(final @NotNull ParticleEffect effect) {
+        return effect.longDistance ? LONG_DISTANCE_RADIUS : DEFAULT_RADIUS;
+    }
+
+    /**
+     * Retrieves the players that would receive the effect through a culled broadcast,
+     * without taking from their budgets. Players already past their budget are left out.
+     *
+     * @param world  The world of the effect.
+     * @param effect The effect.
+     * @return The players.
+     * @since 1.7
+     */
+    @NotNull
+    public static List<@NotNull Player> getViewers(final @Nullable World world, final @NotNull ParticleEffect effect) {
+        if(world == null) return Collections.emptyList();
+        return getViewers(world, effect.x, effect.y, effect.z, getRadius(effect), 0);
+    }
+
+    /**
+     * Retrieves the players in the world within the radius of a point,
+     * which still have budget for the provided number of particles.
+     *
+     * @param world  The world of the point.
+     * @param x      The X position of the point.
+     * @param y      The Y position of the point.
+     * @param z      The Z position of the point.
+     * @param radius The radius to look within.
+     * @param cost   The number of particles to take from each player's budget.
+     * @return The players.
+     * @since 1.7
+     */
+    @NotNull
+    public static List<@NotNull Player> getViewers(final @NotNull World world, final double x, final double y, final double z,
+                                                   final double radius, final int cost) {
+        return getViewers(world, x, y, z, x, y, z, radius, cost);
+    }
+
+    /**
+     * Retrieves the players in the world within the radius of a box, such as
+     * the bounds of a {@link ParticleFrame}, which still have budget for the
+     * provided number of particles.
+     *
+     * @param world  The world of the box.
+     * @param minX   The minimum X position of the box.
+     * @param minY   The minimum Y position of the box.
+     * @param minZ   The minimum Z position of the box.
+     * @param maxX   The maximum X position of the box.
+     * @param maxY   The maximum Y position of the box.
+     * @param maxZ   The maximum Z position of the box.
+     * @param radius The radius to look within.
+     * @param cost   The number of particles to take from each player's budget.
+     * @return The players.
+     * @since 1.7
+     */
+    @NotNull
+    public static List<@NotNull Player> getViewers(final @NotNull World world, final double minX, final double minY, final double minZ,
+                                                   final double maxX, final double maxY, final double maxZ,
+                                                   final double radius, final int cost) {
+        final Map<UUID, WorldIndex> current = index;
+        if(current == null) return scan(world, minX, minY, minZ, maxX, maxY, maxZ, radius);
+
+        final WorldIndex worldIndex = current.get(world.getUID());
+        if(worldIndex == null) return Collections.emptyList();
+        return worldIndex.query(minX, minY, minZ, maxX, maxY, maxZ, radius, cost, budget);
+    }
+
+    private static void refresh() {
+        final Map<UUID, List<Player>> players = new HashMap<>();
+        for(final Player player : Bukkit.getOnlinePlayers()) {
+            players.computeIfAbsent(player.getWorld().getUID(), uid -> new ArrayList<>()).add(player);
+        }
+
+        final Map<UUID, WorldIndex> next = new HashMap<>(players.size() * 2);
+        players.forEach((uid, list) -> next.put(uid, new WorldIndex(list)));
+        index = next;
+    }
+
+    @NotNull
+    private static List<Player> scan(final @NotNull World world, final double minX, final double minY, final double minZ,
+                                     final double maxX, final double maxY, final double maxZ, final double radius) {
+        final List<Player> result = new ArrayList<>();
+        for(final Player player : world.getPlayers()) {
+            final Location location = player.getLocation();
+            if(distanceSquared(location.getX(), location.getY(), location.getZ(), minX, minY, minZ, maxX, maxY, maxZ) <= radius * radius) {
+                result.add(player);
+            }
+        }
+        return result;
+    }
+
+    private static double distanceSquared(final double x, final double y, final double z, final double minX, final double minY, final double minZ,
+                                          final double maxX, final double maxY, final double maxZ) {
+        final double dx = x < minX ? minX - x : Math.max(x - maxX, 0);
+        final double dy = y < minY ? minY - y : Math.max(y - maxY, 0);
+        final double dz = z < minZ ? minZ - z : Math.max(z - maxZ, 0);
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static long cellKey(final int cellX, final int cellZ) {
+        return (long) cellX << 32 | (cellZ & 0xFFFFFFFFL);
+    }
+
+    // A snapshot of one world's players, bucketed by 32x32 columns. Only the spent budgets change after creation.
+    static final class WorldIndex {
+
+        private final Player[] players;
+        private final double[] positions;
+        private final Map<Long, int[]> cells = new HashMap<>();
+        private final AtomicIntegerArray spent;
+
+        WorldIndex(final @NotNull List<Player> list) {
+            players = list.toArray(new Player[0]);
+            positions = new double[players.length * 3];
+            spent = new AtomicIntegerArray(players.length);
+
+            final Map<Long, Integer> counts = new HashMap<>();
+            final long[] keys = new long[players.length];
+            for(int i = 0; i < players.length; i++) {
+                final Location location = players[i].getLocation();
+                positions[i * 3] = location.getX();
+                positions[i * 3 + 1] = location.getY();
+                positions[i * 3 + 2] = location.getZ();
+                keys[i] = cellKey(location.getBlockX() >> CELL_SHIFT, location.getBlockZ() >> CELL_SHIFT);
+                counts.merge(keys[i], 1, Integer::sum);
+            }
+
+            counts.forEach((key, count) -> cells.put(key, new int[count]));
+            final Map<Long, Integer> filled = new HashMap<>();
+            for(int i = 0; i < players.length; i++) {
+                final int slot = filled.merge(keys[i], 1, Integer::sum) - 1;
+                cells.get(keys[i])[slot] = i;
+            }
+        }
+
+        @NotNull
+        List<Player> query(final double minX, final double minY, final double minZ, final double maxX, final double maxY, final double maxZ,
+                                   final double radius, final int cost, final int budget) {
+            final List<Player> result = new ArrayList<>();
+            final int fromX = (int) Math.floor(minX - radius) >> CELL_SHIFT;
+            final int toX = (int) Math.floor(maxX + radius) >> CELL_SHIFT;
+            final int fromZ = (int) Math.floor(minZ - radius) >> CELL_SHIFT;
+            final int toZ = (int) Math.floor(maxZ + radius) >> CELL_SHIFT;
+
+            // Scanning every player is cheaper than probing many mostly empty cells.
+            if((long) (toX - fromX + 1) * (toZ - fromZ + 1) > players.length) {
+                for(int i = 0; i < players.length; i++) accept(i, minX, minY, minZ, maxX, maxY, maxZ, radius, cost, budget, result);
+                return result;
+            }
+
+            for(int cellX = fromX; cellX <= toX; cellX++) {
+                for(int cellZ = fromZ; cellZ <= toZ; cellZ++) {
+                    final int[] members = cells.get(cellKey(cellX, cellZ));
+                    if(members == null) continue;
+                    for(final int i : members) accept(i, minX, minY, minZ, maxX, maxY, maxZ, radius, cost, budget, result);
+                }
+            }
+            return result;
+        }
+
+        private void accept(final int i, final double minX, final double minY, final double minZ, final double maxX, final double maxY, final double maxZ,
+                            final double radius, final int cost, final int budget, final @NotNull List<Player> result) {
+            if(distanceSquared(positions[i * 3], positions[i * 3 + 1], positions[i * 3 + 2], minX, minY, minZ, maxX, maxY, maxZ) > radius * radius) return;
+            if(budget > 0 && spent.addAndGet(i, cost) > budget) return;
+            result.add(players[i]);
+        }
+
+    }
+
+}
@@ -30,13 +30,8 @@ public final class PredefParticles {
      */
     public static void drawFlatCircle(final double radius, final double step, final @NotNull Location center,
                                       final @NotNull ParticleEffect effect, final @NotNull List<@NotNull Player> players) {
-        for(double angle = 0; angle < 2 * Math.PI; angle += step) {
-            final double x = radius * Math.cos(angle);
-            final double z = radius * Math.sin(angle);
-            final Location loc = center.clone().add(x, 0, z);
-            final ParticleEffect particle = effect.toBuilder().setLocation(loc).build();
-            players.forEach(particle::play);
-        }
+        final ParticleShape circle = ParticleShape.circle((int) Math.ceil(2 * Math.PI / step));
+        ParticleFrame.of(effect, circle.size()).add(circle, ParticleTransform.identity().scale(radius).translate(center)).play(players);
     }
 
     /**
@@ -54,11 +49,12 @@ public final class PredefParticles {
         final Vector current = from.toVector();
         final Vector destination = to.toVector();
         final Vector direction = MathUtils.normalize(to.toVector().subtract(from.toVector())).multiply(step);
+        final ParticleFrame frame = ParticleFrame.of(effect);
         while(current.distanceSquared(destination) > step) {
-            final ParticleEffect particleEffect = effect.toBuilder().setLocation(current.toLocation(from.getWorld())).build();
-            players.forEach(particleEffect::play);
+            frame.add(current);
             current.add(direction);
         }
+        frame.play(players);
     }
 
     /**
@@ -0,0 +1,73 @@
+package dev.hawu.plugins.api.particles;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * Represents a particle effect that has been turned into whatever the server
+ * needs to display it ahead of time, such as a packet, so that playing it again
+ * does not rebuild anything.
+ * <p>
+ * Prepared particles are immutable and can be played to any number of players,
+ * from any number of ticks. They are created with {@link ParticleEffect#prepare()}.
+ *
+ * @since 1.7
+ */
+public abstract class PreparedParticle {
+
+    private final ParticleEffect effect;
+
+    /**
+     * Constructs a prepared particle for the effect.
+     *
+     * @param effect The effect that was prepared.
+     * @since 1.7
+     */
+    protected PreparedParticle(final @NotNull ParticleEffect effect) {
+        this.effect = effect;
+    }
+
+    /**
+     * Retrieves the effect this was prepared from.
+     *
+     * @return The effect.
+     * @since 1.7
+     */
+    @NotNull
+    public final ParticleEffect getEffect() {
+        return effect;
+    }
+
+    /**
+     * Plays the prepared effect to a player.
+     *
+     * @param player The player to play to.
+     * @since 1.7
+     */
+    public abstract void play(final @NotNull Player player);
+
+    /**
+     * Plays the prepared effect to the players.
+     *
+     * @param players The players to play to.
+     * @since 1.7
+     */
+    public void play(final @NotNull Collection<? extends @NotNull Player> players) {
+        for(final Player player : players) play(player);
+    }
+
+    /**
+     * Plays the prepared effect to the players in the world who are close enough to
+     * see it, in the same manner as {@link ParticleEffect#playNearby(World)}.
+     *
+     * @param world The world the effect is in.
+     * @since 1.7
+     */
+    public void playNearby(final @NotNull World world) {
+        play(ParticleViewers.getViewers(world, effect.x, effect.y, effect.z, ParticleViewers.getRadius(effect), Math.max(effect.particleCount, 1)));
+    }
+
+}
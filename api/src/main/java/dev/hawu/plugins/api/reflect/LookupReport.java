@@ -0,0 +1,181 @@
+package dev.hawu.plugins.api.reflect;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Records how long the class lookups of {@link SimpleLookup} and the method handle
+ * lookups of {@link UncheckedHandles} take, and whether they succeed, while something
+ * such as an adapter is being initialized on the current thread.
+ * <p>
+ * Lookups made while no report is recording are not tracked at all:
+ * <pre>{@code
+ * final LookupReport report = LookupReport.begin("Title adapter");
+ * try {
+ *     TitlePacketAdapterImpl.getInstance();
+ * } finally {
+ *     report.end();
+ * }
+ * }</pre>
+ *
+ * @since 1.7
+ */
+public final class LookupReport {
+
+    private static final ThreadLocal<LookupReport> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+    private final LookupReport previous;
+    private final List<Entry> entries = new ArrayList<>();
+    private final long start = System.nanoTime();
+    private long nanos = -1;
+
+    private LookupReport(final @NotNull String name, final @Nullable LookupReport previous) {
+        this.name = name;
+        this.previous = previous;
+    }
+
+    /**
+     * Starts recording the lookups made on the current thread, until {@link #end()}
+     * is called. Reports may be nested, in which case lookups only go to the innermost one.
+     *
+     * @param name The name of what is being recorded.
+     * @return The new report.
+     * @since 1.7
+     */
+    @NotNull
+    public static LookupReport begin(final @NotNull String name) {
+        final LookupReport report = new LookupReport(name, CURRENT.get());
+        CURRENT.set(report);
+        return report;
+    }
+
+    // Records a lookup that began at the provided time, if a report is recording.
+    static void track(final long start, final boolean found, final @NotNull String kind, final @NotNull String owner,
+                      final @Nullable String member, final @Nullable Object type) {
+        final LookupReport report = CURRENT.get();
+        if(report == null) return;
+
+        final StringBuilder description = new StringBuilder(kind).append(' ').append(owner);
+        if(member != null) description.append('#').append(member);
+        if(type instanceof Class<?>) description.append(" : ").append(((Class<?>) type).getName());
+        else if(type != null) description.append(type); // Method types already read as (parameters)return.
+        report.entries.add(new Entry(description.toString(), System.nanoTime() - start, found));
+    }
+
+    /**
+     * Stops recording on the current thread, and resumes the report this one
+     * was nested in, if any.
+     *
+     * @throws IllegalStateException If this is not the report recording on the current thread.
+     * @since 1.7
+     */
+    public void end() {
+        if(CURRENT.get() != this) throw new IllegalStateException("This report is not recording on the current thread.");
+        nanos = System.nanoTime() - start;
+        if(previous != null) CURRENT.set(previous);
+        else CURRENT.remove();
+    }
+
+    /**
+     * Retrieves the name of what was recorded.
+     *
+     * @return The name.
+     * @since 1.7
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the total time between the start and the end of the report,
+     * including the time spent outside of lookups.
+     *
+     * @return The time in nanoseconds, or -1 if the report has not ended.
+     * @since 1.7
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * Retrieves the lookups recorded, in the order they were made.
+     *
+     * @return An unmodifiable view of the lookups.
+     * @since 1.7
+     */
+    @NotNull
+    public List<@NotNull Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Retrieves the number of lookups that did not find anything.
+     *
+     * @return The number of failed lookups.
+     * @since 1.7
+     */
+    public int getFailedCount() {
+        int count = 0;
+        for(final Entry entry : entries) {
+            if(!entry.found) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Represents a single recorded lookup.
+     *
+     * @since 1.7
+     */
+    public static final class Entry {
+
+        private final String description;
+        private final long nanos;
+        private final boolean found;
+
+        private Entry(final @NotNull String description, final long nanos, final boolean found) {
+            this.description = description;
+            this.nanos = nanos;
+            this.found = found;
+        }
+
+        /**
+         * Retrieves what was looked up, such as {@code virtual org.bukkit.entity.Player#sendTitle(String,String)void}.
+         *
+         * @return The description.
+         * @since 1.7
+         */
+        @NotNull
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * Retrieves how long the lookup took.
+         *
+         * @return The time in nanoseconds.
+         * @since 1.7
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Checks if the lookup found what it was looking for.
+         *
+         * @return Whether it was found.
+         * @since 1.7
+         */
+        public boolean isFound() {
+            return found;
+        }
+
+    }
+
+}
@@ -20,6 +20,19 @@ public final class SimpleLookup {
 
     private SimpleLookup() {}
 
+    @NotNull
+    private static Class<?> forName(final @NotNull String className) {
+        final long start = System.nanoTime();
+        try {
+            final Class<?> clazz = Class.forName(className);
+            LookupReport.track(start, true, "class", className, null, null);
+            return clazz;
+        } catch(final ClassNotFoundException ex) {
+            LookupReport.track(start, false, "class", className, null, null);
+            throw new LookupException(ex);
+        }
+    }
+
     /**
      * Computes the current Bukkit's version, if not already computed,
      * then retrieves the value as a {@link String}.
@@ -47,11 +60,7 @@ public final class SimpleLookup {
      */
     @NotNull
     public static Class<?> lookupOBC(@NotNull final String name) {
-        try {
-            return Class.forName("org.bukkit.craftbukkit." + MinecraftVersion.getCurrent().name() + "." + name);
-        } catch(final ClassNotFoundException ex) {
-            throw new LookupException(ex);
-        }
+        return forName("org.bukkit.craftbukkit." + MinecraftVersion.getCurrent().name() + "." + name);
     }
 
     /**
@@ -101,13 +110,9 @@ public final class SimpleLookup {
      */
     @NotNull
     public static Class<?> lookupNMS(@NotNull final String name) {
-        try {
-            return MinecraftVersion.getCurrent().isAtLeast(MinecraftVersion.v1_17_R1)
-                    ? Class.forName("net.minecraft.server." + name)
-                    : Class.forName("net.minecraft.server." + MinecraftVersion.getCurrent().name() + "." + name);
-        } catch(final ClassNotFoundException ex) {
-            throw new LookupException(ex);
-        }
+        return MinecraftVersion.getCurrent().isAtLeast(MinecraftVersion.v1_17_R1)
+                ? forName("net.minecraft.server." + name)
+                : forName("net.minecraft.server." + MinecraftVersion.getCurrent().name() + "." + name);
     }
 
     /**
@@ -129,13 +134,9 @@ public final class SimpleLookup {
      */
     @NotNull
     public static Class<?> lookupNMS(@NotNull final String legacyPath, @NotNull final String newPath) {
-        try {
-            return MinecraftVersion.getCurrent().isAtLeast(MinecraftVersion.v1_17_R1)
-                ? Class.forName("net.minecraft." + newPath)
-                : Class.forName("net.minecraft.server." + MinecraftVersion.getCurrent().name() + "." + legacyPath);
-        } catch(final ClassNotFoundException ex) {
-            throw new LookupException(ex);
-        }
+        return MinecraftVersion.getCurrent().isAtLeast(MinecraftVersion.v1_17_R1)
+            ? forName("net.minecraft." + newPath)
+            : forName("net.minecraft.server." + MinecraftVersion.getCurrent().name() + "." + legacyPath);
     }
 
     /**
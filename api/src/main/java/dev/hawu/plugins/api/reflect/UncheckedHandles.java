@@ -24,6 +24,21 @@ public final class UncheckedHandles {
 
     private UncheckedHandles() {}
 
+    @NotNull
+    private static Property<MethodHandle> found(final long start, final @NotNull String kind, final @NotNull Class<?> ref,
+                                                final String name, final @NotNull Object type, final @NotNull MethodHandle handle) {
+        LookupReport.track(start, true, kind, ref.getName(), name, type);
+        return Property.of(handle);
+    }
+
+    @NotNull
+    private static Property<MethodHandle> missing(final long start, final @NotNull String kind, final Class<?> ref,
+                                                  final String name, final Object type) {
+        // Callers pass null classes when an earlier lookup failed, which fails here too.
+        LookupReport.track(start, false, kind, ref != null ? ref.getName() : "null", name, type);
+        return Property.empty();
+    }
+
     /**
      * Recalls the method {@link Lookup#findConstructor(Class, MethodType)} with
      * the passed parameters and returns the result.
@@ -36,10 +51,11 @@ public final class UncheckedHandles {
      */
     @NotNull
     public static Property<MethodHandle> findConstructor(final @NotNull Lookup lookup, @NotNull final Class<?> ref, @NotNull final MethodType type) {
+        final long start = System.nanoTime();
         try {
-            return Property.of(lookup.findConstructor(ref, type));
+            return found(start, "constructor", ref, null, type, lookup.findConstructor(ref, type));
         } catch(final Exception e) {
-            return Property.empty();
+            return missing(start, "constructor", ref, null, type);
         }
     }
 
@@ -56,10 +72,11 @@ public final class UncheckedHandles {
      */
     @NotNull
     public static Property<MethodHandle> findGetter(final @NotNull Lookup lookup, @NotNull final Class<?> ref, @NotNull final String name, @NotNull final Class<?> type) {
+        final long start = System.nanoTime();
         try {
-            return Property.of(lookup.findGetter(ref, name, type));
+            return found(start, "getter", ref, name, type, lookup.findGetter(ref, name, type));
         } catch(final Exception e) {
-            return Property.empty();
+            return missing(start, "getter", ref, name, type);
         }
     }
 
@@ -76,10 +93,11 @@ public final class UncheckedHandles {
      */
     @NotNull
     public static Property<MethodHandle> findSetter(final @NotNull Lookup lookup, @NotNull final Class<?> ref, @NotNull final String name, @NotNull final Class<?> type) {
+        final long start = System.nanoTime();
         try {
-            return Property.of(lookup.findSetter(ref, name, type));
+            return found(start, "setter", ref, name, type, lookup.findSetter(ref, name, type));
         } catch(final Exception e) {
-            return Property.empty();
+            return missing(start, "setter", ref, name, type);
         }
     }
 
@@ -96,10 +114,11 @@ public final class UncheckedHandles {
      */
     @NotNull
     public static Property<MethodHandle> findStaticGetter(final @NotNull Lookup lookup, @NotNull final Class<?> ref, @NotNull final String name, @NotNull final Class<?> type) {
+        final long start = System.nanoTime();
         try {
-            return Property.of(lookup.findStaticGetter(ref, name, type));
+            return found(start, "static getter", ref, name, type, lookup.findStaticGetter(ref, name, type));
         } catch(final Exception e) {
-            return Property.empty();
+            return missing(start, "static getter", ref, name, type);
         }
     }
 
@@ -116,10 +135,11 @@ public final class UncheckedHandles {
      */
     @NotNull
     public static Property<MethodHandle> findStaticSetter(final @NotNull Lookup lookup, @NotNull final Class<?> ref, @NotNull final String name, @NotNull final Class<?> type) {
+        final long start = System.nanoTime();
         try {
-            return Property.of(lookup.findStaticSetter(ref, name, type));
+            return found(start, "static setter", ref, name, type, lookup.findStaticSetter(ref, name, type));
         } catch(final Exception e) {
-            return Property.empty();
+            return missing(start, "static setter", ref, name, type);
         }
     }
 
@@ -136,10 +156,11 @@ public final class UncheckedHandles {
      */
     @NotNull
     public static Property<MethodHandle> findStatic(final @NotNull Lookup lookup, @NotNull final Class<?> ref, @NotNull final String name, @NotNull final MethodType type) {
+        final long start = System.nanoTime();
         try {
-            return Property.of(lookup.findStatic(ref, name, type));
+            return found(start, "static", ref, name, type, lookup.findStatic(ref, name, type));
         } catch(final Exception e) {
-            return Property.empty();
+            return missing(start, "static", ref, name, type);
         }
     }
 
@@ -156,10 +177,11 @@ public final class UncheckedHandles {
      */
     @NotNull
     public static Property<MethodHandle> findVirtual(final @NotNull Lookup lookup, @NotNull final Class<?> ref, @NotNull final String name, @NotNull final MethodType type) {
+        final long start = System.nanoTime();
         try {
-            return Property.of(lookup.findVirtual(ref, name, type));
+            return found(start, "virtual", ref, name, type, lookup.findVirtual(ref, name, type));
         } catch(final Exception e) {
-            return Property.empty();
+            return missing(start, "virtual", ref, name, type);
         }
     }
 
@@ -178,10 +200,11 @@ public final class UncheckedHandles {
     @NotNull
     public static Property<MethodHandle> findSpecial(final @NotNull Lookup lookup, @NotNull final Class<?> ref, @NotNull final String name,
                                                      @NotNull final MethodType type, @NotNull final Class<?> specialCaller) {
+        final long start = System.nanoTime();
         try {
-            return Property.of(lookup.findSpecial(ref, name, type, specialCaller));
+            return found(start, "special", ref, name, type, lookup.findSpecial(ref, name, type, specialCaller));
         } catch(final Exception e) {
-            return Property.empty();
+            return missing(start, "special", ref, name, type);
         }
     }
 
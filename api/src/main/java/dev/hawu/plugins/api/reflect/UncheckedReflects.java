@@ -245,4 +245,24 @@ public final class UncheckedReflects {
         }
     }
 
+    /**
+     * Sends the first packets of the array to a player, looking up
+     * the player's connection only once.
+     *
+     * @param player  The player to send to.
+     * @param packets The packets to send.
+     * @param count   The number of packets to send from the start of the array.
+     * @since 1.7
+     */
+    public static void sendPackets(final @NotNull Player player, final @NotNull Object @NotNull [] packets, final int count) {
+        try {
+            final Object craftPlayer = CRAFT_PLAYER_CLASS.cast(player);
+            final Object entityPlayer = GET_HANDLE.invokeExact(craftPlayer);
+            final Object playerConnection = PLAYER_CONNECTION.invokeExact(entityPlayer);
+            for(int i = 0; i < count; i++) SEND_PACKET.invokeExact(playerConnection, packets[i]);
+        } catch(final Throwable throwable) {
+            throwable.printStackTrace();
+        }
+    }
+
 }
@@ -0,0 +1,199 @@
+package dev.hawu.plugins.api.title;
+
+import dev.hawu.plugins.api.Tasks;
+import dev.hawu.plugins.api.collections.UUIDHashMap;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Manages the titles and action bars shown to players, so that persistent displays
+ * such as cooldown HUDs do not resend the same packets every tick.
+ * <p>
+ * Each plugin shows a layer in a {@link HudSlot} of a player's screen with a priority,
+ * and the layer with the highest priority is displayed. One shared ticker, started by
+ * {@link #initialize(JavaPlugin)}, compares that layer with what was last sent to the
+ * player and only sends packets when it changes, or when the client is about to stop
+ * displaying it. Changes are therefore sent on the next tick rather than immediately.
+ * <p>
+ * Layers of plugins that get disabled are removed automatically. The methods of this
+ * class must be called from the main thread.
+ *
+ * @since 1.7
+ */
+public final class HudChannels {
+
+    /**
+     * The default number of ticks after which an unchanged action bar is sent again.
+     *
+     * @since 1.7
+     */
+    public static final long DEFAULT_KEEP_ALIVE = 40;
+
+    private static final HudSlot[] SLOTS = HudSlot.values();
+    private static final TitleComponent EMPTY = new TitleComponent("", "", 0, 0, 0);
+    private static final UUIDHashMap<HudLayers[]> PLAYERS = new UUIDHashMap<>();
+
+    private static long keepAlive = DEFAULT_KEEP_ALIVE;
+    private static long tick;
+    private static JavaPlugin plugin;
+
+    private HudChannels() {}
+
+    /**
+     * Starts the shared ticker that sends updates to players.
+     *
+     * @param pl The plugin to schedule with.
+     * @since 1.7
+     */
+    public static void initialize(final @NotNull JavaPlugin pl) {
+        if(plugin != null) return;
+        plugin = pl;
+        Tasks.scheduleTimer(pl, 0, 1, runnable -> tick());
+    }
+
+    /**
+     * Sets the number of ticks after which an unchanged action bar is sent again,
+     * which must be shorter than the time the client displays it for. Titles are
+     * sent again once they have faded in and stayed.
+     *
+     * @param ticks The number of ticks, at least 1.
+     * @since 1.7
+     */
+    public static void setKeepAlive(final long ticks) {
+        keepAlive = Math.max(ticks, 1);
+    }
+
+    /**
+     * Retrieves the number of ticks after which an unchanged action bar is sent again.
+     *
+     * @return The number of ticks.
+     * @since 1.7
+     */
+    public static long getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Shows a component in a slot of the player's screen until it is hidden,
+     * replacing what the owner showed there before.
+     *
+     * @param player    The player to show to.
+     * @param slot      The slot to show in.
+     * @param owner     The plugin that owns the layer.
+     * @param priority  The priority of the layer, the highest is displayed.
+     * @param component The component to show.
+     * @since 1.7
+     */
+    public static void show(final @NotNull Player player, final @NotNull HudSlot slot, final @NotNull Plugin owner,
+                            final int priority, final @NotNull TitleComponent component) {
+        getLayers(player, slot).put(owner, priority, component, Long.MAX_VALUE);
+    }
+
+    /**
+     * Shows a component in a slot of the player's screen for some time,
+     * replacing what the owner showed there before.
+     *
+     * @param player    The player to show to.
+     * @param slot      The slot to show in.
+     * @param owner     The plugin that owns the layer.
+     * @param priority  The priority of the layer, the highest is displayed.
+     * @param component The component to show.
+     * @param duration  The number of ticks to show the component for.
+     * @since 1.7
+     */
+    public static void show(final @NotNull Player player, final @NotNull HudSlot slot, final @NotNull Plugin owner,
+                            final int priority, final @NotNull TitleComponent component, final long duration) {
+        getLayers(player, slot).put(owner, priority, component, tick + Math.max(duration, 1));
+    }
+
+    /**
+     * Hides what the owner shows in a slot of the player's screen. The layer
+     * below it is displayed instead, or the slot is cleared.
+     *
+     * @param player The player to hide from.
+     * @param slot   The slot to hide from.
+     * @param owner  The plugin that owns the layer.
+     * @since 1.7
+     */
+    public static void hide(final @NotNull Player player, final @NotNull HudSlot slot, final @NotNull Plugin owner) {
+        final HudLayers[] layers = PLAYERS.get(player.getUniqueId());
+        if(layers != null && layers[slot.ordinal()] != null) layers[slot.ordinal()].remove(owner);
+    }
+
+    /**
+     * Hides everything the owner shows to all players.
+     *
+     * @param owner The plugin that owns the layers.
+     * @since 1.7
+     */
+    public static void hideAll(final @NotNull Plugin owner) {
+        PLAYERS.forEach((uuid, layers) -> {
+            for(final HudLayers slot : layers) {
+                if(slot != null) slot.remove(owner);
+            }
+        });
+    }
+
+    @NotNull
+    private static HudLayers getLayers(final @NotNull Player player, final @NotNull HudSlot slot) {
+        HudLayers[] layers = PLAYERS.get(player.getUniqueId());
+        if(layers == null) {
+            layers = new HudLayers[SLOTS.length];
+            PLAYERS.put(player.getUniqueId(), layers);
+        }
+        if(layers[slot.ordinal()] == null) layers[slot.ordinal()] = new HudLayers();
+        return layers[slot.ordinal()];
+    }
+
+    private static void tick() {
+        tick++;
+        if(PLAYERS.isEmpty()) return;
+
+        final List<UUID> idle = new ArrayList<>();
+        PLAYERS.forEach((uuid, layers) -> {
+            final Player player = Bukkit.getPlayer(uuid);
+            if(player == null) {
+                idle.add(uuid);
+                return;
+            }
+
+            boolean active = false;
+            for(final HudSlot slot : SLOTS) {
+                final HudLayers layer = layers[slot.ordinal()];
+                if(layer == null) continue;
+                layer.removeIf(owner -> !((Plugin) owner).isEnabled());
+                update(player, slot, layer);
+                active |= !layer.isIdle();
+            }
+            if(!active) idle.add(uuid);
+        });
+        idle.forEach(PLAYERS::remove);
+    }
+
+    private static void update(final @NotNull Player player, final @NotNull HudSlot slot, final @NotNull HudLayers layers) {
+        final int action = layers.update(tick, slot == HudSlot.TITLE ? layers.getTitleKeepAlive() : keepAlive);
+        if(action == HudLayers.NONE) return;
+
+        final TitlePacketAdapter adapter = TitlePacketAdapter.getAdapter();
+        final TitleComponent component = layers.getSent();
+        if(slot == HudSlot.ACTION_BAR) {
+            adapter.sendActionBar(player, component != null ? component : EMPTY);
+        } else if(component == null) {
+            adapter.clear(player);
+        } else if(action == HudLayers.REFRESH) {
+            // The title is still on screen, so it should not fade in again.
+            adapter.send(player, new TitleComponent(component.getTitle(), component.getSubtitle(), 0,
+                component.getStay(), component.getFadeOut(), component.shouldNotWrap()));
+        } else {
+            adapter.send(player, component);
+        }
+    }
+
+}
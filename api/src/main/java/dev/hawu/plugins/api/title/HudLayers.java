@@ -0,0 +1,151 @@
+package dev.hawu.plugins.api.title;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * The layers shown by owners in one slot of one player's screen, along
+ * with what was last sent, so that a slot is only updated when it changes.
+ *
+ * @since 1.7
+ */
+final class HudLayers {
+
+    static final int NONE = 0;
+    static final int SEND = 1;
+    static final int REFRESH = 2;
+    static final int CLEAR = 3;
+
+    // Sorted by descending priority, newer layers first among equal priorities.
+    private final List<Layer> layers = new ArrayList<>(2);
+    private TitleComponent sent;
+    private long sentAt;
+    private long sentFadeIn;
+
+    /**
+     * Shows a component for the owner, replacing what it showed before.
+     *
+     * @param owner     The owner of the layer.
+     * @param priority  The priority of the layer, the highest is shown.
+     * @param component The component to show.
+     * @param expiresAt The tick to remove the layer at, or {@link Long#MAX_VALUE} to keep it.
+     */
+    void put(final @NotNull Object owner, final int priority, final @NotNull TitleComponent component, final long expiresAt) {
+        remove(owner);
+        int index = 0;
+        while(index < layers.size() && layers.get(index).priority > priority) index++;
+        layers.add(index, new Layer(owner, priority, component, expiresAt));
+    }
+
+    /**
+     * Removes the layer of the owner.
+     *
+     * @param owner The owner of the layer.
+     */
+    void remove(final @NotNull Object owner) {
+        layers.removeIf(layer -> layer.owner.equals(owner));
+    }
+
+    /**
+     * Removes the layers of every owner that matches.
+     *
+     * @param predicate The predicate to test owners against.
+     */
+    void removeIf(final @NotNull Predicate<Object> predicate) {
+        layers.removeIf(layer -> predicate.test(layer.owner));
+    }
+
+    /**
+     * Retrieves the component that should be shown, removing expired layers.
+     *
+     * @param tick The current tick.
+     * @return The component, or null if there are no layers.
+     */
+    @Nullable
+    TitleComponent getTop(final long tick) {
+        layers.removeIf(layer -> layer.expiresAt <= tick);
+        return layers.isEmpty() ? null : layers.get(0).component;
+    }
+
+    /**
+     * Decides what to send for this tick, and records it as sent.
+     *
+     * @param tick      The current tick.
+     * @param keepAlive The ticks after which an unchanged component is sent again.
+     * @return {@link #NONE}, {@link #SEND}, {@link #REFRESH} if an unchanged component
+     * should be sent again, or {@link #CLEAR} if the slot should be emptied.
+     */
+    int update(final long tick, final long keepAlive) {
+        final TitleComponent top = getTop(tick);
+        if(top == null) {
+            if(sent == null) return NONE;
+            sent = null;
+            return CLEAR;
+        }
+
+        final boolean same = sent != null && isSameContent(top, sent);
+        if(same && tick - sentAt < keepAlive) return NONE;
+        sent = top;
+        sentAt = tick;
+        // Refreshed titles are sent without fading in, since they are still on screen.
+        sentFadeIn = same ? 0 : top.getFadeIn();
+        return same ? REFRESH : SEND;
+    }
+
+    /**
+     * Retrieves the ticks after which the last sent title starts fading out,
+     * counting the fade in only if it was sent with one.
+     *
+     * @return The ticks, at least 1.
+     */
+    long getTitleKeepAlive() {
+        return sent == null ? 1 : Math.max(sentFadeIn + sent.getStay(), 1);
+    }
+
+    /**
+     * Retrieves the component last sent in this slot.
+     *
+     * @return The component, or null if the slot is empty.
+     */
+    @Nullable
+    TitleComponent getSent() {
+        return sent;
+    }
+
+    /**
+     * Checks if there is nothing shown and nothing left to clear.
+     *
+     * @return Whether this slot can be forgotten.
+     */
+    boolean isIdle() {
+        return layers.isEmpty() && sent == null;
+    }
+
+    private static boolean isSameContent(final @NotNull TitleComponent first, final @NotNull TitleComponent second) {
+        return first == second || first.shouldNotWrap() == second.shouldNotWrap()
+            && Objects.equals(first.getTitle(), second.getTitle())
+            && Objects.equals(first.getSubtitle(), second.getSubtitle());
+    }
+
+    private static final class Layer {
+
+        private final Object owner;
+        private final int priority;
+        private final TitleComponent component;
+        private final long expiresAt;
+
+        private Layer(final @NotNull Object owner, final int priority, final @NotNull TitleComponent component, final long expiresAt) {
+            this.owner = owner;
+            this.priority = priority;
+            this.component = component;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+}
@@ -0,0 +1,26 @@
+package dev.hawu.plugins.api.title;
+
+/**
+ * Represents a slot on a player's screen managed by {@link HudChannels}.
+ *
+ * @since 1.7
+ */
+public enum HudSlot {
+
+    /**
+     * The title and subtitle in the middle of the screen, sent
+     * with {@link TitlePacketAdapter#send}.
+     *
+     * @since 1.7
+     */
+    TITLE,
+
+    /**
+     * The action bar above the hotbar, which shows the title of the component
+     * and is sent with {@link TitlePacketAdapter#sendActionBar}.
+     *
+     * @since 1.7
+     */
+    ACTION_BAR
+
+}
@@ -1,10 +1,12 @@
 package dev.hawu.plugins.api.title;
 
+import dev.hawu.plugins.api.collections.LazyReference;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * A base abstracted packet adapter for sending and
@@ -14,7 +16,7 @@ import java.util.Objects;
  */
 public abstract class TitlePacketAdapter {
 
-    private static TitlePacketAdapter adapter;
+    private static volatile LazyReference<TitlePacketAdapter> adapter;
 
     /**
      * Retrieves the adapter instance for sending and clearing titles,
@@ -25,7 +27,7 @@ public abstract class TitlePacketAdapter {
      */
     @NotNull
     public static TitlePacketAdapter getAdapter() {
-        return Objects.requireNonNull(adapter, "Title Packet adapter is not set");
+        return Objects.requireNonNull(adapter, "Title Packet adapter is not set").get();
     }
 
     /**
@@ -36,7 +38,19 @@ public abstract class TitlePacketAdapter {
      */
     @Internal
     public static void setAdapter(final @NotNull TitlePacketAdapter adapter) {
-        if(TitlePacketAdapter.adapter == null) TitlePacketAdapter.adapter = adapter;
+        if(TitlePacketAdapter.adapter == null) TitlePacketAdapter.adapter = LazyReference.of(adapter);
+    }
+
+    /**
+     * Sets the adapter for the title packets, which is only created
+     * the first time it is retrieved.
+     *
+     * @param supplier The supplier of the adapter.
+     * @since 1.7
+     */
+    @Internal
+    public static void setAdapter(final @NotNull Supplier<? extends @NotNull TitlePacketAdapter> supplier) {
+        if(adapter == null) adapter = LazyReference.of(supplier::get);
     }
 
     /**
@@ -0,0 +1,92 @@
+package dev.hawu.plugins.api.dsl.collections
+
+import dev.hawu.plugins.api.TimeConversions
+import dev.hawu.plugins.api.collections.Cache
+import dev.hawu.plugins.api.collections.RemovalCause
+import dev.hawu.plugins.api.collections.RemovalListener
+import dev.hawu.plugins.api.dsl.ScopeControlMarker
+import java.util.concurrent.Executor
+
+/**
+ * The specification to build a cache
+ * elegantly.
+ */
+@ScopeControlMarker
+class CacheSpec<K : Any, V : Any> internal constructor() {
+
+    private val builder = Cache.builder<K, V>()
+    private var loader: ((K) -> V)? = null
+
+    /**
+     * Sets the maximum number of entries the cache may hold.
+     */
+    fun maximumSize(size: Long) {
+        builder.maximumSize(size)
+    }
+
+    /**
+     * Makes entries expire [millis] milliseconds after they were written.
+     */
+    fun expireAfterWrite(millis: Long) {
+        builder.expireAfterWrite(millis)
+    }
+
+    /**
+     * Makes entries expire after they were written, with the
+     * [duration] parsed from a time string such as `5m`.
+     */
+    fun expireAfterWrite(duration: String) = expireAfterWrite(TimeConversions.convertToMillis(duration).toLong())
+
+    /**
+     * Makes entries expire [millis] milliseconds after they were last accessed.
+     */
+    fun expireAfterAccess(millis: Long) {
+        builder.expireAfterAccess(millis)
+    }
+
+    /**
+     * Makes entries expire after they were last accessed, with the
+     * [duration] parsed from a time string such as `5m`.
+     */
+    fun expireAfterAccess(duration: String) = expireAfterAccess(TimeConversions.convertToMillis(duration).toLong())
+
+    /**
+     * Makes entries reload in the background [millis] milliseconds after they were written.
+     */
+    fun refreshAfterWrite(millis: Long) {
+        builder.refreshAfterWrite(millis)
+    }
+
+    /**
+     * Makes entries reload in the background after they were written, with the
+     * [duration] parsed from a time string such as `5m`.
+     */
+    fun refreshAfterWrite(duration: String) = refreshAfterWrite(TimeConversions.convertToMillis(duration).toLong())
+
+    /**
+     * Sets the [executor] that runs background refreshes.
+     */
+    fun executor(executor: Executor) {
+        builder.executor(executor)
+    }
+
+    /**
+     * Sets the [listener] to notify whenever an entry leaves the cache.
+     */
+    fun onRemoval(listener: (K, V, RemovalCause) -> Unit) {
+        builder.removalListener(RemovalListener { key, value, cause -> listener(key, value, cause) })
+    }
+
+    /**
+     * Sets the [loader] that computes missing values.
+     */
+    fun loader(loader: (K) -> V) {
+        this.loader = loader
+    }
+
+    internal fun build(): Cache<K, V> {
+        val loader = loader ?: return builder.build()
+        return builder.build { loader(it) }
+    }
+
+}
@@ -2,6 +2,7 @@ package dev.hawu.plugins.api.dsl.misc
 
 import dev.hawu.plugins.api.collections.Property
 import dev.hawu.plugins.api.collections.tuples.Pair as APIPair
+import dev.hawu.plugins.api.dsl.collections.CacheSpec
 
 /**
  * Sets the value of the property through
@@ -17,3 +18,8 @@ operator fun <T> Property<T>.invoke(value: T?) {
  * of pair.
  */
 fun <A, B> Pair<A, B>.toLibrary() = APIPair(first, second)
+
+/**
+ * Configures and creates a cache via a DSL.
+ */
+fun <K : Any, V : Any> cache(spec: CacheSpec<K, V>.() -> Unit) = CacheSpec<K, V>().apply(spec).build()
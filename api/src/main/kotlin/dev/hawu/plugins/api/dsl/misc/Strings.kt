@@ -1,5 +1,6 @@
 package dev.hawu.plugins.api.dsl.misc
 
+import dev.hawu.plugins.api.PlaceholderTemplate
 import dev.hawu.plugins.api.Strings
 import java.text.DecimalFormat
 
@@ -17,6 +18,12 @@ fun String.color() = Strings.color(this)
  */
 fun String.fillPlaceholders(vararg args: Pair<Any, Any>) = Strings.fillPlaceholders(this, *args.map { it.toLibrary() }.toTypedArray())
 
+/**
+ * Compiles the string into a reusable [PlaceholderTemplate].
+ * Does the same thing as [PlaceholderTemplate.compile].
+ */
+fun String.toTemplate() = PlaceholderTemplate.compile(this)
+
 /**
  * Formats a number with digit separators and
  * 2 decimal places. Does the same thing as [Strings.format].
@@ -0,0 +1,52 @@
+package dev.hawu.plugins.api;
+
+import dev.hawu.plugins.api.collections.tuples.Pair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class PlaceholderTemplateTest {
+
+    @Test
+    @DisplayName("Parsing test")
+    public void parsingTest() {
+        final PlaceholderTemplate template = PlaceholderTemplate.compile("50% off for %player%, %amount%% left, %player%!");
+        Assertions.assertEquals(Arrays.asList("player", "amount"), template.getPlaceholders());
+        Assertions.assertSame(template, PlaceholderTemplate.compile("50% off for %player%, %amount%% left, %player%!"));
+        Assertions.assertFalse(PlaceholderTemplate.compile("100% % %").hasPlaceholders());
+        Assertions.assertEquals(Collections.singletonList("x"), PlaceholderTemplate.compile("100%,%x%").getPlaceholders());
+        Assertions.assertEquals(Arrays.asList("a.b", "c-d_1"), PlaceholderTemplate.compile("%a.b% %c-d_1% %e:f%").getPlaceholders());
+    }
+
+    @Test
+    @DisplayName("Filling test")
+    public void fillingTest() {
+        final PlaceholderTemplate template = PlaceholderTemplate.compile("%a% + %b% = %c%");
+        Assertions.assertEquals("1 + null = %c%", template.fill(Pair.of("a", 1), Pair.of("b", null), Pair.of(null, 2)));
+        Assertions.assertEquals("%b% + 2 = %c%", template.fill(Pair.of("a", "%b%"), Pair.of("b", 2)));
+        Assertions.assertEquals("1 + 2 = 3", template.fillIndexed(1, 2, 3));
+        Assertions.assertEquals("1 + %b% = %c%", template.fill(Collections.singletonMap("a", 1)));
+        Assertions.assertEquals("100%,5", PlaceholderTemplate.compile("100%,%x%").fill(Pair.of("x", 5)));
+        Assertions.assertEquals("%a5", PlaceholderTemplate.compile("%a%b%").fill(Pair.of("b", 5)));
+    }
+
+    @Test
+    @DisplayName("Supplied names test")
+    public void suppliedNamesTest() {
+        final PlaceholderTemplate template = PlaceholderTemplate.compile("Balance: %vault:balance%, %player name% (%joueur_é%) 100%");
+        Assertions.assertEquals("Balance: 5, Steve (Alex) 100%",
+            template.fill(Pair.of("vault:balance", 5), Pair.of("player name", "Steve"), Pair.of("joueur_é", "Alex")));
+
+        final Map<String, Object> values = new HashMap<>();
+        values.put("vault:balance", 5);
+        Assertions.assertEquals("Balance: 5, %player name% (%joueur_é%) 100%", template.fill(values));
+        Assertions.assertEquals("§aBalance: 5", Strings.fillPlaceholders("&aBalance: %vault:balance%", Pair.of("vault:balance", 5)));
+        Assertions.assertSame(template.getSource(), template.fill(Pair.of("missing", 1)));
+    }
+
+}
@@ -0,0 +1,95 @@
+package dev.hawu.plugins.api.chat;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public final class ChatPacketAdapterTest {
+
+    private static Player player(final String name) {
+        return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[] { Player.class }, (proxy, method, args) -> {
+            switch(method.getName()) {
+                case "getName":
+                case "toString":
+                    return name;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    // Records what each player was sent, relying on the fallback implementation of prepare.
+    private static final class RecordingAdapter extends ChatPacketAdapter {
+
+        private final List<String> sent = new ArrayList<>();
+
+        @Override
+        public void sendPlayer(final @NotNull Player player, final @NotNull TextComponent component) {
+            sent.add(player.getName() + " " + component);
+        }
+
+        @Override
+        public void sendAll(final @NotNull TextComponent component) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void sendPlayer(final @NotNull Player player, final @NotNull String message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void sendAll(final @NotNull String message) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    @Test
+    @DisplayName("Fallback prepare test")
+    public void fallbackPrepareTest() {
+        final RecordingAdapter adapter = new RecordingAdapter();
+        final TextComponent component = TextComponent.of("Hello");
+        final String json = component.toString();
+        final PreparedMessage message = adapter.prepare(component);
+        Assertions.assertTrue(adapter.sent.isEmpty());
+
+        final Player alice = player("alice");
+        final Player bob = player("bob");
+        message.send(alice);
+        message.send(Arrays.asList(bob, alice));
+        Assertions.assertEquals(Arrays.asList("alice " + json, "bob " + json, "alice " + json), adapter.sent);
+    }
+
+    @Test
+    @DisplayName("Prepared snapshot test")
+    public void preparedSnapshotTest() {
+        final RecordingAdapter adapter = new RecordingAdapter();
+        final List<TextComponentPart> extras = new ArrayList<>();
+        extras.add(TextComponentPartBuilder.newBuilder().setText("world").build());
+        final TextComponent component = new TextComponent(new ArrayList<>(Collections.singletonList(
+            TextComponentPartBuilder.newBuilder().setText("Hello ").setExtras(extras).build())));
+        final String json = component.toString();
+        final PreparedMessage message = adapter.prepare(component);
+
+        component.add(TextComponentPartBuilder.newBuilder().setText("!").build());
+        extras.add(TextComponentPartBuilder.newBuilder().setText(" and more").build());
+        Assertions.assertNotEquals(json, component.toString());
+
+        message.send(player("alice"));
+        Assertions.assertEquals(Collections.singletonList("alice " + json), adapter.sent);
+    }
+
+}
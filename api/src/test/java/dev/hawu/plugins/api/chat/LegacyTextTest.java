@@ -0,0 +1,43 @@
+package dev.hawu.plugins.api.chat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public final class LegacyTextTest {
+
+    @Test
+    @DisplayName("Run merging test")
+    public void runMergingTest() {
+        Assertions.assertEquals("[\"\",{\"text\":\"Hello world\",\"color\":\"green\"}]", LegacyText.compile("&aHello &aworld").toString());
+        Assertions.assertEquals("[\"\",{\"text\":\"Same\",\"bold\":true}]", LegacyText.compile("&l&lSa&lme").toString());
+        Assertions.assertEquals("[\"\",{\"text\":\"Tom \"},{\"text\":\"& Jerry\",\"color\":\"gold\",\"bold\":true}]",
+            LegacyText.compile("Tom §6§l& Jerry").toString());
+    }
+
+    @Test
+    @DisplayName("Formatting reset test")
+    public void formattingResetTest() {
+        Assertions.assertEquals("[\"\",{\"text\":\"A\",\"bold\":true,\"italic\":true},{\"text\":\"B\",\"color\":\"red\"},{\"text\":\"C\"}]",
+            LegacyText.compile("&l&oA&cB&rC").toString());
+        Assertions.assertEquals("[\"\",{\"text\":\"50% &z off&\"}]", LegacyText.compile("50% &z off&").toString());
+    }
+
+    @Test
+    @DisplayName("Hex color test")
+    public void hexColorTest() {
+        Assertions.assertEquals("[\"\",{\"text\":\"Hex\",\"color\":\"#ff8800\"},{\"text\":\"Spigot\",\"color\":\"#00aa11\"}]",
+            LegacyText.compile("&#FF8800Hex&x&0&0&a&a&1&1Spigot").toString());
+        Assertions.assertEquals("[\"\",{\"text\":\"&#12345\"}]", LegacyText.compile("&#12345").toString());
+    }
+
+    @Test
+    @DisplayName("Cached compile test")
+    public void cachedCompileTest() {
+        final TextComponent first = LegacyText.compile("&eCached");
+        first.add(TextComponentPartBuilder.newBuilder().setText(" extra").build());
+        final TextComponent second = LegacyText.compile("&eCached");
+        Assertions.assertEquals("[\"\",{\"text\":\"Cached\",\"color\":\"yellow\"}]", second.toString());
+    }
+
+}
@@ -0,0 +1,127 @@
+package dev.hawu.plugins.api.chat;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+public final class TextComponentJsonTest {
+
+    private static final Gson GSON = new Gson();
+
+    private String readGolden(final String name) throws IOException {
+        try(final InputStream stream = getClass().getResourceAsStream("/chat/" + name + ".json")) {
+            Assertions.assertNotNull(stream, () -> "Missing golden file " + name);
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[1024];
+            int read;
+            while((read = stream.read(buffer)) != -1) output.write(buffer, 0, read);
+            return new String(output.toByteArray(), StandardCharsets.UTF_8).trim();
+        }
+    }
+
+    private String write(final TextComponent component, final boolean hoverContents) {
+        final ChatJsonWriter writer = ChatJsonWriter.acquire().hoverContents(hoverContents);
+        try {
+            component.writeTo(writer);
+            return writer.toJson();
+        } finally {
+            writer.release();
+        }
+    }
+
+    private void assertGolden(final String name, final String json) throws IOException {
+        Assertions.assertEquals(readGolden(name), json, () -> "Output differs from golden file " + name);
+        Assertions.assertDoesNotThrow(() -> GSON.getAdapter(JsonElement.class).fromJson(json), () -> "Output is not strict JSON for " + name);
+    }
+
+    private TextComponent createFormatted() {
+        return new TextComponent(Collections.singletonList(TextComponentPartBuilder.newBuilder()
+            .setText("Click me")
+            .setColor("gold")
+            .setBold(TextFormattingOption.TRUE)
+            .setItalic(TextFormattingOption.FALSE)
+            .setFont("minecraft:uniform")
+            .setInsertion("/spawn")
+            .setClickEvent(new TextClickEvent(TextClickAction.RUN_COMMAND, "/say \"hello\""))
+            .build()));
+    }
+
+    private TextComponent createHovered() {
+        return new TextComponent(Collections.singletonList(TextComponentPartBuilder.newBuilder()
+            .setText("Hover")
+            .setHoverEvent(new TextHoverEvent(TextHoverAction.SHOW_TEXT, "Line one\nLine \"two\""))
+            .build()));
+    }
+
+    @Test
+    @DisplayName("Plain text test")
+    public void plainTextTest() throws IOException {
+        assertGolden("empty", new TextComponent().toString());
+        assertGolden("plain", TextComponent.of("Hello, world!").toString());
+    }
+
+    @Test
+    @DisplayName("Escaping test")
+    public void escapingTest() throws IOException {
+        assertGolden("escaping", TextComponent.of("Say \"hi\" \\ back\n§ctab\there\u0001\u2028end").toString());
+    }
+
+    @Test
+    @DisplayName("Formatting and click event test")
+    public void formattingTest() throws IOException {
+        assertGolden("formatting", createFormatted().toString());
+    }
+
+    @Test
+    @DisplayName("Hover event test")
+    public void hoverEventTest() throws IOException {
+        assertGolden("hover_value", write(createHovered(), false));
+        assertGolden("hover_contents", write(createHovered(), true));
+    }
+
+    @Test
+    @DisplayName("Nested extras test")
+    public void nestedExtrasTest() throws IOException {
+        final TextComponentPart inner = TextComponentPartBuilder.newBuilder().setText("inner").setUnderlined(TextFormattingOption.TRUE).build();
+        final TextComponentPart middle = TextComponentPartBuilder.newBuilder().setText("middle").setExtras(Collections.singletonList(inner)).build();
+        final TextComponentPart last = TextComponentPartBuilder.newBuilder().setText("last").setColor("red").build();
+        final TextComponentPart root = TextComponentPartBuilder.newBuilder().setText("root").setExtras(Arrays.asList(middle, last)).build();
+        assertGolden("nested", new TextComponent(Collections.singletonList(root)).toString());
+    }
+
+    @Test
+    @DisplayName("Reused buffer test")
+    public void reusedBufferTest() {
+        final StringBuilder large = new StringBuilder();
+        for(int i = 0; i < 5000; i++) large.append("\"quoted\" ");
+        final String first = TextComponent.of(large.toString()).toString();
+        Assertions.assertTrue(first.length() > 45000);
+        Assertions.assertEquals("[\"\",{\"text\":\"a\"}]", TextComponent.of("a").toString());
+        Assertions.assertEquals(first, TextComponent.of(large.toString()).toString());
+    }
+
+    @Test
+    @DisplayName("Failed write release test")
+    public void failedWriteReleaseTest() {
+        final TextComponent broken = new TextComponent(Arrays.asList(TextComponentPartBuilder.newBuilder().setText("a").build(), null));
+        Assertions.assertThrows(NullPointerException.class, broken::toString);
+
+        // A writer left in use would make every later acquire allocate a new one.
+        final ChatJsonWriter shared = ChatJsonWriter.acquire();
+        shared.release();
+        final ChatJsonWriter next = ChatJsonWriter.acquire();
+        next.release();
+        Assertions.assertSame(shared, next);
+        Assertions.assertEquals("[\"\",{\"text\":\"a\"}]", TextComponent.of("a").toString());
+    }
+
+}
@@ -0,0 +1,86 @@
+package dev.hawu.plugins.api.collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class CacheTest {
+
+    @Test
+    @DisplayName("Size bound test")
+    public void sizeBoundTest() {
+        final List<String> removed = new ArrayList<>();
+        final Cache<String, Integer> cache = Cache.<String, Integer>builder()
+            .maximumSize(2)
+            .removalListener((key, value, cause) -> removed.add(key + ":" + cause))
+            .build();
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        Assertions.assertEquals(1, cache.getIfPresent("a")); // "b" is now the least recently used
+        cache.put("c", 3);
+
+        Assertions.assertNull(cache.getIfPresent("b"));
+        Assertions.assertEquals(2, cache.estimatedSize());
+        Assertions.assertEquals("[b:SIZE]", removed.toString());
+        Assertions.assertEquals(1, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("Expiry test")
+    public void expiryTest() {
+        final AtomicLong time = new AtomicLong();
+        final Cache<String, Integer> cache = Cache.<String, Integer>builder()
+            .expireAfterWrite(100)
+            .ticker(time::get)
+            .build();
+
+        cache.put("a", 1);
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(99));
+        Assertions.assertEquals(1, cache.getIfPresent("a"));
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        Assertions.assertNull(cache.getIfPresent("a"));
+        Assertions.assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    @DisplayName("Loading and statistics test")
+    public void loadingTest() {
+        final AtomicInteger loads = new AtomicInteger();
+        final Cache<Integer, String> cache = Cache.<Integer, String>builder().build(key -> {
+            loads.incrementAndGet();
+            return key % 2 == 0 ? String.valueOf(key) : null;
+        });
+
+        Assertions.assertEquals("2", cache.get(2));
+        Assertions.assertEquals("2", cache.get(2));
+        Assertions.assertNull(cache.get(3));
+        Assertions.assertEquals(2, loads.get());
+
+        final CacheStats stats = cache.stats();
+        Assertions.assertEquals(1, stats.getHitCount());
+        Assertions.assertEquals(2, stats.getMissCount());
+        Assertions.assertEquals(1, stats.getLoadSuccessCount());
+        Assertions.assertEquals(1, stats.getLoadFailureCount());
+    }
+
+    @Test
+    @DisplayName("Refresh test")
+    public void refreshTest() {
+        final AtomicInteger version = new AtomicInteger();
+        final Cache<String, Integer> cache = Cache.<String, Integer>builder()
+            .executor(Runnable::run)
+            .build(key -> version.incrementAndGet());
+
+        Assertions.assertEquals(1, cache.get("a"));
+        Assertions.assertEquals(2, cache.refresh("a").join());
+        Assertions.assertEquals(2, cache.getIfPresent("a"));
+    }
+
+}
@@ -0,0 +1,167 @@
+package dev.hawu.plugins.api.collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class LazyReferenceTest {
+
+    @Test
+    @DisplayName("Thread safety modes test")
+    public void threadSafetyModesTest() {
+        for(final LazyReference.ThreadSafetyMode mode : LazyReference.ThreadSafetyMode.values()) {
+            final AtomicInteger calls = new AtomicInteger();
+            final LazyReference<Integer> reference = LazyReference.of(calls::incrementAndGet, mode);
+            Assertions.assertFalse(reference.isInitialized());
+            Assertions.assertEquals(1, reference.get());
+            Assertions.assertEquals(1, reference.get());
+            Assertions.assertTrue(reference.isInitialized());
+            Assertions.assertEquals(1, calls.get());
+
+            final AtomicInteger nullCalls = new AtomicInteger();
+            final LazyReference<String> nullable = LazyReference.of(() -> {
+                nullCalls.incrementAndGet();
+                return null;
+            }, mode);
+            Assertions.assertNull(nullable.get());
+            Assertions.assertNull(nullable.get());
+            Assertions.assertEquals(1, nullCalls.get());
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent computation test")
+    public void concurrentComputationTest() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Synchronized references invoke the supplier once, however many threads ask.
+            final AtomicInteger calls = new AtomicInteger();
+            final CountDownLatch entered = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            final LazyReference<Integer> synchronizedReference = LazyReference.of(() -> {
+                entered.countDown();
+                await(release);
+                return calls.incrementAndGet();
+            });
+            final Future<Integer> first = executor.submit(synchronizedReference::get);
+            await(entered);
+            final Future<Integer> second = executor.submit(synchronizedReference::get);
+            release.countDown();
+            Assertions.assertEquals(1, first.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, second.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, calls.get());
+
+            // Publication references let both threads compute, but hand out the first value published.
+            final AtomicInteger computed = new AtomicInteger();
+            final CyclicBarrier barrier = new CyclicBarrier(2);
+            final LazyReference<Integer> publicationReference = LazyReference.of(() -> {
+                final int value = computed.incrementAndGet();
+                try {
+                    barrier.await(5, TimeUnit.SECONDS);
+                } catch(final Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+                return value;
+            }, LazyReference.ThreadSafetyMode.PUBLICATION);
+            final Future<Integer> left = executor.submit(publicationReference::get);
+            final Future<Integer> right = executor.submit(publicationReference::get);
+            Assertions.assertEquals(left.get(5, TimeUnit.SECONDS), right.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(left.get(), publicationReference.get());
+            Assertions.assertEquals(2, computed.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            if(!latch.await(5, TimeUnit.SECONDS)) throw new IllegalStateException("Timed out");
+        } catch(final InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Test
+    @DisplayName("Expiry test")
+    public void expiryTest() {
+        final AtomicLong time = new AtomicLong();
+        final AtomicInteger calls = new AtomicInteger();
+        final LazyReference<Integer> reference = LazyReference.create(calls::incrementAndGet,
+            LazyReference.ThreadSafetyMode.SYNCHRONIZED, 100, 0, time::get);
+
+        Assertions.assertEquals(1, reference.get());
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(99));
+        Assertions.assertTrue(reference.isInitialized());
+        Assertions.assertEquals(1, reference.get());
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        Assertions.assertFalse(reference.isInitialized());
+        Assertions.assertEquals(2, reference.get());
+        Assertions.assertEquals(2, reference.get());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LazyReference.expiring(calls::incrementAndGet, 0));
+    }
+
+    @Test
+    @DisplayName("Refresh test")
+    public void refreshTest() {
+        final AtomicLong time = new AtomicLong();
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger seenDuringRefresh = new AtomicInteger();
+        final AtomicReference<LazyReference<Integer>> holder = new AtomicReference<>();
+        holder.set(LazyReference.create(() -> {
+            final int value = calls.incrementAndGet();
+            // Requests made while the value is being refreshed receive the previous value.
+            if(value == 2) seenDuringRefresh.set(holder.get().get());
+            return value;
+        }, LazyReference.ThreadSafetyMode.SYNCHRONIZED, 0, 100, time::get));
+        final LazyReference<Integer> reference = holder.get();
+
+        Assertions.assertEquals(1, reference.get());
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        Assertions.assertTrue(reference.isInitialized());
+        Assertions.assertEquals(2, reference.get());
+        Assertions.assertEquals(1, seenDuringRefresh.get());
+        Assertions.assertEquals(2, reference.get());
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("Invalidation test")
+    public void invalidationTest() {
+        final AtomicInteger calls = new AtomicInteger();
+        final LazyReference<Integer> reference = LazyReference.of(calls::incrementAndGet);
+        Assertions.assertEquals(1, reference.get());
+        reference.invalidate();
+        Assertions.assertFalse(reference.isInitialized());
+        Assertions.assertEquals(2, reference.get());
+
+        final LazyReference<String> precomputed = LazyReference.of("value");
+        precomputed.invalidate();
+        Assertions.assertTrue(precomputed.isInitialized());
+        Assertions.assertEquals("value", precomputed.get());
+    }
+
+    @Test
+    @DisplayName("Recompute after exception test")
+    public void recomputeAfterExceptionTest() {
+        for(final LazyReference.ThreadSafetyMode mode : LazyReference.ThreadSafetyMode.values()) {
+            final AtomicInteger calls = new AtomicInteger();
+            final LazyReference<Integer> reference = LazyReference.of(() -> {
+                if(calls.incrementAndGet() == 1) throw new IllegalStateException("First attempt fails");
+                return calls.get();
+            }, mode);
+
+            Assertions.assertThrows(IllegalStateException.class, reference::get);
+            Assertions.assertFalse(reference.isInitialized());
+            Assertions.assertEquals(2, reference.get());
+            Assertions.assertEquals(2, reference.get());
+            Assertions.assertEquals(2, calls.get());
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package dev.hawu.plugins.api.collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+public final class UUIDHashMapTest {
+
+    @Test
+    @DisplayName("Basic operations test")
+    public void basicOperationsTest() {
+        final UUIDHashMap<String> map = new UUIDHashMap<>();
+        final UUID uuid = UUID.randomUUID();
+
+        Assertions.assertNull(map.put(uuid, "a"));
+        Assertions.assertEquals("a", map.put(uuid, "b"));
+        Assertions.assertEquals("b", map.get(new UUID(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits())));
+        Assertions.assertTrue(map.containsKey(uuid));
+        Assertions.assertEquals(1, map.size());
+
+        Assertions.assertEquals("b", map.remove(uuid));
+        Assertions.assertNull(map.get(uuid));
+        Assertions.assertTrue(map.isEmpty());
+        Assertions.assertThrows(NullPointerException.class, () -> map.put(uuid, null));
+    }
+
+    @Test
+    @DisplayName("Consistency with HashMap test")
+    public void consistencyTest() {
+        final UUIDHashMap<Integer> map = new UUIDHashMap<>();
+        final Map<UUID, Integer> expected = new HashMap<>();
+        final List<UUID> keys = new ArrayList<>();
+        final Random random = new Random(42);
+
+        // Colliding halves make sure probing and backward shifting are exercised.
+        for(int i = 0; i < 2000; i++) keys.add(new UUID(random.nextInt(64), random.nextInt(64)));
+        for(int i = 0; i < 20000; i++) {
+            final UUID key = keys.get(random.nextInt(keys.size()));
+            if(random.nextBoolean()) Assertions.assertEquals(expected.put(key, i), map.put(key, i));
+            else Assertions.assertEquals(expected.remove(key), map.remove(key));
+        }
+
+        Assertions.assertEquals(expected.size(), map.size());
+        Assertions.assertEquals(expected, map);
+        for(final UUID key : keys) Assertions.assertEquals(expected.get(key), map.get(key));
+    }
+
+}
@@ -0,0 +1,40 @@
+package dev.hawu.plugins.api.items;
+
+import dev.hawu.plugins.api.nbt.NBTCodec;
+import dev.hawu.plugins.api.nbt.NBTCompound;
+import dev.hawu.plugins.api.nbt.NBTInt;
+import dev.hawu.plugins.api.nbt.NBTList;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+public final class ItemCodecTest {
+
+    private static byte[] encodeEmpty(final int size) {
+        final NBTCompound root = new NBTCompound();
+        root.put("Size", NBTInt.valueOf(size));
+        root.put("Items", new NBTList());
+        return NBTCodec.toByteArray(root, NBTCodec.Compression.GZIP);
+    }
+
+    @Test
+    @DisplayName("Empty slots test")
+    public void emptySlotsTest() throws IOException {
+        final ItemStack[] items = ItemCodec.decode(ItemCodec.encode(new ItemStack[54]));
+        Assertions.assertEquals(54, items.length);
+        for(final ItemStack item : items) Assertions.assertNull(item);
+    }
+
+    @Test
+    @DisplayName("Size limit test")
+    public void sizeLimitTest() throws IOException {
+        Assertions.assertEquals(65536, ItemCodec.decode(encodeEmpty(65536)).length);
+        Assertions.assertThrows(IOException.class, () -> ItemCodec.decode(encodeEmpty(Integer.MAX_VALUE)));
+        Assertions.assertThrows(IOException.class, () -> ItemCodec.decode(encodeEmpty(-1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ItemCodec.encode(new ItemStack[65537]));
+    }
+
+}
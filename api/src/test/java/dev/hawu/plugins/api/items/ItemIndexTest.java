@@ -0,0 +1,44 @@
+package dev.hawu.plugins.api.items;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public final class ItemIndexTest {
+
+    @Test
+    @DisplayName("Fingerprint keys test")
+    public void fingerprintKeysTest() {
+        final ItemIndex<String> index = ItemIndex.of("custom.id");
+        Assertions.assertNull(index.put(0L, "zero"));
+        Assertions.assertNull(index.put(-1L, "all bits"));
+        Assertions.assertNull(index.put(Long.MIN_VALUE, "sign bit"));
+        Assertions.assertEquals("zero", index.put(0L, "none"));
+        Assertions.assertEquals(3, index.size());
+
+        Assertions.assertEquals("none", index.get(0L));
+        Assertions.assertEquals("all bits", index.get(-1L));
+        Assertions.assertEquals("sign bit", index.get(Long.MIN_VALUE));
+        Assertions.assertNull(index.get(1L));
+
+        Assertions.assertEquals("all bits", index.remove(-1L));
+        Assertions.assertNull(index.remove(-1L));
+        Assertions.assertEquals(2, index.size());
+        Assertions.assertThrows(NullPointerException.class, () -> index.put(2L, null));
+
+        index.clear();
+        Assertions.assertTrue(index.isEmpty());
+        Assertions.assertNull(index.get(0L));
+    }
+
+    @Test
+    @DisplayName("Paths copy test")
+    public void pathsCopyTest() {
+        final String[] paths = { "custom.id", "custom.tier" };
+        final ItemIndex<Integer> index = ItemIndex.of(paths);
+        paths[0] = "changed";
+        index.getPaths()[1] = "changed";
+        Assertions.assertArrayEquals(new String[] { "custom.id", "custom.tier" }, index.getPaths());
+    }
+
+}
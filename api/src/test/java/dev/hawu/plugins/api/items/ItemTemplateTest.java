@@ -0,0 +1,208 @@
+package dev.hawu.plugins.api.items;
+
+import dev.hawu.plugins.api.collections.tuples.Pair;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+public final class ItemTemplateTest {
+
+    // Counts the metas applied to items, which only happens when the template creates an item.
+    private static final AtomicInteger APPLIED = new AtomicInteger();
+
+    @BeforeAll
+    public static void installServer() {
+        if(Bukkit.getServer() != null) return;
+        final ItemFactory factory = (ItemFactory) Proxy.newProxyInstance(ItemFactory.class.getClassLoader(), new Class<?>[] { ItemFactory.class },
+            (proxy, method, args) -> {
+                switch(method.getName()) {
+                    case "getItemMeta":
+                        return newMeta(null, null, 0);
+                    case "isApplicable":
+                        return true;
+                    case "asMetaFor":
+                        APPLIED.incrementAndGet();
+                        return args[0];
+                    case "updateMaterial":
+                        return args[1];
+                    case "equals":
+                        return args.length == 2 ? stateOf(args[0]).equals(stateOf(args[1])) : proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        Bukkit.setServer((Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[] { Server.class },
+            (proxy, method, args) -> {
+                switch(method.getName()) {
+                    case "getItemFactory":
+                        return factory;
+                    case "getLogger":
+                        return Logger.getLogger("ItemTemplateTest");
+                    case "getName":
+                    case "getVersion":
+                    case "getBukkitVersion":
+                        return "test";
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }));
+    }
+
+    private static MetaState stateOf(final Object meta) {
+        return meta == null ? new MetaState(null, null, 0) : (MetaState) Proxy.getInvocationHandler(meta);
+    }
+
+    private static ItemMeta newMeta(final String name, final List<String> lore, final int damage) {
+        final List<Class<?>> interfaces = new ArrayList<>(Collections.singletonList(ItemMeta.class));
+        try {
+            // Newer APIs read the durability through this interface.
+            interfaces.add(Class.forName("org.bukkit.inventory.meta.Damageable"));
+        } catch(final ClassNotFoundException ignored) {
+        }
+        return (ItemMeta) Proxy.newProxyInstance(ItemMeta.class.getClassLoader(), interfaces.toArray(new Class<?>[0]), new MetaState(name, lore, damage));
+    }
+
+    // Holds the display name, lore and damage of a fake item meta.
+    private static final class MetaState implements InvocationHandler {
+
+        private String name;
+        private List<String> lore;
+        private int damage;
+
+        private MetaState(final String name, final List<String> lore, final int damage) {
+            this.name = name;
+            this.lore = lore != null ? new ArrayList<>(lore) : null;
+            this.damage = damage;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object invoke(final Object proxy, final java.lang.reflect.Method method, final Object[] args) {
+            switch(method.getName()) {
+                case "hasDisplayName":
+                    return name != null;
+                case "getDisplayName":
+                    return name;
+                case "setDisplayName":
+                    name = (String) args[0];
+                    return null;
+                case "hasLore":
+                    return lore != null;
+                case "getLore":
+                    return lore != null ? new ArrayList<>(lore) : null;
+                case "setLore":
+                    lore = args[0] != null ? new ArrayList<>((List<String>) args[0]) : null;
+                    return null;
+                case "hasDamage":
+                    return damage != 0;
+                case "getDamage":
+                    return damage;
+                case "setDamage":
+                    damage = (Integer) args[0];
+                    return null;
+                case "clone":
+                    return newMeta(name, lore, damage);
+                case "equals":
+                    return args[0] != null && Proxy.isProxyClass(args[0].getClass()) && equals(Proxy.getInvocationHandler(args[0]));
+                case "hashCode":
+                    return hashCode();
+                case "toString":
+                    return "Meta{name=" + name + ", lore=" + lore + "}";
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if(!(other instanceof MetaState)) return false;
+            final MetaState state = (MetaState) other;
+            return Objects.equals(name, state.name) && Objects.equals(lore, state.lore) && damage == state.damage;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, lore, damage);
+        }
+
+    }
+
+    private static ItemStack createButton() {
+        return ItemStackBuilder.of(Material.ARROW)
+            .amount(2)
+            .name("&6Page %next%")
+            .lore("&7Go to page %next% of %total%", "&8Static line")
+            .build();
+    }
+
+    @Test
+    @DisplayName("Rendering test")
+    public void renderingTest() {
+        final ItemTemplate template = ItemStackBuilder.from(createButton()).toTemplate();
+        Assertions.assertEquals(Arrays.asList("next", "total"), template.getPlaceholders());
+        Assertions.assertEquals("§6Page %next%", template.getPrototype().getItemMeta().getDisplayName());
+
+        final ItemStack item = template.instantiate(Pair.of("next", 3), Pair.of("total", "&c9"), Pair.of("unused", 0));
+        Assertions.assertEquals(Material.ARROW, item.getType());
+        Assertions.assertEquals(2, item.getAmount());
+        Assertions.assertEquals("§6Page 3", item.getItemMeta().getDisplayName());
+        Assertions.assertEquals(Arrays.asList("§7Go to page 3 of §c9", "§8Static line"), item.getItemMeta().getLore());
+
+        final ItemStack partial = template.instantiate(Pair.of("total", 9), Pair.of("total", 10));
+        Assertions.assertEquals("§6Page %next%", partial.getItemMeta().getDisplayName());
+        Assertions.assertEquals("§7Go to page %next% of 9", partial.getItemMeta().getLore().get(0));
+        Assertions.assertEquals(template.getPrototype(), template.instantiate());
+    }
+
+    @Test
+    @DisplayName("Caching test")
+    public void cachingTest() {
+        final ItemTemplate template = ItemTemplate.of(createButton(), 2);
+        final ItemStack first = template.instantiate(Pair.of("next", 1), Pair.of("total", 5));
+        first.setAmount(64);
+
+        final int applied = APPLIED.get();
+        final ItemStack second = template.instantiate(Pair.of("total", 5), Pair.of("next", 1));
+        Assertions.assertEquals(applied, APPLIED.get());
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(2, second.getAmount());
+
+        template.instantiate(Pair.of("next", 2), Pair.of("total", 5));
+        Assertions.assertTrue(APPLIED.get() > applied);
+
+        final ItemTemplate uncached = ItemTemplate.of(createButton(), 0);
+        final int before = APPLIED.get();
+        Assertions.assertEquals(second, uncached.instantiate(Pair.of("next", 1), Pair.of("total", 5)));
+        uncached.instantiate(Pair.of("next", 1), Pair.of("total", 5));
+        Assertions.assertTrue(APPLIED.get() - before >= 2);
+    }
+
+    @Test
+    @DisplayName("Shared templates test")
+    public void sharedTemplatesTest() {
+        final ItemStack button = createButton();
+        final ItemTemplate template = ItemTemplate.shared(button);
+        Assertions.assertSame(template, ItemTemplate.shared(createButton()));
+
+        button.setAmount(5);
+        Assertions.assertNotSame(template, ItemTemplate.shared(button));
+        Assertions.assertSame(template, ItemTemplate.shared(createButton()));
+        Assertions.assertEquals(2, template.getPrototype().getAmount());
+    }
+
+}
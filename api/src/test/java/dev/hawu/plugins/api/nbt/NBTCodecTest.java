@@ -0,0 +1,100 @@
+package dev.hawu.plugins.api.nbt;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+public final class NBTCodecTest {
+
+    private static NBTCompound sample() {
+        final NBTList lore = new NBTList();
+        lore.addString("First line");
+        lore.addString("Ünïcödé line");
+
+        final NBTCompound display = new NBTCompound();
+        display.put("Name", new NBTString("Sword"));
+        display.put("Lore", lore);
+
+        final NBTCompound root = new NBTCompound();
+        root.put("display", display);
+        root.put("byte", new NBTByte((byte) -1));
+        root.put("short", new NBTShort((short) 300));
+        root.put("int", new NBTInt(123456));
+        root.put("long", new NBTLong(Long.MIN_VALUE));
+        root.put("float", new NBTFloat(1.5F));
+        root.put("double", new NBTDouble(-2.25));
+        root.put("bytes", new NBTByteArray(new byte[] { 1, 2, 3 }));
+        root.put("ints", new NBTIntArray(new int[] { 4, 5 }));
+        root.put("longs", new NBTLongArray(new long[] { 6L }));
+        root.put("empty", new NBTList());
+        root.put("doubles", NBTList.ofDoubles(1.0, -0.5));
+        return root;
+    }
+
+    @Test
+    @DisplayName("Round trip test")
+    public void roundTripTest() throws IOException {
+        final NBTCompound compound = sample();
+        for(final NBTCodec.Compression compression : NBTCodec.Compression.values()) {
+            final byte[] bytes = NBTCodec.toByteArray(compound, compression);
+            Assertions.assertEquals(compound, NBTCodec.fromByteArray(bytes, compression));
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        NBTCodec.write(buffer, compound);
+        buffer.flip();
+        Assertions.assertEquals(compound, NBTCodec.read(buffer));
+        Assertions.assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    @DisplayName("Standard format test")
+    public void formatTest() {
+        final NBTCompound compound = new NBTCompound();
+        compound.put("a", new NBTShort((short) 1));
+        final byte[] expected = { 10, 0, 0, 2, 0, 1, 'a', 0, 1, 0 };
+        Assertions.assertArrayEquals(expected, NBTCodec.toByteArray(compound, NBTCodec.Compression.NONE));
+    }
+
+    @Test
+    @DisplayName("Malformed data test")
+    public void malformedTest() {
+        Assertions.assertThrows(IOException.class, () -> NBTCodec.fromByteArray(new byte[] { 8, 0, 0 }, NBTCodec.Compression.NONE));
+        Assertions.assertThrows(IOException.class, () -> NBTCodec.fromByteArray(new byte[] { 10, 0, 0, 42, 0, 0 }, NBTCodec.Compression.NONE));
+    }
+
+    @Test
+    @DisplayName("Oversized length test")
+    public void oversizedLengthTest() {
+        // Each claims close to Integer.MAX_VALUE elements, but the input ends right after the length.
+        final byte[][] inputs = {
+            { 10, 0, 0, 7, 0, 1, 'a', 0x7F, -1, -1, -1 },
+            { 10, 0, 0, 11, 0, 1, 'a', 0x7F, -1, -1, -1 },
+            { 10, 0, 0, 12, 0, 1, 'a', 0x7F, -1, -1, -1, 0, 0, 0, 0, 0, 0, 0, 1 },
+            { 10, 0, 0, 9, 0, 1, 'a', 6, 0x7F, -1, -1, -1 },
+            { 10, 0, 0, 9, 0, 1, 'a', 8, 0x7F, -1, -1, -1 },
+        };
+        for(final byte[] input : inputs) {
+            Assertions.assertThrows(IOException.class, () -> NBTCodec.fromByteArray(input, NBTCodec.Compression.NONE));
+        }
+    }
+
+    @Test
+    @DisplayName("Large array test")
+    public void largeArrayTest() throws IOException {
+        final byte[] bytes = new byte[100_000];
+        final int[] ints = new int[20_000];
+        for(int i = 0; i < bytes.length; i++) bytes[i] = (byte) i;
+        for(int i = 0; i < ints.length; i++) ints[i] = i * 31;
+
+        final NBTCompound compound = new NBTCompound();
+        compound.put("bytes", new NBTByteArray(bytes));
+        compound.put("ints", new NBTIntArray(ints));
+        compound.put("packed", NBTList.ofInts(ints));
+        Assertions.assertEquals(compound, NBTCodec.fromByteArray(NBTCodec.toByteArray(compound, NBTCodec.Compression.NONE), NBTCodec.Compression.NONE));
+    }
+
+}
@@ -0,0 +1,101 @@
+package dev.hawu.plugins.api.nbt;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public final class NBTCopyOnWriteTest {
+
+    private NBTCompound createItemTag() {
+        final NBTList lore = new NBTList();
+        lore.addString("First line");
+        lore.addString("Second line");
+
+        final NBTCompound display = new NBTCompound();
+        display.put("Name", new NBTString("Sword"));
+        display.put("Lore", lore);
+
+        final NBTCompound tag = new NBTCompound();
+        tag.put("display", display);
+        tag.put("HideFlags", NBTInt.valueOf(1));
+        return tag;
+    }
+
+    @Test
+    @DisplayName("Clone isolation test")
+    public void cloneIsolationTest() {
+        final NBTCompound original = createItemTag();
+        final NBTCompound clone = (NBTCompound) original.clone();
+        Assertions.assertEquals(original, clone);
+
+        final NBTCompound display = (NBTCompound) clone.get("display");
+        display.put("Name", new NBTString("Axe"));
+        ((NBTList) display.get("Lore")).addString("Third line");
+        clone.put("HideFlags", NBTInt.valueOf(2));
+
+        final NBTCompound originalDisplay = (NBTCompound) original.get("display");
+        Assertions.assertEquals("Sword", ((NBTString) originalDisplay.get("Name")).getData());
+        Assertions.assertEquals(2, ((NBTList) originalDisplay.get("Lore")).size());
+        Assertions.assertEquals(1, ((NBTInt) original.get("HideFlags")).getData());
+        Assertions.assertEquals(3, ((NBTList) display.get("Lore")).size());
+
+        originalDisplay.remove("Lore");
+        Assertions.assertTrue(display.containsKey("Lore"));
+    }
+
+    @Test
+    @DisplayName("Frozen compound test")
+    public void frozenCompoundTest() {
+        final NBTCompound template = createItemTag().freeze();
+        final NBTCompound display = (NBTCompound) template.get("display");
+        Assertions.assertTrue(display.isFrozen());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> template.put("HideFlags", NBTInt.valueOf(2)));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> display.entrySet().clear());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> ((NBTList) display.get("Lore")).addString("Third line"));
+
+        final NBTCompound clone = (NBTCompound) template.clone();
+        Assertions.assertFalse(clone.isFrozen());
+        ((NBTCompound) clone.get("display")).put("Name", new NBTString("Axe"));
+        Assertions.assertEquals("Sword", ((NBTString) display.get("Name")).getData());
+        Assertions.assertEquals("Axe", ((NBTString) ((NBTCompound) clone.get("display")).get("Name")).getData());
+    }
+
+    @Test
+    @DisplayName("Previously held tags isolation test")
+    public void previouslyHeldTagsIsolationTest() {
+        final NBTCompound original = createItemTag();
+        final NBTCompound display = (NBTCompound) original.get("display");
+        final NBTList lore = (NBTList) display.get("Lore");
+        final NBTCompound clone = (NBTCompound) original.clone();
+
+        display.put("Name", new NBTString("Axe"));
+        lore.addString("Third line");
+
+        final NBTCompound cloneDisplay = (NBTCompound) clone.get("display");
+        Assertions.assertEquals("Sword", ((NBTString) cloneDisplay.get("Name")).getData());
+        Assertions.assertEquals(2, ((NBTList) cloneDisplay.get("Lore")).size());
+
+        final NBTList cloneLore = (NBTList) lore.clone();
+        lore.addString("Fourth line");
+        Assertions.assertEquals(3, cloneLore.size());
+    }
+
+    @Test
+    @DisplayName("Shared read-only iteration test")
+    public void sharedReadOnlyIterationTest() {
+        final NBTCompound template = createItemTag().freeze();
+        final NBTCompound clone = (NBTCompound) template.clone();
+
+        final int[] count = { 0 };
+        clone.forEach((key, value) -> count[0]++);
+        clone.entrySet().forEach(entry -> count[0]++);
+        Assertions.assertEquals(4, count[0]);
+        Assertions.assertSame(template.getBackingMap(), clone.getBackingMap());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> clone.keySet().remove("HideFlags"));
+
+        clone.remove("HideFlags");
+        Assertions.assertNotSame(template.getBackingMap(), clone.getBackingMap());
+        Assertions.assertTrue(template.containsKey("HideFlags"));
+    }
+
+}
@@ -0,0 +1,47 @@
+package dev.hawu.plugins.api.nbt;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public final class NBTDispatcherTest {
+
+    private final NBTDispatcher<Object> dispatcher = new NBTDispatcher<>(Object.class)
+        .register(NBTCodec.TAG_INT, Integer.class, NBTInt::valueOf, type -> ((NBTInt) type).getData())
+        .register(NBTCodec.TAG_DOUBLE, Number.class, number -> new NBTDouble(number.doubleValue()), type -> ((NBTDouble) type).getData())
+        .register(NBTCodec.TAG_STRING, String.class, NBTString::new, type -> ((NBTString) type).getData());
+
+    @Test
+    @DisplayName("Dispatch test")
+    public void dispatchTest() {
+        Assertions.assertEquals(NBTCodec.TAG_INT, dispatcher.getTypeId(5));
+        Assertions.assertEquals(NBTCodec.TAG_DOUBLE, dispatcher.getTypeId(5L));
+        Assertions.assertEquals(NBTCodec.TAG_END, dispatcher.getTypeId(new Object()));
+
+        Assertions.assertEquals(NBTInt.valueOf(5), dispatcher.fromForeign(5));
+        Assertions.assertEquals(new NBTDouble(5.0), dispatcher.fromForeign(5L));
+        Assertions.assertEquals("text", dispatcher.toForeign(new NBTString("text")));
+        Assertions.assertNull(dispatcher.fromForeign(new Object()));
+        Assertions.assertNull(dispatcher.toForeign(NBTByte.valueOf((byte) 1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> dispatcher.register(NBTCodec.TAG_END, Object.class, tag -> null, tag -> null));
+    }
+
+    @Test
+    @DisplayName("List conversion test")
+    public void listConversionTest() {
+        final Object[] ints = { 1, 2, 3 };
+        final NBTList packed = dispatcher.listFromForeign(ints.length, i -> ints[i]);
+        Assertions.assertEquals(NBTList.ofInts(1, 2, 3), packed);
+        Assertions.assertTrue(packed.getBackingList() instanceof PackedList);
+
+        final Object[] doubles = { 1.5, 2L };
+        Assertions.assertEquals(NBTList.ofDoubles(1.5, 2.0), dispatcher.listFromForeign(doubles.length, i -> doubles[i]));
+
+        final Object[] strings = { "a", "b" };
+        final NBTList boxed = dispatcher.listFromForeign(strings.length, i -> strings[i]);
+        Assertions.assertFalse(boxed.getBackingList() instanceof PackedList);
+        Assertions.assertEquals(2, boxed.size());
+        Assertions.assertTrue(dispatcher.listFromForeign(0, i -> null).isEmpty());
+    }
+
+}
@@ -0,0 +1,69 @@
+package dev.hawu.plugins.api.nbt;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+public final class NBTPackingTest {
+
+    @Test
+    @DisplayName("Packed list test")
+    public void packedListTest() {
+        final NBTList packed = NBTList.ofInts(1, 2, 3);
+        packed.addInt(4);
+        packed.add(0, NBTInt.valueOf(0));
+        packed.remove(2);
+
+        final NBTList boxed = new NBTList();
+        for(final int i : new int[] { 0, 1, 3, 4 }) boxed.addInt(i);
+
+        Assertions.assertEquals(boxed, packed);
+        Assertions.assertEquals(boxed.hashCode(), packed.hashCode());
+        Assertions.assertEquals(3, packed.getInt(2));
+        Assertions.assertEquals(3, boxed.getInt(2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> packed.add(new NBTString("nope")));
+
+        final NBTList copy = (NBTList) packed.clone();
+        copy.set(0, NBTInt.valueOf(9));
+        Assertions.assertEquals(0, packed.getInt(0));
+        Assertions.assertEquals(2.5, NBTList.ofDoubles(1.0, 2.5).getDouble(1));
+    }
+
+    @Test
+    @DisplayName("Compact compound test")
+    public void compactCompoundTest() {
+        final NBTCompound compound = new NBTCompound();
+        for(int i = 0; i < 5; i++) compound.put("key" + i, NBTInt.valueOf(i));
+        compound.remove("key1");
+        compound.put("key0", NBTInt.valueOf(10));
+        Assertions.assertEquals(Arrays.asList("key0", "key2", "key3", "key4"), Arrays.asList(compound.keySet().toArray()));
+
+        final Iterator<Map.Entry<String, NBTType>> iterator = compound.entrySet().iterator();
+        iterator.next();
+        iterator.remove();
+        Assertions.assertNull(compound.get("key0"));
+        Assertions.assertEquals(3, compound.size());
+
+        for(int i = 10; i < 20; i++) compound.put("key" + i, NBTInt.valueOf(i));
+        Assertions.assertEquals(13, compound.size());
+        Assertions.assertEquals(NBTInt.valueOf(15), compound.get("key15"));
+        Assertions.assertEquals(NBTInt.valueOf(2), compound.get("key2"));
+
+        final NBTCompound copy = (NBTCompound) compound.clone();
+        copy.remove("key2");
+        Assertions.assertTrue(compound.containsKey("key2"));
+    }
+
+    @Test
+    @DisplayName("Cached values test")
+    public void cachedValuesTest() {
+        Assertions.assertSame(NBTByte.valueOf((byte) -128), NBTByte.valueOf((byte) -128));
+        Assertions.assertSame(NBTInt.valueOf(1024), NBTInt.valueOf(1024));
+        Assertions.assertEquals(100_000, NBTInt.valueOf(100_000).getData());
+    }
+
+}
@@ -0,0 +1,118 @@
+package dev.hawu.plugins.api.nbt;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public final class NBTRegistryTest {
+
+    @Test
+    @DisplayName("Path access test")
+    public void pathAccessTest() {
+        final NBTCompound inner = new NBTCompound();
+        inner.put("level", new NBTShort((short) 5));
+        inner.put("owner", new NBTString("Hawu"));
+        final NBTCompound root = new NBTCompound();
+        root.put("data", inner);
+        root.put("count", new NBTInt(3));
+
+        final ItemStack item = new ItemStack(Material.STONE);
+        final MapRegistry registry = new MapRegistry(root);
+        Assertions.assertTrue(registry.has(item, "data.level"));
+        Assertions.assertFalse(registry.has(item, "data.level.deeper"));
+        Assertions.assertFalse(registry.has(item, "missing.level"));
+        Assertions.assertEquals(5, registry.getInt(item, "data.level"));
+        Assertions.assertEquals(3L, registry.getLong(item, "count"));
+        Assertions.assertEquals(0, registry.getInt(item, "data.owner"));
+        Assertions.assertEquals("Hawu", registry.getString(item, "data.owner"));
+        Assertions.assertNull(registry.getString(item, "count"));
+        Assertions.assertEquals(0, registry.getInt(new ItemStack(Material.STONE), "nothing"));
+    }
+
+    @Test
+    @DisplayName("Edit test")
+    public void editTest() {
+        final ItemStack item = new ItemStack(Material.STONE);
+        final MapRegistry registry = new MapRegistry(new NBTCompound());
+        Assertions.assertSame(item, registry.edit(item, compound -> compound.put("count", new NBTInt(7))));
+        Assertions.assertEquals(7, registry.getInt(item, "count"));
+    }
+
+    @Test
+    @DisplayName("Fingerprint test")
+    public void fingerprintTest() {
+        final NBTCompound first = new NBTCompound();
+        first.put("id", new NBTString("sword"));
+        first.put("stats", NBTList.ofInts(1, 2));
+        first.put("uses", NBTInt.valueOf(3));
+        final NBTCompound second = new NBTCompound();
+        second.put("uses", NBTInt.valueOf(9));
+        second.put("stats", NBTList.ofInts(1, 2));
+        second.put("id", new NBTString("sword"));
+        final NBTCompound root = new NBTCompound();
+        root.put("custom", first);
+        final NBTCompound reordered = new NBTCompound();
+        reordered.put("custom", second);
+
+        final ItemStack item = new ItemStack(Material.STONE);
+        final long fingerprint = new MapRegistry(root).fingerprint(item, "custom.id", "custom.stats");
+        Assertions.assertEquals(fingerprint, new MapRegistry(reordered).fingerprint(item, "custom.id", "custom.stats"));
+        Assertions.assertNotEquals(fingerprint, new MapRegistry(root).fingerprint(new ItemStack(Material.DIRT), "custom.id", "custom.stats"));
+        Assertions.assertNotEquals(fingerprint, new MapRegistry(root).fingerprint(item, "custom.id", "custom.missing"));
+        Assertions.assertNotEquals(fingerprint, new MapRegistry(root).fingerprint(item, "custom.stats", "custom.id"));
+
+        second.put("uses", NBTInt.valueOf(3));
+        Assertions.assertEquals(new MapRegistry(root).fingerprint(item, "custom"), new MapRegistry(reordered).fingerprint(item, "custom"));
+    }
+
+    private static final class MapRegistry extends NBTRegistry {
+
+        private final NBTCompound root;
+
+        private MapRegistry(final @NotNull NBTCompound root) {
+            this.root = root;
+        }
+
+        @Override
+        public @Nullable NBTCompound getCompound(final @NotNull ItemStack item) {
+            return (NBTCompound) root.clone();
+        }
+
+        @Override
+        public @NotNull ItemStack applyCompound(final @NotNull ItemStack item, final @Nullable NBTCompound compound) {
+            return item;
+        }
+
+        @Override
+        public void writeCompound(final @NotNull ItemStack item, final @Nullable NBTCompound compound) {
+            root.clear();
+            if(compound != null) root.putAll(compound);
+        }
+
+        @Override
+        protected @Nullable Object getTag(final @NotNull ItemStack item) {
+            return root;
+        }
+
+        @Override
+        protected @Nullable Object getTag(final @NotNull Object compound, final @NotNull String key) {
+            return compound instanceof NBTCompound ? ((NBTCompound) compound).get(key) : null;
+        }
+
+        @Override
+        protected @Nullable NBTType toAPIType(final @NotNull Object tag) {
+            return (NBTType) tag;
+        }
+
+        @Override
+        protected @Nullable Object toNMSType(final @NotNull NBTType tag) {
+            return tag;
+        }
+
+    }
+
+}
@@ -0,0 +1,29 @@
+package dev.hawu.plugins.api.particles;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public final class ParticleFrameTest {
+
+    @Test
+    @DisplayName("Frame buffer test")
+    public void frameBufferTest() {
+        final ParticleEffect effect = ParticleEffect.of(ParticleEnum.FLAME).build();
+        final ParticleFrame frame = ParticleFrame.of(effect, 1);
+        for(int i = 0; i < 100; i++) frame.add(i, i * 2, i * 3);
+
+        Assertions.assertSame(effect, frame.getPrototype());
+        Assertions.assertEquals(100, frame.size());
+        Assertions.assertEquals(42.0, frame.getX(42));
+        Assertions.assertEquals(84.0, frame.getY(42));
+        Assertions.assertEquals(126.0, frame.getZ(42));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> frame.getX(100));
+
+        frame.clear();
+        Assertions.assertTrue(frame.isEmpty());
+        frame.add(1, 2, 3);
+        Assertions.assertEquals(3.0, frame.getZ(0));
+    }
+
+}
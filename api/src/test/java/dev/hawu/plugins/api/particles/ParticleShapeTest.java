@@ -0,0 +1,60 @@
+package dev.hawu.plugins.api.particles;
+
+import dev.hawu.plugins.api.MathUtils;
+import org.bukkit.util.Vector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public final class ParticleShapeTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    @DisplayName("Mesh caching test")
+    public void meshCachingTest() {
+        Assertions.assertSame(ParticleShape.circle(24), ParticleShape.circle(24));
+        Assertions.assertNotSame(ParticleShape.circle(24), ParticleShape.circle(25));
+        Assertions.assertSame(ParticleShape.helix(40, 2.5), ParticleShape.helix(40, 2.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParticleShape.polygon(2, 4));
+    }
+
+    @Test
+    @DisplayName("Unit mesh test")
+    public void unitMeshTest() {
+        final double[] sphere = ParticleShape.sphere(50).getCoordinates();
+        for(int i = 0; i < sphere.length; i += 3) {
+            Assertions.assertEquals(1, sphere[i] * sphere[i] + sphere[i + 1] * sphere[i + 1] + sphere[i + 2] * sphere[i + 2], EPSILON);
+        }
+
+        final ParticleShape cone = ParticleShape.cone(4, 8);
+        Assertions.assertEquals(33, cone.size());
+        Assertions.assertEquals(1, cone.getCoordinates()[32 * 3 + 1], EPSILON);
+        Assertions.assertEquals(18, ParticleShape.polygon(6, 3).size());
+    }
+
+    @Test
+    @DisplayName("Transform test")
+    public void transformTest() {
+        final ParticleTransform transform = ParticleTransform.identity().scale(2).rotateY(30).rotateX(-45).translate(10, 64, -5);
+        final Vector expected = MathUtils.rotateAroundAxisX(MathUtils.rotateAroundAxisY(new Vector(1, 0.5, -0.25).multiply(2), 30), -45).add(new Vector(10, 64, -5));
+        final Vector actual = transform.apply(new Vector(1, 0.5, -0.25));
+        Assertions.assertEquals(expected.getX(), actual.getX(), EPSILON);
+        Assertions.assertEquals(expected.getY(), actual.getY(), EPSILON);
+        Assertions.assertEquals(expected.getZ(), actual.getZ(), EPSILON);
+
+        final ParticleFrame frame = ParticleFrame.of(ParticleEffect.of(ParticleEnum.FLAME).build(), 1);
+        frame.add(ParticleShape.of(1, 0.5, -0.25, 0, 0, 0), transform);
+        Assertions.assertEquals(2, frame.size());
+        Assertions.assertEquals(expected.getZ(), frame.getZ(0), EPSILON);
+        Assertions.assertEquals(64, frame.getY(1), EPSILON);
+
+        final Vector axis = new Vector(1, 2, 3);
+        final Vector rotated = ParticleTransform.identity().rotate(axis, 70).apply(new Vector(4, -1, 2));
+        final Vector reference = MathUtils.rotateAroundAxis(new Vector(4, -1, 2), axis.clone(), 70);
+        Assertions.assertEquals(reference.getX(), rotated.getX(), EPSILON);
+        Assertions.assertEquals(reference.getY(), rotated.getY(), EPSILON);
+        Assertions.assertEquals(reference.getZ(), rotated.getZ(), EPSILON);
+    }
+
+}
@@ -0,0 +1,107 @@
+package dev.hawu.plugins.api.particles;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public final class ParticleViewersTest {
+
+    // Only the location is read when indexing, every other method is left unimplemented.
+    private static Player player(final double x, final double y, final double z) {
+        final Location location = new Location(null, x, y, z);
+        return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[] { Player.class }, (proxy, method, args) -> {
+            switch(method.getName()) {
+                case "getLocation":
+                    return location.clone();
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "Player" + location.toVector();
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    // Far away players, so that queries have fewer cells than players and probe cells instead of scanning.
+    private static List<Player> withFillers(final Player... players) {
+        final List<Player> list = new ArrayList<>(Arrays.asList(players));
+        for(int i = 0; i < 16; i++) list.add(player(10_000 + i, 64, 10_000));
+        return list;
+    }
+
+    private static List<Player> query(final ParticleViewers.WorldIndex index, final double x, final double y, final double z, final double radius) {
+        return index.query(x, y, z, x, y, z, radius, 1, 0);
+    }
+
+    @Test
+    @DisplayName("Cell boundaries test")
+    public void cellBoundariesTest() {
+        final Player before = player(31.9, 64, 0);
+        final Player after = player(32.1, 64, 0);
+        final Player far = player(33.5, 64, 0);
+        final ParticleViewers.WorldIndex index = new ParticleViewers.WorldIndex(withFillers(before, after, far));
+
+        Assertions.assertEquals(Arrays.asList(before, after), query(index, 31.5, 64, 0, 1));
+        Assertions.assertEquals(Arrays.asList(after, far), query(index, 33, 64, 0, 1));
+        Assertions.assertEquals(Collections.singletonList(before), query(index, 0, 64, 0, 31.9));
+        Assertions.assertEquals(Arrays.asList(before, after), query(index, 32, 64, 31.9, 31.92));
+    }
+
+    @Test
+    @DisplayName("Negative coordinates test")
+    public void negativeCoordinatesTest() {
+        final Player origin = player(-0.5, 64, -0.5);
+        final Player west = player(-33, 64, 5);
+        final Player north = player(5, 64, -64.5);
+        final ParticleViewers.WorldIndex index = new ParticleViewers.WorldIndex(withFillers(origin, west, north));
+
+        Assertions.assertEquals(Collections.singletonList(origin), query(index, 0.2, 64, 0.2, 1));
+        Assertions.assertEquals(Collections.singletonList(west), query(index, -31, 64, 5, 3));
+        Assertions.assertEquals(Collections.singletonList(north), query(index, 5, 64, -63, 2));
+        Assertions.assertTrue(query(index, -16, 64, -16, 4).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Radius cut-off test")
+    public void radiusCutOffTest() {
+        final Player edge = player(10, 64, 0);
+        final Player above = player(0, 74.5, 0);
+        final ParticleViewers.WorldIndex index = new ParticleViewers.WorldIndex(Arrays.asList(edge, above));
+
+        Assertions.assertEquals(Collections.singletonList(edge), query(index, 0, 64, 0, 10));
+        Assertions.assertTrue(query(index, 0, 64, 0, 9.99).isEmpty());
+        Assertions.assertEquals(Arrays.asList(edge, above), query(index, 0, 64, 0, 10.5));
+        Assertions.assertEquals(Collections.singletonList(edge), index.query(-5, 60, -5, 5, 64, 5, 5, 1, 0));
+
+        // A radius spanning more cells than there are players scans them all instead.
+        Assertions.assertEquals(Collections.singletonList(edge), query(index, 400, 64, 0, 390));
+        Assertions.assertEquals(Arrays.asList(edge, above), query(index, 400, 64, 0, ParticleViewers.LONG_DISTANCE_RADIUS));
+    }
+
+    @Test
+    @DisplayName("Budget test")
+    public void budgetTest() {
+        final Player first = player(0, 64, 0);
+        final Player second = player(8, 64, 0);
+        final ParticleViewers.WorldIndex index = new ParticleViewers.WorldIndex(Arrays.asList(first, second));
+
+        Assertions.assertEquals(Arrays.asList(first, second), index.query(0, 64, 0, 0, 64, 0, 16, 3, 7));
+        Assertions.assertEquals(Collections.singletonList(first), index.query(0, 64, 0, 0, 64, 0, 4, 3, 7));
+        Assertions.assertEquals(Collections.singletonList(second), index.query(0, 64, 0, 0, 64, 0, 16, 3, 7));
+        Assertions.assertEquals(Collections.singletonList(second), index.query(0, 64, 0, 0, 64, 0, 16, 1, 7));
+        Assertions.assertTrue(index.query(0, 64, 0, 0, 64, 0, 16, 1, 7).isEmpty());
+        Assertions.assertEquals(Arrays.asList(first, second), index.query(0, 64, 0, 0, 64, 0, 16, 100, 0));
+    }
+
+}
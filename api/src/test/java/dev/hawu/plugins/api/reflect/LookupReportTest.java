@@ -0,0 +1,60 @@
+package dev.hawu.plugins.api.reflect;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+public final class LookupReportTest {
+
+    @Test
+    @DisplayName("Recorded lookups test")
+    public void recordedLookupsTest() {
+        UncheckedHandles.findVirtual(MethodHandles.lookup(), String.class, "length", MethodType.methodType(int.class));
+
+        final LookupReport report = LookupReport.begin("outer");
+        UncheckedHandles.findVirtual(MethodHandles.lookup(), String.class, "length", MethodType.methodType(int.class));
+        UncheckedHandles.findStatic(MethodHandles.lookup(), null, "missing", MethodType.methodType(void.class));
+
+        final LookupReport nested = LookupReport.begin("inner");
+        UncheckedHandles.findConstructor(MethodHandles.lookup(), StringBuilder.class, MethodType.methodType(void.class));
+        nested.end();
+
+        UncheckedHandles.findVirtual(MethodHandles.lookup(), String.class, "missing", MethodType.methodType(int.class));
+        report.end();
+
+        Assertions.assertEquals(3, report.getEntries().size());
+        Assertions.assertEquals(2, report.getFailedCount());
+        Assertions.assertEquals("virtual java.lang.String#length()int", report.getEntries().get(0).getDescription());
+        Assertions.assertEquals("static null#missing()void", report.getEntries().get(1).getDescription());
+        Assertions.assertTrue(report.getNanos() >= 0);
+
+        Assertions.assertEquals(1, nested.getEntries().size());
+        Assertions.assertTrue(nested.getEntries().get(0).isFound());
+        Assertions.assertThrows(IllegalStateException.class, report::end);
+    }
+
+    @Test
+    @DisplayName("Field lookups test")
+    public void fieldLookupsTest() {
+        final LookupReport report = LookupReport.begin("fields");
+        UncheckedHandles.findStaticGetter(MethodHandles.lookup(), Integer.class, "MAX_VALUE", int.class);
+        UncheckedHandles.findGetter(MethodHandles.lookup(), Holder.class, "value", String.class);
+        UncheckedHandles.findSetter(MethodHandles.lookup(), Holder.class, "missing", String.class);
+        report.end();
+
+        Assertions.assertEquals("static getter java.lang.Integer#MAX_VALUE : int", report.getEntries().get(0).getDescription());
+        Assertions.assertEquals("getter " + Holder.class.getName() + "#value : java.lang.String", report.getEntries().get(1).getDescription());
+        Assertions.assertEquals("setter " + Holder.class.getName() + "#missing : java.lang.String", report.getEntries().get(2).getDescription());
+        Assertions.assertEquals(1, report.getFailedCount());
+    }
+
+    private static final class Holder {
+
+        private String value;
+
+    }
+
+}
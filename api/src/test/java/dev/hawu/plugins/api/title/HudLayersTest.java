@@ -0,0 +1,72 @@
+package dev.hawu.plugins.api.title;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public final class HudLayersTest {
+
+    @Test
+    @DisplayName("Priority layering test")
+    public void priorityLayeringTest() {
+        final HudLayers layers = new HudLayers();
+        final TitleComponent low = new TitleComponent("low", "");
+        final TitleComponent high = new TitleComponent("high", "");
+        layers.put("first", 0, low, Long.MAX_VALUE);
+        layers.put("second", 10, high, Long.MAX_VALUE);
+        Assertions.assertSame(high, layers.getTop(0));
+
+        layers.put("second", -5, high, Long.MAX_VALUE);
+        Assertions.assertSame(low, layers.getTop(0));
+
+        layers.remove("first");
+        Assertions.assertSame(high, layers.getTop(0));
+        layers.put("first", 0, low, 20);
+        Assertions.assertSame(low, layers.getTop(19));
+        Assertions.assertSame(high, layers.getTop(20));
+    }
+
+    @Test
+    @DisplayName("Deduplication test")
+    public void deduplicationTest() {
+        final HudLayers layers = new HudLayers();
+        Assertions.assertEquals(HudLayers.NONE, layers.update(0, 40));
+
+        layers.put("owner", 0, new TitleComponent("cooldown: 3", ""), Long.MAX_VALUE);
+        Assertions.assertEquals(HudLayers.SEND, layers.update(1, 40));
+        layers.put("owner", 0, new TitleComponent("cooldown: 3", ""), Long.MAX_VALUE);
+        Assertions.assertEquals(HudLayers.NONE, layers.update(2, 40));
+        Assertions.assertEquals(HudLayers.REFRESH, layers.update(41, 40));
+
+        layers.put("owner", 0, new TitleComponent("cooldown: 2", ""), Long.MAX_VALUE);
+        Assertions.assertEquals(HudLayers.SEND, layers.update(42, 40));
+        Assertions.assertEquals("cooldown: 2", layers.getSent().getTitle());
+
+        layers.remove("owner");
+        Assertions.assertEquals(HudLayers.CLEAR, layers.update(43, 40));
+        Assertions.assertTrue(layers.isIdle());
+        Assertions.assertEquals(HudLayers.NONE, layers.update(44, 40));
+    }
+
+    @Test
+    @DisplayName("Consecutive title refreshes test")
+    public void consecutiveTitleRefreshesTest() {
+        final HudLayers layers = new HudLayers();
+        layers.put("owner", 0, new TitleComponent("Boss", "Phase 1", 20, 60, 20), Long.MAX_VALUE);
+        Assertions.assertEquals(HudLayers.SEND, layers.update(0, layers.getTitleKeepAlive()));
+        Assertions.assertEquals(80, layers.getTitleKeepAlive());
+
+        Assertions.assertEquals(HudLayers.NONE, layers.update(79, layers.getTitleKeepAlive()));
+        Assertions.assertEquals(HudLayers.REFRESH, layers.update(80, layers.getTitleKeepAlive()));
+        Assertions.assertEquals(60, layers.getTitleKeepAlive());
+
+        Assertions.assertEquals(HudLayers.NONE, layers.update(139, layers.getTitleKeepAlive()));
+        Assertions.assertEquals(HudLayers.REFRESH, layers.update(140, layers.getTitleKeepAlive()));
+        Assertions.assertEquals(HudLayers.REFRESH, layers.update(200, layers.getTitleKeepAlive()));
+
+        layers.put("owner", 0, new TitleComponent("Boss", "Phase 2", 20, 60, 20), Long.MAX_VALUE);
+        Assertions.assertEquals(HudLayers.SEND, layers.update(201, layers.getTitleKeepAlive()));
+        Assertions.assertEquals(80, layers.getTitleKeepAlive());
+    }
+
+}
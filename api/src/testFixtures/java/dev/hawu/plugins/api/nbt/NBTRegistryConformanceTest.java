@@ -0,0 +1,182 @@
+package dev.hawu.plugins.api.nbt;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Round trip cases that every server version's registry must pass. Each
+ * version module runs them by extending this class.
+ * <p>
+ * Cases that read and write real items need a running server, and are
+ * skipped when {@link #createItem()} can not create one.
+ */
+public abstract class NBTRegistryConformanceTest {
+
+    private final NBTRegistry registry = createRegistry();
+
+    /**
+     * Creates the registry under test.
+     *
+     * @return The registry.
+     */
+    @NotNull
+    protected abstract NBTRegistry createRegistry();
+
+    /**
+     * Checks whether the server version supports long array tags.
+     *
+     * @return Whether long arrays are supported.
+     */
+    protected boolean supportsLongArrays() {
+        return true;
+    }
+
+    /**
+     * Creates an item without a tag that the registry can read and write.
+     *
+     * @return The item, or null if items can not be created, such as without a server.
+     */
+    @Nullable
+    protected ItemStack createItem() {
+        return Bukkit.getServer() != null ? new ItemStack(Material.STONE) : null;
+    }
+
+    private NBTType roundTrip(final NBTType tag) {
+        final Object nms = NBTSamples.toNMS(registry, tag);
+        Assertions.assertNotNull(nms, () -> "Could not convert " + tag);
+        return NBTSamples.toAPI(registry, nms);
+    }
+
+    @Test
+    @DisplayName("Scalar round trip test")
+    public void scalarRoundTripTest() {
+        final List<NBTType> tags = Arrays.asList(
+            NBTByte.valueOf(Byte.MIN_VALUE), NBTByte.valueOf(Byte.MAX_VALUE),
+            new NBTShort(Short.MIN_VALUE), NBTInt.valueOf(Integer.MAX_VALUE), NBTInt.valueOf(-1),
+            new NBTLong(Long.MIN_VALUE), new NBTFloat(Float.MAX_VALUE), new NBTDouble(-0.0),
+            new NBTString(""), new NBTString("§cUnicode ✦ text"),
+            new NBTByteArray(new byte[0]), new NBTIntArray(new int[] { 1, 2, 3 })
+        );
+        for(final NBTType tag : tags) Assertions.assertEquals(tag, roundTrip(tag));
+    }
+
+    @Test
+    @DisplayName("Nested round trip test")
+    public void nestedRoundTripTest() {
+        final NBTCompound tag = NBTSamples.createItemTag(supportsLongArrays());
+        Assertions.assertEquals(tag, roundTrip(tag));
+        Assertions.assertEquals(NBTList.ofInts(4, 5, 6), roundTrip(NBTList.ofInts(4, 5, 6)));
+        Assertions.assertEquals(new NBTList(), roundTrip(new NBTList()));
+    }
+
+    @Test
+    @DisplayName("Packed list test")
+    public void packedListTest() {
+        final List<NBTList> lists = Arrays.asList(new NBTList(), new NBTList(), new NBTList(), new NBTList());
+        for(int i = 0; i < 3; i++) {
+            lists.get(0).add(NBTInt.valueOf(i));
+            lists.get(1).add(new NBTLong(Long.MAX_VALUE - i));
+            lists.get(2).add(new NBTFloat(i / 2F));
+            lists.get(3).add(new NBTDouble(-i));
+        }
+
+        for(final NBTList list : lists) {
+            final NBTType converted = roundTrip(list);
+            Assertions.assertEquals(list, converted);
+            Assertions.assertTrue(((NBTList) converted).getBackingList() instanceof PackedList, "Numeric lists should be packed");
+        }
+
+        final NBTList strings = new NBTList();
+        strings.addString("first");
+        strings.addString("second");
+        Assertions.assertEquals(strings, roundTrip(strings));
+    }
+
+    @Test
+    @DisplayName("Long array test")
+    public void longArrayTest() {
+        final NBTLongArray tag = new NBTLongArray(new long[] { Long.MAX_VALUE, 0 });
+        if(supportsLongArrays()) Assertions.assertEquals(tag, roundTrip(tag));
+        else Assertions.assertNull(NBTSamples.toNMS(registry, tag));
+    }
+
+    @Test
+    @DisplayName("Path accessors test")
+    public void pathAccessorsTest() {
+        final NBTCompound tag = NBTSamples.createItemTag(supportsLongArrays());
+        final NBTRegistry items = NBTSamples.withItemTag(registry, tag);
+        final ItemStack item = new ItemStack(Material.STONE);
+
+        Assertions.assertTrue(items.has(item, "display.Name"));
+        Assertions.assertFalse(items.has(item, "display.Missing"));
+        Assertions.assertFalse(items.has(item, "HideFlags.value"));
+        Assertions.assertEquals("§6Sword of Conformance ✦", items.getString(item, "display.Name"));
+        Assertions.assertNull(items.getString(item, "HideFlags"));
+        Assertions.assertEquals(tag.get("ench"), items.get(item, "ench"));
+        Assertions.assertEquals(NBTList.ofDoubles(1.0, -2.5, 3.25), items.get(item, "data.packed"));
+        Assertions.assertEquals(new NBTCompound(), items.get(item, "data.nested"));
+
+        Assertions.assertEquals(63, items.getInt(item, "HideFlags"));
+        Assertions.assertEquals(Byte.MIN_VALUE, items.getInt(item, "data.byte"));
+        Assertions.assertEquals(Long.MAX_VALUE, items.getLong(item, "data.long"));
+        Assertions.assertEquals(Math.PI, items.getDouble(item, "data.double"));
+        Assertions.assertEquals(0, items.getInt(item, "display.Name"));
+        Assertions.assertEquals(0L, items.getLong(item, "data.missing"));
+        Assertions.assertEquals(tag, items.getCompound(item));
+    }
+
+    @Test
+    @DisplayName("Fingerprint test")
+    public void fingerprintTest() {
+        final NBTCompound tag = NBTSamples.createItemTag(supportsLongArrays());
+        final NBTCompound reordered = new NBTCompound();
+        final List<String> keys = new ArrayList<>(tag.keySet());
+        Collections.reverse(keys);
+        for(final String key : keys) reordered.put(key, tag.get(key));
+        final NBTCompound changed = (NBTCompound) tag.clone();
+        ((NBTCompound) changed.get("data")).put("int", NBTInt.valueOf(0));
+
+        final ItemStack item = new ItemStack(Material.STONE);
+        final String[] paths = { "data", "HideFlags" };
+        final long fingerprint = NBTSamples.withItemTag(registry, tag).fingerprint(item, paths);
+        Assertions.assertEquals(fingerprint, NBTSamples.withItemTag(registry, reordered).fingerprint(item, paths));
+        Assertions.assertNotEquals(fingerprint, NBTSamples.withItemTag(registry, changed).fingerprint(item, paths));
+        Assertions.assertEquals(NBTSamples.withItemTag(registry, tag).fingerprint(item, "display"),
+            NBTSamples.withItemTag(registry, changed).fingerprint(item, "display"));
+        Assertions.assertNotEquals(fingerprint, NBTSamples.withItemTag(registry, tag).fingerprint(new ItemStack(Material.DIRT), paths));
+    }
+
+    @Test
+    @DisplayName("Item compound test")
+    public void itemCompoundTest() {
+        final ItemStack item = createItem();
+        Assumptions.assumeTrue(item != null, "Items can not be created without a server.");
+        final NBTCompound tag = new NBTCompound();
+        tag.put("data", NBTSamples.createItemTag(supportsLongArrays()).get("data"));
+
+        Assertions.assertNull(registry.getCompound(item));
+        final ItemStack applied = registry.applyCompound(item, tag);
+        Assertions.assertEquals(tag, registry.getCompound(applied));
+        Assertions.assertNull(registry.getCompound(item));
+        Assertions.assertEquals(Integer.MIN_VALUE, registry.getInt(applied, "data.int"));
+        Assertions.assertNull(registry.getCompound(registry.applyCompound(applied, null)));
+
+        registry.writeCompound(item, tag);
+        Assertions.assertEquals(tag, registry.getCompound(item));
+        registry.writeCompound(item, null);
+        Assertions.assertNull(registry.getCompound(item));
+    }
+
+}
@@ -0,0 +1,136 @@
+package dev.hawu.plugins.api.nbt;
+
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sample tags and access to the single tag conversions of a registry,
+ * shared by the conformance suite of every server version and the benchmarks.
+ */
+public final class NBTSamples {
+
+    private NBTSamples() {}
+
+    /**
+     * Creates a compound shaped like the tag of a typical custom item,
+     * holding every type of tag.
+     *
+     * @param longArrays Whether to include long array tags, which old versions do not support.
+     * @return The new compound.
+     */
+    @NotNull
+    public static NBTCompound createItemTag(final boolean longArrays) {
+        final NBTList lore = new NBTList();
+        for(int i = 0; i < 4; i++) lore.addString("§7Lore line §f" + i);
+
+        final NBTCompound display = new NBTCompound();
+        display.put("Name", new NBTString("§6Sword of Conformance ✦"));
+        display.put("Lore", lore);
+
+        final NBTList enchantments = new NBTList();
+        for(short i = 0; i < 3; i++) {
+            final NBTCompound enchantment = new NBTCompound();
+            enchantment.put("id", new NBTShort(i));
+            enchantment.put("lvl", new NBTShort((short) (i + 1)));
+            enchantments.add(enchantment);
+        }
+
+        final NBTCompound data = new NBTCompound();
+        data.put("byte", NBTByte.valueOf(Byte.MIN_VALUE));
+        data.put("short", new NBTShort(Short.MAX_VALUE));
+        data.put("int", NBTInt.valueOf(Integer.MIN_VALUE));
+        data.put("long", new NBTLong(Long.MAX_VALUE));
+        data.put("float", new NBTFloat(-0.5F));
+        data.put("double", new NBTDouble(Math.PI));
+        data.put("bytes", new NBTByteArray(new byte[] { 1, -2, 3 }));
+        data.put("ints", new NBTIntArray(new int[] { Integer.MAX_VALUE, 0, -1 }));
+        if(longArrays) data.put("longs", new NBTLongArray(new long[] { Long.MIN_VALUE, 7 }));
+        data.put("packed", NBTList.ofDoubles(1.0, -2.5, 3.25));
+        data.put("empty", new NBTList());
+        data.put("nested", new NBTCompound());
+
+        final NBTCompound root = new NBTCompound();
+        root.put("display", display);
+        root.put("ench", enchantments);
+        root.put("data", data);
+        root.put("HideFlags", NBTInt.valueOf(63));
+        return root;
+    }
+
+    /**
+     * Converts the tag into the registry's Minecraft tag.
+     *
+     * @param registry The registry to use.
+     * @param tag      The tag to convert.
+     * @return The Minecraft's tag, or null if the type is not supported.
+     */
+    @Nullable
+    public static Object toNMS(@NotNull final NBTRegistry registry, @NotNull final NBTType tag) {
+        return registry.toNMSType(tag);
+    }
+
+    /**
+     * Converts the registry's Minecraft tag into this API's tag.
+     *
+     * @param registry The registry to use.
+     * @param tag      The Minecraft's tag.
+     * @return The converted tag, or null if the type is not supported.
+     */
+    @Nullable
+    public static NBTType toAPI(@NotNull final NBTRegistry registry, @NotNull final Object tag) {
+        return registry.toAPIType(tag);
+    }
+
+    /**
+     * Creates a registry that reads every item as if its tag was the provided
+     * compound, converted by the registry. Lookups by path, conversions and
+     * fingerprints go through the registry, without needing a server to
+     * create real items.
+     *
+     * @param registry The registry to use.
+     * @param compound The tag every item has.
+     * @return The new registry, which can not apply or write compounds.
+     */
+    @NotNull
+    public static NBTRegistry withItemTag(@NotNull final NBTRegistry registry, @NotNull final NBTCompound compound) {
+        final Object root = registry.toNMSType(compound);
+        return new NBTRegistry() {
+            @Override
+            public @Nullable NBTCompound getCompound(@NotNull final ItemStack item) {
+                return (NBTCompound) registry.toAPIType(root);
+            }
+
+            @Override
+            public @NotNull ItemStack applyCompound(@NotNull final ItemStack item, @Nullable final NBTCompound compound) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void writeCompound(@NotNull final ItemStack item, @Nullable final NBTCompound compound) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            protected @Nullable Object getTag(@NotNull final ItemStack item) {
+                return root;
+            }
+
+            @Override
+            protected @Nullable Object getTag(@NotNull final Object compound, @NotNull final String key) {
+                return registry.getTag(compound, key);
+            }
+
+            @Override
+            protected @Nullable NBTType toAPIType(@NotNull final Object tag) {
+                return registry.toAPIType(tag);
+            }
+
+            @Override
+            protected @Nullable Object toNMSType(@NotNull final NBTType tag) {
+                return registry.toNMSType(tag);
+            }
+        };
+    }
+
+}
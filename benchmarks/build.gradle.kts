@@ -0,0 +1,25 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
+// Pass -PnbtVersion=v1_12_R1 to also benchmark that server version's NBT registry.
+val nbtVersion = findProperty("nbtVersion")?.toString()
+
+dependencies {
+    implementation(project(":api"))
+    implementation(testFixtures(project(":api")))
+    implementation("org.bukkit:bukkit:1.8-R0.1-SNAPSHOT")
+    if(nbtVersion != null) jmhRuntimeOnly(project(":$nbtVersion"))
+}
+
+// Run with ./gradlew :benchmarks:jmh, results can be compared between versions.
+jmh {
+    jmhVersion.set("1.35")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    resultsFile.set(buildDir.resolve("results/jmh/results-${rootProject.version}.json"))
+    if(nbtVersion != null) jvmArgsAppend.add("-Dhikari.nbt.version=$nbtVersion")
+    else excludes.add("NBTRegistryBenchmark")
+}
@@ -0,0 +1,53 @@
+package dev.hawu.plugins.benchmarks;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.inventory.Inventory;
+
+import java.lang.reflect.Proxy;
+import java.util.logging.Logger;
+
+/**
+ * A stand-in {@link Server} that provides just enough for API
+ * classes that talk to Bukkit during construction.
+ */
+final class BenchmarkServer {
+
+    private BenchmarkServer() {}
+
+    static synchronized void install() {
+        if(Bukkit.getServer() != null) return;
+        Bukkit.setServer((Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[] { Server.class }, (proxy, method, args) -> {
+            switch(method.getName()) {
+                case "getLogger":
+                    return Logger.getLogger("Benchmark");
+                case "getName":
+                case "getVersion":
+                case "getBukkitVersion":
+                    return "Benchmark";
+                case "createInventory":
+                    return createInventory(args != null && args.length > 1 && args[1] instanceof Integer ? (Integer) args[1] : 27);
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        }));
+    }
+
+    private static Inventory createInventory(final int size) {
+        return (Inventory) Proxy.newProxyInstance(Inventory.class.getClassLoader(), new Class<?>[] { Inventory.class }, (proxy, method, args) ->
+            method.getName().equals("getSize") ? size : defaultValue(method.getReturnType()));
+    }
+
+    private static Object defaultValue(final Class<?> type) {
+        if(!type.isPrimitive() || type == void.class) return null;
+        else if(type == boolean.class) return false;
+        else if(type == char.class) return '\0';
+        else if(type == long.class) return 0L;
+        else if(type == float.class) return 0F;
+        else if(type == double.class) return 0D;
+        else if(type == byte.class) return (byte) 0;
+        else if(type == short.class) return (short) 0;
+        else return 0;
+    }
+
+}
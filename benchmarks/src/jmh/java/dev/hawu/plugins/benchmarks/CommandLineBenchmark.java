@@ -0,0 +1,28 @@
+package dev.hawu.plugins.benchmarks;
+
+import dev.hawu.plugins.api.collections.tuples.Pair;
+import dev.hawu.plugins.api.commands.CommandArgument;
+import dev.hawu.plugins.api.commands.CommandLine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks parsing a command line with flags and quoted arguments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommandLineBenchmark {
+
+    private final CommandLine commandLine = new CommandLine().withFlags("-f", "-m").withArgument("-s");
+    private final String args = "give -s \"Some quoted value\" -m -f diamond_sword 1";
+
+    @Benchmark
+    public Pair<CommandArgument, Map<String, List<String>>> parse() {
+        return commandLine.parse(args);
+    }
+
+}
@@ -0,0 +1,60 @@
+package dev.hawu.plugins.benchmarks;
+
+import dev.hawu.plugins.api.collections.CooldownMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks cooldown lookups and updates for a server's worth of players,
+ * comparing the UUID-specialized map against the generic one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CooldownMapBenchmark {
+
+    @Param({"100", "1000"})
+    public int players;
+
+    private UUID[] ids;
+    private CooldownMap<UUID> uuidMap;
+    private CooldownMap<UUID> genericMap;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        ids = new UUID[players];
+        uuidMap = CooldownMap.forUUIDs(60_000);
+        genericMap = new CooldownMap<>(60_000);
+        for(int i = 0; i < players; i++) {
+            ids[i] = UUID.randomUUID();
+            if(i % 2 == 0) {
+                uuidMap.putOnCooldown(ids[i]);
+                genericMap.putOnCooldown(ids[i]);
+            }
+        }
+    }
+
+    private UUID next() {
+        cursor = (cursor + 1) % ids.length;
+        return ids[cursor];
+    }
+
+    @Benchmark
+    public boolean isOnCooldown() {
+        return uuidMap.isOnCooldown(next());
+    }
+
+    @Benchmark
+    public boolean isOnCooldownGeneric() {
+        return genericMap.isOnCooldown(next());
+    }
+
+    @Benchmark
+    public void putOnCooldown() {
+        uuidMap.putOnCooldown(next());
+    }
+
+}
@@ -0,0 +1,36 @@
+package dev.hawu.plugins.benchmarks;
+
+import dev.hawu.plugins.api.gui.GuiModel;
+import dev.hawu.plugins.api.gui.brushes.LayoutBrush;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks compiling a full chest layout.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LayoutBrushBenchmark {
+
+    private GuiModel model;
+
+    @Setup
+    public void setup() {
+        BenchmarkServer.install();
+        model = new GuiModel(54);
+    }
+
+    @Benchmark
+    public LayoutBrush compile() {
+        return new LayoutBrush(model,
+            "#########",
+            "#abcdefg#",
+            "#abcdefg#",
+            "#abcdefg#",
+            "#.......#",
+            "###<x>###");
+    }
+
+}
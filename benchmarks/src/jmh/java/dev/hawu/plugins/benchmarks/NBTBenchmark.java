@@ -0,0 +1,49 @@
+package dev.hawu.plugins.benchmarks;
+
+import dev.hawu.plugins.api.nbt.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks constructing and copying an API-side NBT tree shaped like
+ * a typical custom item.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NBTBenchmark {
+
+    private NBTCompound tree;
+
+    @Setup
+    public void setup() {
+        tree = construct();
+    }
+
+    @Benchmark
+    public NBTCompound construct() {
+        final NBTCompound display = new NBTCompound();
+        display.put("Name", new NBTString("Sword of Benchmarking"));
+        final NBTList lore = new NBTList();
+        for(int i = 0; i < 8; i++) lore.addString("Lore line number " + i);
+        display.put("Lore", lore);
+
+        final NBTCompound data = new NBTCompound();
+        for(int i = 0; i < 8; i++) data.put("stat" + i, new NBTInt(i));
+        data.put("owner", new NBTString("Hawu"));
+        data.put("created", new NBTLong(1_650_000_000_000L));
+
+        final NBTCompound root = new NBTCompound();
+        root.put("display", display);
+        root.put("data", data);
+        root.put("HideFlags", new NBTInt(63));
+        return root;
+    }
+
+    @Benchmark
+    public NBTType copy() {
+        return tree.clone();
+    }
+
+}
@@ -0,0 +1,44 @@
+package dev.hawu.plugins.benchmarks;
+
+import dev.hawu.plugins.api.nbt.NBTCompound;
+import dev.hawu.plugins.api.nbt.NBTRegistry;
+import dev.hawu.plugins.api.nbt.NBTSamples;
+import dev.hawu.plugins.api.nbt.NBTType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks converting a typical item tag to and from one server version's
+ * tags. Only runs when the version is picked with {@code -PnbtVersion}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NBTRegistryBenchmark {
+
+    private NBTRegistry registry;
+    private NBTCompound tree;
+    private Object nmsTree;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        final String version = System.getProperty("hikari.nbt.version");
+        if(version == null) throw new IllegalStateException("Pick the server version to benchmark with -PnbtVersion");
+
+        registry = (NBTRegistry) Class.forName("dev.hawu.plugins.api." + version + ".SimpleNBTRegistry").newInstance();
+        tree = NBTSamples.createItemTag(false);
+        nmsTree = NBTSamples.toNMS(registry, tree);
+    }
+
+    @Benchmark
+    public Object toNMS() {
+        return NBTSamples.toNMS(registry, tree);
+    }
+
+    @Benchmark
+    public NBTType toAPI() {
+        return NBTSamples.toAPI(registry, nmsTree);
+    }
+
+}
@@ -0,0 +1,139 @@
+package dev.hawu.plugins.benchmarks;
+
+import dev.hawu.plugins.api.particles.*;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks replaying a stationary effect to a crowd, building a packet
+ * for every send against sending one prepared packet.
+ * <p>
+ * This only measures the cost of building a packet. It does not run the
+ * library's adapter or its prepared particles, which need a running server to
+ * resolve packet classes and player connections. Instead, a stand-in adapter
+ * builds packets reflectively the way the 1.8 adapter does, and hands them to
+ * a sink instead of a connection, so the prepared path is just a field store.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParticleBenchmark {
+
+    @Param({"1", "80"})
+    public int viewers;
+
+    private Player[] players;
+    private ParticleEffect effect;
+    private PreparedParticle prepared;
+    private SinkAdapter adapter;
+
+    @Setup
+    public void setup() {
+        BenchmarkServer.install();
+        adapter = new SinkAdapter();
+        ParticlePacketAdapter.setAdapter(adapter);
+
+        players = new Player[viewers];
+        for(int i = 0; i < viewers; i++) {
+            players[i] = (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[] { Player.class }, (proxy, method, args) -> null);
+        }
+
+        effect = ParticleEffect.of(ParticleEnum.PORTAL).location(120.5, 64, -33.5).setOffsetY(0.5f).setParticleCount(8).build();
+        prepared = effect.prepare();
+    }
+
+    @Benchmark
+    public Object unprepared() {
+        for(final Player player : players) effect.play(player);
+        return adapter.sink;
+    }
+
+    @Benchmark
+    public Object prepared() {
+        for(final Player player : players) prepared.play(player);
+        return adapter.sink;
+    }
+
+    /**
+     * Stands in for the server's particle packet.
+     */
+    public static final class StandInPacket {
+
+        private final Object particle;
+        private final boolean longDistance;
+        private final float x, y, z, offsetX, offsetY, offsetZ, particleData;
+        private final int particleCount;
+        private final int[] data;
+
+        public StandInPacket(final Object particle, final boolean longDistance, final float x, final float y, final float z,
+                             final float offsetX, final float offsetY, final float offsetZ, final float particleData,
+                             final int particleCount, final int[] data) {
+            this.particle = particle;
+            this.longDistance = longDistance;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+            this.offsetZ = offsetZ;
+            this.particleData = particleData;
+            this.particleCount = particleCount;
+            this.data = data;
+        }
+
+    }
+
+    // Not the library's adapter, see the class documentation.
+    private static final class SinkAdapter extends ParticlePacketAdapter {
+
+        private static final MethodHandle CONSTRUCTOR;
+
+        static {
+            try {
+                CONSTRUCTOR = MethodHandles.lookup().findConstructor(StandInPacket.class, MethodType.methodType(void.class, Object.class, boolean.class,
+                        float.class, float.class, float.class, float.class, float.class, float.class, float.class, int.class, int[].class))
+                    .asType(MethodType.methodType(Object.class, Object.class, boolean.class,
+                        float.class, float.class, float.class, float.class, float.class, float.class, float.class, int.class, int[].class));
+            } catch(final ReflectiveOperationException ex) {
+                throw new ExceptionInInitializerError(ex);
+            }
+        }
+
+        private Object sink;
+
+        private static Object build(final @NotNull ParticleEffect effect) {
+            try {
+                return CONSTRUCTOR.invokeExact((Object) effect.effect, effect.longDistance, (float) effect.x, (float) effect.y, (float) effect.z,
+                    effect.offsetX, effect.offsetY, effect.offsetZ, effect.particleData, effect.particleCount, effect.data);
+            } catch(final Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        }
+
+        @Override
+        public void send(final @NotNull Player player, final @NotNull ParticleEffect effect) {
+            sink = build(effect);
+        }
+
+        @NotNull
+        @Override
+        public PreparedParticle prepare(final @NotNull ParticleEffect effect) {
+            final Object packet = build(effect);
+            return new PreparedParticle(effect) {
+                @Override
+                public void play(final @NotNull Player player) {
+                    sink = packet;
+                }
+            };
+        }
+
+    }
+
+}
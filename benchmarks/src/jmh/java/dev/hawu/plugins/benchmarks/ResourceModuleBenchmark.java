@@ -0,0 +1,52 @@
+package dev.hawu.plugins.benchmarks;
+
+import dev.hawu.plugins.api.collections.tuples.Pair;
+import dev.hawu.plugins.api.i18n.Locale;
+import dev.hawu.plugins.api.i18n.ResourceModule;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks translations against an in-memory YAML configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResourceModuleBenchmark {
+
+    private static final String YAML = String.join("\n",
+        "plain: 'There is nothing to fill in here.'",
+        "welcome: '&aWelcome back, &e%player%&a! You have &e%coins% &acoins.'",
+        "help:",
+        "- '&6Help for %command%'",
+        "- '&7Usage: /%command% <%argument%>'");
+
+    private ResourceModule module;
+
+    @Setup
+    public void setup() throws InvalidConfigurationException {
+        final YamlConfiguration configuration = new YamlConfiguration();
+        configuration.loadFromString(YAML);
+        module = new ResourceModule("benchmark", Collections.singletonMap(Locale.en_US, configuration), Locale.en_US);
+    }
+
+    @Benchmark
+    public String translatePlain() {
+        return module.translate("plain");
+    }
+
+    @Benchmark
+    public String translateWithPlaceholders() {
+        return module.translate("welcome", Pair.of("player", "Hawu"), Pair.of("coins", 1250));
+    }
+
+    @Benchmark
+    public String translateList() {
+        return module.translate("help", Pair.of("command", "give"), Pair.of("argument", "item"));
+    }
+
+}
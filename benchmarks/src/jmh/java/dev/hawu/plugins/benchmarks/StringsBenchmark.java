@@ -0,0 +1,75 @@
+package dev.hawu.plugins.benchmarks;
+
+import dev.hawu.plugins.api.Strings;
+import dev.hawu.plugins.api.collections.tuples.Pair;
+import org.bukkit.ChatColor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link Strings#color(String)} and {@link Strings#fillPlaceholders(String, Pair[])}
+ * against the plain Bukkit translation and chained replacements they used to be.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringsBenchmark {
+
+    private static final String PLAIN = "Welcome to the server, enjoy your stay!";
+    private static final String COLORED = "&aWelcome to the &eserver&a, enjoy your &lstay&a!";
+    private static final String TEMPLATE = "&7%player% has &e%amount% &7coins, %percent%% of the top player.";
+
+    private final Pair<?, ?>[] params = {
+        Pair.of("player", "Hawu"),
+        Pair.of("amount", 1250),
+        Pair.of("percent", 42.5),
+    };
+    private int counter;
+
+    @Benchmark
+    public String colorPlain() {
+        return Strings.color(PLAIN);
+    }
+
+    @Benchmark
+    public String colorPlainBaseline() {
+        return ChatColor.translateAlternateColorCodes('&', PLAIN);
+    }
+
+    @Benchmark
+    public String colorColored() {
+        return Strings.color(COLORED);
+    }
+
+    @Benchmark
+    public String colorColoredBaseline() {
+        return ChatColor.translateAlternateColorCodes('&', COLORED);
+    }
+
+    // Strings that are only ever colored once, such as messages with filled in placeholders.
+    @Benchmark
+    public String colorFilledCached() {
+        return Strings.color("&7Hawu has &e" + counter++ + " &7coins.");
+    }
+
+    @Benchmark
+    public String colorFilledUncached() {
+        return Strings.colorUncached("&7Hawu has &e" + counter++ + " &7coins.");
+    }
+
+    @Benchmark
+    public String fillPlaceholders() {
+        return Strings.fillPlaceholders(TEMPLATE, params);
+    }
+
+    @Benchmark
+    public String fillPlaceholdersBaseline() {
+        String curr = TEMPLATE;
+        for(final Pair<?, ?> param : params) {
+            curr = curr.replace("%" + param.getFirst() + "%", String.valueOf(param.getSecondOrNull()));
+        }
+        return ChatColor.translateAlternateColorCodes('&', curr);
+    }
+
+}
@@ -0,0 +1,28 @@
+package dev.hawu.plugins.benchmarks;
+
+import dev.hawu.plugins.api.TimeConversions;
+import dev.hawu.plugins.api.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks parsing and formatting of durations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(java.util.concurrent.TimeUnit.NANOSECONDS)
+public class TimeConversionsBenchmark {
+
+    private final String duration = "1d 12h 30m 15s";
+    private final double millis = TimeConversions.convertToMillis(duration);
+
+    @Benchmark
+    public double convertToMillis() {
+        return TimeConversions.convertToMillis(duration);
+    }
+
+    @Benchmark
+    public String convertToReadableFormat() {
+        return TimeConversions.convertToReadableFormat(millis, TimeUnit.SECOND, true, true);
+    }
+
+}
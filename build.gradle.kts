@@ -4,6 +4,7 @@ plugins {
     id("org.jetbrains.dokka") version "1.6.21"
     kotlin("jvm") version "1.7.0"
     id("com.github.johnrengelman.shadow") version "7.1.2"
+    id("me.champeau.jmh") version "0.6.6" apply false
 }
 
 version = "1.7-SNAPSHOT"
@@ -40,12 +41,22 @@ allprojects {
     }
 }
 
+// Every server version module runs the same NBT conformance suite from the API's test fixtures.
+configure(subprojects.filter { it.name.startsWith("v1_") }) {
+    dependencies {
+        "testImplementation"(testFixtures(project(":api")))
+    }
+}
+
 setBuildDir("./build/parent")
 setProperty("libsDirName", project.name)
 
+// Benchmarks are never shipped with the plugin.
+val librarySubprojects = subprojects.filter { it.name != "benchmarks" }
+
 dependencies {
     implementation("org.bukkit:bukkit:1.8-R0.1-SNAPSHOT")
-    subprojects.forEach {
+    librarySubprojects.forEach {
         @Suppress("DEPRECATION")
         compileClasspath(it)
     }
@@ -54,7 +65,7 @@ dependencies {
 tasks.shadowJar {
     configurations = listOf(project.configurations.getByName("compileClasspath"))
     dependencies {
-        subprojects.forEach {
+        librarySubprojects.forEach {
             include(dependency(it))
         }
     }
@@ -18,3 +18,4 @@ include("v1_17_R1")
 include("api")
 include("v1_18_R1")
 include("v1_18_R2")
+include("benchmarks")
@@ -1,12 +1,12 @@
 package dev.hawu.plugins.api.impl;
 
 import dev.hawu.plugins.api.chat.ChatPacketAdapter;
+import dev.hawu.plugins.api.chat.PreparedMessage;
 import dev.hawu.plugins.api.chat.TextComponent;
 import dev.hawu.plugins.api.reflect.LookupException;
 import dev.hawu.plugins.api.reflect.SimpleLookup;
 import dev.hawu.plugins.api.reflect.UncheckedHandles;
 import dev.hawu.plugins.api.reflect.UncheckedReflects;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
@@ -67,17 +67,38 @@ public final class ChatPacketAdapterImpl extends ChatPacketAdapter {
 
     private ChatPacketAdapterImpl() {}
 
+    private static void sendComponent(final Player player, final Object serializedComponent) throws Throwable {
+        if(THREE_CONSTRUCTOR != null)
+            UncheckedReflects.sendPacket(player, THREE_CONSTRUCTOR.invokeExact(serializedComponent, CHAT_MESSAGE_TYPE_CHAT, player.getUniqueId()));
+        else UncheckedReflects.sendPacket(player, ONE_CONSTRUCTOR.invokeExact(serializedComponent));
+    }
+
     private void sendPacket(final Player player, final String text) {
+        try {
+            sendComponent(player, SERIALIZER.invokeExact(text));
+        } catch(final Throwable throwable) {
+            throwable.printStackTrace();
+        }
+    }
+
+    private PreparedMessage prepareJson(final String text) {
         try {
             final Object serializedComponent = SERIALIZER.invokeExact(text);
-            if(THREE_CONSTRUCTOR != null)
-                UncheckedReflects.sendPacket(player, THREE_CONSTRUCTOR.invokeExact(serializedComponent, CHAT_MESSAGE_TYPE_CHAT, player.getUniqueId()));
-            else UncheckedReflects.sendPacket(player, ONE_CONSTRUCTOR.invokeExact(serializedComponent));
+            if(THREE_CONSTRUCTOR != null) return new PreparedComponent(serializedComponent);
+            else return new PreparedPacket(ONE_CONSTRUCTOR.invokeExact(serializedComponent));
         } catch(final Throwable throwable) {
             throwable.printStackTrace();
+            return null;
         }
     }
 
+    @NotNull
+    @Override
+    public PreparedMessage prepare(final @NotNull TextComponent component) {
+        final PreparedMessage message = prepareJson(component.toString());
+        return message != null ? message : super.prepare(component);
+    }
+
     @Override
     public void sendPlayer(final @NotNull Player player, final @NotNull TextComponent component) {
         sendPacket(player, component.toString());
@@ -85,17 +106,53 @@ public final class ChatPacketAdapterImpl extends ChatPacketAdapter {
 
     @Override
     public void sendAll(final @NotNull TextComponent component) {
-        Bukkit.getOnlinePlayers().forEach(p -> sendPlayer(p, component));
+        prepare(component).sendAll();
     }
 
     @Override
     public void sendPlayer(final @NotNull Player player, final @NotNull String message) {
-        sendPacket(player, "{\"text\":\"" + message + "\"}");
+        sendPacket(player, TextComponent.of(message).toString());
     }
 
     @Override
     public void sendAll(final @NotNull String message) {
-        Bukkit.getOnlinePlayers().forEach(p -> sendPlayer(p, message));
+        sendAll(TextComponent.of(message));
+    }
+
+    // Before 1.16, packets only hold the component, so one packet is written to every connection.
+    private static final class PreparedPacket extends PreparedMessage {
+
+        private final Object packet;
+
+        private PreparedPacket(final @NotNull Object packet) {
+            this.packet = packet;
+        }
+
+        @Override
+        public void send(final @NotNull Player player) {
+            UncheckedReflects.sendPacket(player, packet);
+        }
+
+    }
+
+    // From 1.16, packets also hold a UUID, so only the parsed component is shared.
+    private static final class PreparedComponent extends PreparedMessage {
+
+        private final Object serializedComponent;
+
+        private PreparedComponent(final @NotNull Object serializedComponent) {
+            this.serializedComponent = serializedComponent;
+        }
+
+        @Override
+        public void send(final @NotNull Player player) {
+            try {
+                sendComponent(player, serializedComponent);
+            } catch(final Throwable throwable) {
+                throwable.printStackTrace();
+            }
+        }
+
     }
 
 }
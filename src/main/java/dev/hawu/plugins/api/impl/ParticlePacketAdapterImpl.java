@@ -2,7 +2,9 @@ package dev.hawu.plugins.api.impl;
 
 import dev.hawu.plugins.api.particles.ParticleEffect;
 import dev.hawu.plugins.api.particles.ParticleEnum;
+import dev.hawu.plugins.api.particles.ParticleFrame;
 import dev.hawu.plugins.api.particles.ParticlePacketAdapter;
+import dev.hawu.plugins.api.particles.PreparedParticle;
 import dev.hawu.plugins.api.reflect.MinecraftVersion;
 import dev.hawu.plugins.api.reflect.SimpleLookup;
 import dev.hawu.plugins.api.reflect.UncheckedHandles;
@@ -14,6 +16,7 @@ import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.invoke.MethodType;
+import java.util.Collection;
 import java.util.Objects;
 
 /**
@@ -30,11 +33,14 @@ public final class ParticlePacketAdapterImpl extends ParticlePacketAdapter {
     private static final Class<?> ENUM_PARTICLE; // For 1.8 - 1.8.8
     private static final Class<?> PACKET_PLAY_OUT_PARTICLES;
 
-    private static final MethodHandle VALUE_OF_ENUM_PARTICLE;
-    private static final MethodHandle VALUE_OF_BUKKIT_PARTICLE;
     private static final MethodHandle PACKET_PARTICLES_CONSTRUCTOR;
     private static final MethodHandle SPAWN_PARTICLE;
 
+    // Whether Player#spawnParticle (1.9+) is available for particles that can not be sent as packets, constant once the class is loaded.
+    private static final boolean SPAWN_THROUGH_BUKKIT = MinecraftVersion.getCurrent().isAtLeast(MinecraftVersion.v1_9_R1);
+    private static final Object[] PARTICLES; // ParticleEnum ordinal -> NMS EnumParticle or Bukkit Particle, null if unsupported
+    private static final Object[] PACKET_PARTICLES; // ParticleEnum ordinal -> NMS EnumParticle, for packets up to 1.12
+
     static {
         final Lookup lookup = MethodHandles.lookup();
 
@@ -43,10 +49,6 @@ public final class ParticlePacketAdapterImpl extends ParticlePacketAdapter {
         PACKET_PLAY_OUT_PARTICLES = SimpleLookup.lookupNMSOrNull("PacketPlayOutWorldParticles");
 
         if(BUKKIT_PARTICLE != null) {
-            VALUE_OF_BUKKIT_PARTICLE = UncheckedHandles.findStatic(lookup, BUKKIT_PARTICLE, "valueOf",
-                    MethodType.methodType(BUKKIT_PARTICLE, String.class))
-                .map(handle -> handle.asType(MethodType.methodType(Object.class, String.class)))
-                .orNull();
             SPAWN_PARTICLE = UncheckedHandles.findVirtual(lookup, Player.class, "spawnParticle",
                     MethodType.methodType(void.class, BUKKIT_PARTICLE, double.class, double.class, double.class, int.class,
                         double.class, double.class, double.class, double.class, Object.class))
@@ -54,15 +56,10 @@ public final class ParticlePacketAdapterImpl extends ParticlePacketAdapter {
                     double.class, double.class, double.class, int.class, double.class, double.class, double.class, double.class, int[].class)))
                 .orNull();
         } else {
-            VALUE_OF_BUKKIT_PARTICLE = null;
             SPAWN_PARTICLE = null;
         }
 
         if(ENUM_PARTICLE != null && PACKET_PLAY_OUT_PARTICLES != null) {
-            VALUE_OF_ENUM_PARTICLE = UncheckedHandles.findStatic(lookup, ENUM_PARTICLE, "valueOf",
-                    MethodType.methodType(ENUM_PARTICLE, String.class))
-                .map(handle -> handle.asType(MethodType.methodType(Object.class, String.class)))
-                .orNull();
             PACKET_PARTICLES_CONSTRUCTOR = UncheckedHandles.findConstructor(lookup, PACKET_PLAY_OUT_PARTICLES,
                     MethodType.methodType(void.class, ENUM_PARTICLE, boolean.class, float.class, float.class, float.class,
                         float.class, float.class, float.class, float.class, int.class, int[].class))
@@ -70,9 +67,11 @@ public final class ParticlePacketAdapterImpl extends ParticlePacketAdapter {
                     float.class, float.class, float.class, float.class, float.class, float.class, float.class, int.class, int[].class)))
                 .orNull();
         } else {
-            VALUE_OF_ENUM_PARTICLE = null;
             PACKET_PARTICLES_CONSTRUCTOR = null;
         }
+
+        PARTICLES = resolveParticles(SPAWN_THROUGH_BUKKIT ? BUKKIT_PARTICLE : ENUM_PARTICLE);
+        PACKET_PARTICLES = SPAWN_THROUGH_BUKKIT ? resolveParticles(PACKET_PARTICLES_CONSTRUCTOR != null ? ENUM_PARTICLE : null) : PARTICLES;
     }
 
     private ParticlePacketAdapterImpl() {}
@@ -82,42 +81,162 @@ public final class ParticlePacketAdapterImpl extends ParticlePacketAdapter {
         return INSTANCE;
     }
 
-    private Object getNMSEnum(final ParticleEnum particleEnum) throws Throwable {
-        if(particleEnum == null) return null;
-        return Objects.requireNonNull(VALUE_OF_ENUM_PARTICLE).invokeExact(particleEnum.name());
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Object[] resolveParticles(final Class<?> particleClass) {
+        final ParticleEnum[] values = ParticleEnum.values();
+        final Object[] particles = new Object[values.length];
+        if(particleClass == null || !particleClass.isEnum()) return particles;
+
+        for(final ParticleEnum value : values) {
+            try {
+                particles[value.ordinal()] = Enum.valueOf((Class) particleClass, value.name());
+            } catch(final IllegalArgumentException ignored) {
+                // Not present on this version.
+            }
+        }
+        return particles;
     }
 
-    private Object getBukkitEnum(final ParticleEnum particleEnum) throws Throwable {
-        if(particleEnum == null) return null;
-        return Objects.requireNonNull(VALUE_OF_BUKKIT_PARTICLE).invokeExact(particleEnum.name());
+    private static Object getParticle(final ParticleEnum particleEnum) {
+        return particleEnum == null ? null : PARTICLES[particleEnum.ordinal()];
     }
 
-    private void sendPacket(final @NotNull Player player, final @NotNull ParticleEffect effect) throws Throwable {
-        final Object particle = getNMSEnum(effect.effect);
-        if(particle == null) return;
+    private static Object getPacketParticle(final ParticleEnum particleEnum) {
+        return particleEnum == null ? null : PACKET_PARTICLES[particleEnum.ordinal()];
+    }
 
+    private void sendPacket(final @NotNull Player player, final @NotNull Object particle, final @NotNull ParticleEffect effect) throws Throwable {
         final Object packet = Objects.requireNonNull(PACKET_PARTICLES_CONSTRUCTOR).invokeExact(particle, effect.longDistance,
             (float) effect.x, (float) effect.y, (float) effect.z, effect.offsetX, effect.offsetY, effect.offsetZ, effect.particleData, effect.particleCount, effect.data);
         UncheckedReflects.sendPacket(player, packet);
     }
 
     private void spawnParticle(final @NotNull Player player, final @NotNull ParticleEffect effect) throws Throwable {
-        final Object particle = getBukkitEnum(effect.effect);
+        final Object particle = getParticle(effect.effect);
         if(particle == null) return;
 
         Objects.requireNonNull(SPAWN_PARTICLE).invokeExact(player, particle, effect.x, effect.y, effect.z, effect.particleCount,
             (double) effect.offsetX, (double) effect.offsetY, (double) effect.offsetZ, (double) effect.particleData, effect.data);
     }
 
+    // Packets only depend on the frame, so they are built once and shared by every viewer.
+    private void sendPackets(final @NotNull Collection<? extends Player> players, final @NotNull Object particle, final @NotNull ParticleFrame frame) throws Throwable {
+        final ParticleEffect effect = frame.getPrototype();
+        final MethodHandle constructor = Objects.requireNonNull(PACKET_PARTICLES_CONSTRUCTOR);
+        final Object[] packets = new Object[frame.size()];
+        for(int i = 0; i < packets.length; i++) {
+            packets[i] = constructor.invokeExact(particle, effect.longDistance, (float) frame.getX(i), (float) frame.getY(i), (float) frame.getZ(i),
+                effect.offsetX, effect.offsetY, effect.offsetZ, effect.particleData, effect.particleCount, effect.data);
+        }
+        for(final Player player : players) UncheckedReflects.sendPackets(player, packets, packets.length);
+    }
+
+    // From 1.13, or for particles without a packet, every call makes its own packet, for every point and every viewer.
+    private void spawnParticles(final @NotNull Collection<? extends Player> players, final @NotNull ParticleFrame frame) throws Throwable {
+        final ParticleEffect effect = frame.getPrototype();
+        final Object particle = getParticle(effect.effect);
+        if(particle == null) return;
+
+        final MethodHandle spawn = Objects.requireNonNull(SPAWN_PARTICLE);
+        final int size = frame.size();
+        for(final Player player : players) {
+            for(int i = 0; i < size; i++) {
+                spawn.invokeExact(player, particle, frame.getX(i), frame.getY(i), frame.getZ(i), effect.particleCount,
+                    (double) effect.offsetX, (double) effect.offsetY, (double) effect.offsetZ, (double) effect.particleData, effect.data);
+            }
+        }
+    }
+
     @Override
     public void send(final @NotNull Player player, final @NotNull ParticleEffect effect) {
         try {
-            if(MinecraftVersion.getCurrent().isAtLeast(MinecraftVersion.v1_9_R1))
-                spawnParticle(player, effect);
-            else sendPacket(player, effect);
+            final Object packetParticle = getPacketParticle(effect.effect);
+            if(packetParticle != null) sendPacket(player, packetParticle, effect);
+            else if(SPAWN_THROUGH_BUKKIT) spawnParticle(player, effect);
+        } catch(final Throwable throwable) {
+            throwable.printStackTrace();
+        }
+    }
+
+    @Override
+    public void send(final @NotNull Collection<? extends @NotNull Player> players, final @NotNull ParticleFrame frame) {
+        try {
+            final Object packetParticle = getPacketParticle(frame.getPrototype().effect);
+            if(packetParticle != null) sendPackets(players, packetParticle, frame);
+            else if(SPAWN_THROUGH_BUKKIT) spawnParticles(players, frame);
         } catch(final Throwable throwable) {
             throwable.printStackTrace();
         }
     }
 
+    @NotNull
+    @Override
+    public PreparedParticle prepare(final @NotNull ParticleEffect effect) {
+        try {
+            final Object packetParticle = getPacketParticle(effect.effect);
+            if(packetParticle != null) {
+                final Object packet = Objects.requireNonNull(PACKET_PARTICLES_CONSTRUCTOR).invokeExact(packetParticle, effect.longDistance,
+                    (float) effect.x, (float) effect.y, (float) effect.z, effect.offsetX, effect.offsetY, effect.offsetZ,
+                    effect.particleData, effect.particleCount, effect.data.clone());
+                return new PreparedPacket(effect, packet);
+            }
+
+            final Object particle = getParticle(effect.effect);
+            if(particle != null && SPAWN_THROUGH_BUKKIT) return new PreparedSpawn(effect, particle);
+        } catch(final Throwable throwable) {
+            throwable.printStackTrace();
+        }
+        return super.prepare(effect);
+    }
+
+    // Up to 1.12, the packet is built once and the same instance is written to every connection.
+    private static final class PreparedPacket extends PreparedParticle {
+
+        private final Object packet;
+
+        private PreparedPacket(final @NotNull ParticleEffect effect, final @NotNull Object packet) {
+            super(effect);
+            this.packet = packet;
+        }
+
+        @Override
+        public void play(final @NotNull Player player) {
+            UncheckedReflects.sendPacket(player, packet);
+        }
+
+    }
+
+    // From 1.13, packets take version specific particle parameters, so the arguments to spawnParticle are bound instead.
+    private static final class PreparedSpawn extends PreparedParticle {
+
+        private final Object particle;
+        private final double x, y, z, offsetX, offsetY, offsetZ, particleData;
+        private final int particleCount;
+        private final int[] data;
+
+        private PreparedSpawn(final @NotNull ParticleEffect effect, final @NotNull Object particle) {
+            super(effect);
+            this.particle = particle;
+            this.x = effect.x;
+            this.y = effect.y;
+            this.z = effect.z;
+            this.offsetX = effect.offsetX;
+            this.offsetY = effect.offsetY;
+            this.offsetZ = effect.offsetZ;
+            this.particleData = effect.particleData;
+            this.particleCount = effect.particleCount;
+            this.data = effect.data.clone();
+        }
+
+        @Override
+        public void play(final @NotNull Player player) {
+            try {
+                Objects.requireNonNull(SPAWN_PARTICLE).invokeExact(player, particle, x, y, z, particleCount, offsetX, offsetY, offsetZ, particleData, data);
+            } catch(final Throwable throwable) {
+                throwable.printStackTrace();
+            }
+        }
+
+    }
+
 }
@@ -1,6 +1,7 @@
 package dev.hawu.plugins.api.impl;
 
 import dev.hawu.plugins.api.collections.Property;
+import dev.hawu.plugins.api.collections.UUIDHashMap;
 import dev.hawu.plugins.api.user.ExtendedUser;
 import dev.hawu.plugins.api.user.UserAdapter;
 import dev.hawu.plugins.hikarilibrary.CraftUser;
@@ -13,7 +14,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.UUID;
@@ -26,7 +26,7 @@ import java.util.UUID;
 public final class UserAdapterImpl extends UserAdapter {
 
     private static final UserAdapterImpl ADAPTER = new UserAdapterImpl();
-    private static final Map<UUID, ExtendedUser> users = new HashMap<>();
+    private static final Map<UUID, ExtendedUser> users = new UUIDHashMap<>();
 
     private static JavaPlugin plugin;
 
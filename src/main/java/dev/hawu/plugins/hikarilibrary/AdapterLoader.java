@@ -0,0 +1,92 @@
+package dev.hawu.plugins.hikarilibrary;
+
+import dev.hawu.plugins.api.reflect.LookupReport;
+import dev.hawu.plugins.api.reflect.SimpleLookup;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Defers the initialization of the adapter implementations to their first use,
+ * and logs how long each one took along with each of its lookups.
+ * <p>
+ * Lookups that took at least a millisecond are logged as info, and the
+ * rest are logged at {@link Level#FINE}.
+ *
+ * @since 1.7
+ */
+final class AdapterLoader {
+
+    private static final long SLOW_LOOKUP_NANOS = 1_000_000;
+
+    private final Logger logger;
+
+    AdapterLoader(final @NotNull Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Wraps the factory of an adapter so that it reports its lookups when it is invoked.
+     * <p>
+     * If the factory fails, the failure is logged once and remembered, and every later
+     * invocation throws an {@link IllegalStateException} caused by it without invoking
+     * the factory or logging again.
+     *
+     * @param name    The name of the adapter.
+     * @param factory The factory, which initializes the implementation class.
+     * @param <T>     The type of the adapter.
+     * @return The wrapped factory.
+     */
+    @NotNull
+    <T> Supplier<T> lazy(final @NotNull String name, final @NotNull Supplier<T> factory) {
+        return new ReportingFactory<>(name, factory);
+    }
+
+    private void log(final @NotNull LookupReport report) {
+        logger.info(String.format("Resolved the %s adapter in %.2f ms with %d lookups, %d of which found nothing",
+            report.getName(), report.getNanos() / 1e6, report.getEntries().size(), report.getFailedCount()));
+
+        for(final LookupReport.Entry entry : report.getEntries()) {
+            final boolean slow = entry.getNanos() >= SLOW_LOOKUP_NANOS;
+            if(!slow && !logger.isLoggable(Level.FINE)) continue;
+
+            final String line = String.format("  %.3f ms %s %s", entry.getNanos() / 1e6,
+                entry.isFound() ? "found" : "missing", entry.getDescription());
+            logger.log(slow ? Level.INFO : Level.FINE, line);
+        }
+    }
+
+    private final class ReportingFactory<T> implements Supplier<T> {
+
+        private final String name;
+        private final Supplier<T> factory;
+        private volatile Throwable failure;
+
+        private ReportingFactory(final @NotNull String name, final @NotNull Supplier<T> factory) {
+            this.name = name;
+            this.factory = factory;
+        }
+
+        @Override
+        public T get() {
+            final Throwable cause = failure;
+            if(cause != null) throw new IllegalStateException("The " + name + " adapter failed to load.", cause);
+
+            final LookupReport report = LookupReport.begin(name);
+            try {
+                return factory.get();
+            } catch(final Throwable throwable) {
+                failure = throwable;
+                logger.log(Level.SEVERE, "Failed to load the " + name + " adapter for Minecraft " + SimpleLookup.getBukkitVersion(), throwable);
+                throw throwable;
+            } finally {
+                report.end();
+                log(report);
+            }
+        }
+
+    }
+
+}
@@ -13,8 +13,10 @@ import dev.hawu.plugins.api.items.BukkitMaterial;
 import dev.hawu.plugins.api.misc.PluginAdapter;
 import dev.hawu.plugins.api.misc.WorldEntitiesLookupAdapter;
 import dev.hawu.plugins.api.particles.ParticlePacketAdapter;
+import dev.hawu.plugins.api.particles.ParticleViewers;
 import dev.hawu.plugins.api.reflect.MinecraftVersion;
 import dev.hawu.plugins.api.reflect.SimpleLookup;
+import dev.hawu.plugins.api.title.HudChannels;
 import dev.hawu.plugins.api.title.TitlePacketAdapter;
 import dev.hawu.plugins.hikarilibrary.commands.BaseCommand;
 import org.bukkit.Bukkit;
@@ -75,8 +77,10 @@ public final class HikariLibrary extends JavaPlugin implements Listener {
     public void onEnable() {
         instance = this;
         messagesModule = new ResourceModule("messages", this);
-        BukkitMaterial.initialize();
+        BukkitMaterial.initialize(this);
         GuiClickEvents.initialize(this);
+        ParticleViewers.initialize(this);
+        HudChannels.initialize(this);
         Inventories.setPlugin(this);
         Events.registerEvents(this, this);
         PluginAdapter.setPlugin(this);
@@ -86,12 +90,14 @@ public final class HikariLibrary extends JavaPlugin implements Listener {
         new BaseCommand(this);
 
         try {
-            getLogger().info("Loading adapters for Minecraft " + MinecraftVersion.getCurrent().name());
+            getLogger().info("Adapters for Minecraft " + MinecraftVersion.getCurrent().name() + " will be loaded on first use");
 
-            TitlePacketAdapter.setAdapter(TitlePacketAdapterImpl.getInstance());
-            ParticlePacketAdapter.setAdapter(ParticlePacketAdapterImpl.getInstance());
-            ChatPacketAdapter.setAdapter(ChatPacketAdapterImpl.INSTANCE);
-            WorldEntitiesLookupAdapter.setAdapter(WorldEntitiesLookupAdapterImpl.getInstance());
+            // Each implementation class only runs its lookups once its adapter is first retrieved.
+            final AdapterLoader loader = new AdapterLoader(getLogger());
+            TitlePacketAdapter.setAdapter(loader.lazy("title", TitlePacketAdapterImpl::getInstance));
+            ParticlePacketAdapter.setAdapter(loader.lazy("particle", ParticlePacketAdapterImpl::getInstance));
+            ChatPacketAdapter.setAdapter(loader.lazy("chat", () -> ChatPacketAdapterImpl.INSTANCE));
+            WorldEntitiesLookupAdapter.setAdapter(loader.lazy("world entities lookup", WorldEntitiesLookupAdapterImpl::getInstance));
         } catch (final Exception e) {
             e.printStackTrace();
             getLogger().severe("Failed to load adapters for Minecraft " + SimpleLookup.getBukkitVersion());
@@ -16,6 +16,19 @@ import org.jetbrains.annotations.Nullable;
 @Deprecated
 public final class SimpleNBTRegistry extends NBTRegistry {
 
+    private final NBTDispatcher<NBTBase> dispatcher = new NBTDispatcher<>(NBTBase.class)
+        .register(NBTCodec.TAG_BYTE, NBTTagByte.class, base -> NBTByte.valueOf(base.g()), type -> new NBTTagByte(((NBTByte) type).getData()))
+        .register(NBTCodec.TAG_SHORT, NBTTagShort.class, base -> new NBTShort(base.f()), type -> new NBTTagShort(((NBTShort) type).getData()))
+        .register(NBTCodec.TAG_INT, NBTTagInt.class, base -> NBTInt.valueOf(base.e()), type -> new NBTTagInt(((NBTInt) type).getData()))
+        .register(NBTCodec.TAG_LONG, NBTTagLong.class, base -> new NBTLong(base.d()), type -> new NBTTagLong(((NBTLong) type).getData()))
+        .register(NBTCodec.TAG_FLOAT, NBTTagFloat.class, base -> new NBTFloat(base.i()), type -> new NBTTagFloat(((NBTFloat) type).getData()))
+        .register(NBTCodec.TAG_DOUBLE, NBTTagDouble.class, base -> new NBTDouble(base.asDouble()), type -> new NBTTagDouble(((NBTDouble) type).getData()))
+        .register(NBTCodec.TAG_BYTE_ARRAY, NBTTagByteArray.class, base -> new NBTByteArray(base.c()), type -> new NBTTagByteArray(((NBTByteArray) type).getData()))
+        .register(NBTCodec.TAG_STRING, NBTTagString.class, base -> new NBTString(base.c_()), type -> new NBTTagString(((NBTString) type).getData()))
+        .register(NBTCodec.TAG_LIST, NBTTagList.class, this::transformNMSList, type -> transformAPIList((NBTList) type))
+        .register(NBTCodec.TAG_COMPOUND, NBTTagCompound.class, this::transformNMSCompound, type -> transformAPICompound((NBTCompound) type))
+        .register(NBTCodec.TAG_INT_ARRAY, NBTTagIntArray.class, base -> new NBTIntArray(base.d()), type -> new NBTTagIntArray(((NBTIntArray) type).getData()));
+
     @NotNull
     private NBTTagList transformAPIList(@NotNull final NBTList list) {
         final NBTTagList tag = new NBTTagList();
@@ -38,39 +51,12 @@ public final class SimpleNBTRegistry extends NBTRegistry {
 
     @Nullable
     private NBTBase transformAPIBase(@NotNull final NBTType type) {
-        if(type instanceof NBTByte) {
-            return new NBTTagByte(((NBTByte) type).getData());
-        } else if(type instanceof NBTShort) {
-            return new NBTTagShort(((NBTShort) type).getData());
-        } else if(type instanceof NBTInt) {
-            return new NBTTagInt(((NBTInt) type).getData());
-        } else if(type instanceof NBTLong) {
-            return new NBTTagLong(((NBTLong) type).getData());
-        } else if(type instanceof NBTFloat) {
-            return new NBTTagFloat(((NBTFloat) type).getData());
-        } else if(type instanceof NBTDouble) {
-            return new NBTTagDouble(((NBTDouble) type).getData());
-        } else if(type instanceof NBTString) {
-            return new NBTTagString(((NBTString) type).getData());
-        } else if(type instanceof NBTByteArray) {
-            return new NBTTagByteArray(((NBTByteArray) type).getData());
-        } else if(type instanceof NBTIntArray) {
-            return new NBTTagIntArray(((NBTIntArray) type).getData());
-        } else if(type instanceof NBTList) {
-            return transformAPIList((NBTList) type);
-        } else if(type instanceof NBTCompound) {
-            return transformAPICompound((NBTCompound) type);
-        } else return null;
+        return dispatcher.toForeign(type);
     }
 
     @NotNull
     private NBTList transformNMSList(@NotNull final NBTTagList list) {
-        final NBTList tag = new NBTList();
-        for(int i = 0; i < list.size(); i++) {
-            final NBTType nbt = transformNMSBase(list.h(i));
-            if(nbt != null) tag.add(nbt);
-        }
-        return tag;
+        return dispatcher.listFromForeign(list.size(), list::h);
     }
 
     @NotNull
@@ -86,37 +72,36 @@ public final class SimpleNBTRegistry extends NBTRegistry {
 
     @Nullable
     private NBTType transformNMSBase(@NotNull final NBTBase base) {
-        if(base instanceof NBTTagByte) {
-            return new NBTByte(((NBTTagByte) base).g());
-        } else if(base instanceof NBTTagShort) {
-            return new NBTShort(((NBTTagShort) base).f());
-        } else if(base instanceof NBTTagInt) {
-            return new NBTInt(((NBTTagInt) base).e());
-        } else if(base instanceof NBTTagLong) {
-            return new NBTLong(((NBTTagLong) base).d());
-        } else if(base instanceof NBTTagFloat) {
-            return new NBTFloat(((NBTTagFloat) base).i());
-        } else if(base instanceof NBTTagDouble) {
-            return new NBTDouble(((NBTTagDouble) base).asDouble());
-        } else if(base instanceof NBTTagString) {
-            return new NBTString(((NBTTagString) base).c_());
-        } else if(base instanceof NBTTagByteArray) {
-            return new NBTByteArray(((NBTTagByteArray) base).c());
-        } else if(base instanceof NBTTagIntArray) {
-            return new NBTIntArray(((NBTTagIntArray) base).d());
-        } else if(base instanceof NBTTagList) {
-            return transformNMSList((NBTTagList) base);
-        } else if(base instanceof NBTTagCompound) {
-            return transformNMSCompound((NBTTagCompound) base);
-        } else return null;
+        return dispatcher.fromForeign(base);
+    }
+
+    @Override
+    protected @Nullable Object getTag(final @NotNull ItemStack item) {
+        final net.minecraft.server.v1_11_R1.ItemStack handle = item instanceof CraftItemStack ? (net.minecraft.server.v1_11_R1.ItemStack) getHandle(item) : CraftItemStack.asNMSCopy(item);
+        if(handle == null) return null;
+        return handle.hasTag() ? handle.getTag() : null;
+    }
+
+    @Override
+    protected @Nullable Object getTag(final @NotNull Object compound, final @NotNull String key) {
+        return compound instanceof NBTTagCompound ? ((NBTTagCompound) compound).get(key) : null;
+    }
+
+    @Override
+    protected @Nullable NBTType toAPIType(final @NotNull Object tag) {
+        return transformNMSBase((NBTBase) tag);
+    }
+
+    @Override
+    protected @Nullable Object toNMSType(final @NotNull NBTType tag) {
+        return transformAPIBase(tag);
     }
 
     @Override
     public @Nullable NBTCompound getCompound(final @NotNull ItemStack item) {
-        final net.minecraft.server.v1_11_R1.ItemStack nmsCopy = CraftItemStack.asNMSCopy(item);
-        if(nmsCopy.hasTag()) {
-            assert nmsCopy.getTag() != null;
-            return transformNMSCompound(nmsCopy.getTag());
+        final Object compound = getTag(item);
+        if(compound != null) {
+            return transformNMSCompound((NBTTagCompound) compound);
         } else return null;
     }
 
@@ -128,4 +113,21 @@ public final class SimpleNBTRegistry extends NBTRegistry {
         return CraftItemStack.asBukkitCopy(nmsCopy);
     }
 
+    @Override
+    public void writeCompound(final @NotNull ItemStack item, final @Nullable NBTCompound compound) {
+        final NBTTagCompound tag = compound != null ? transformAPICompound(compound) : null;
+        if(item instanceof CraftItemStack) {
+            final net.minecraft.server.v1_11_R1.ItemStack handle = (net.minecraft.server.v1_11_R1.ItemStack) getHandle(item);
+            if(handle != null) {
+                handle.setTag(tag);
+                return;
+            }
+        }
+
+        final net.minecraft.server.v1_11_R1.ItemStack nmsCopy = CraftItemStack.asNMSCopy(item);
+        if(nmsCopy == null) return;
+        nmsCopy.setTag(tag);
+        item.setItemMeta(CraftItemStack.getItemMeta(nmsCopy));
+    }
+
 }
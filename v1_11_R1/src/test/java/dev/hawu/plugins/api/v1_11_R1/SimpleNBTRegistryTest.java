@@ -0,0 +1,20 @@
+package dev.hawu.plugins.api.v1_11_R1;
+
+import dev.hawu.plugins.api.nbt.NBTRegistry;
+import dev.hawu.plugins.api.nbt.NBTRegistryConformanceTest;
+import org.jetbrains.annotations.NotNull;
+
+@SuppressWarnings("deprecation")
+public final class SimpleNBTRegistryTest extends NBTRegistryConformanceTest {
+
+    @Override
+    protected @NotNull NBTRegistry createRegistry() {
+        return new SimpleNBTRegistry();
+    }
+
+    @Override
+    protected boolean supportsLongArrays() {
+        return false;
+    }
+
+}